@@ -0,0 +1,57 @@
+package com.ada.holiday_party_planning.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Habilita o processamento assíncrono e as tarefas agendadas ({@code @Scheduled}) e define os executores usados pelos métodos {@code @Async}.
+ */
+
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+
+    /**
+     * Executor das traduções divertidas. O pool e a fila são limitados para que um provedor
+     * lento não acumule tarefas sem fim; quando a fila enche, a submissão é rejeitada.
+     */
+
+    @Bean(name = "translationExecutor")
+    public TaskExecutor translationExecutor(@Value("${translation.async.pool-size:4}") int poolSize,
+                                            @Value("${translation.async.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("translation-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Executor do hashing de senhas com BCrypt, dimensionado pelo número de CPUs. A fila é curta:
+     * quando enche, a submissão é rejeitada e a requisição recebe 429 em vez de ocupar as
+     * threads do Tomcat esperando CPU.
+     */
+
+    @Bean(name = "passwordHashingExecutor")
+    public ThreadPoolTaskExecutor passwordHashingExecutor(@Value("${security.bcrypt.pool-size:0}") int poolSize,
+                                                          @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("bcrypt-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,53 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.Optional;
+
+/**
+ * Provedor de autenticação HTTP Basic que consulta o {@link VerifiedCredentialsCache} antes de
+ * delegar ao provedor com BCrypt. Somente autenticações bem-sucedidas são guardadas.
+ */
+
+public class CachingAuthenticationProvider implements AuthenticationProvider {
+
+    private final AuthenticationProvider delegate;
+    private final VerifiedCredentialsCache verifiedCredentialsCache;
+
+    public CachingAuthenticationProvider(AuthenticationProvider delegate,
+                                         VerifiedCredentialsCache verifiedCredentialsCache) {
+        this.delegate = delegate;
+        this.verifiedCredentialsCache = verifiedCredentialsCache;
+    }
+
+    @Override
+    public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String username = authentication.getName();
+        Object credentials = authentication.getCredentials();
+        if (username == null || !(credentials instanceof String password)) {
+            return delegate.authenticate(authentication);
+        }
+
+        Optional<UserDetails> cached = verifiedCredentialsCache.get(username, password);
+        if (cached.isPresent()) {
+            UserDetails user = cached.get();
+            return UsernamePasswordAuthenticationToken.authenticated(user, null, user.getAuthorities());
+        }
+
+        Authentication result = delegate.authenticate(authentication);
+        if (result != null && result.getPrincipal() instanceof UserDetails user) {
+            verifiedCredentialsCache.put(username, password, user);
+        }
+        return result;
+    }
+
+    @Override
+    public boolean supports(Class<?> authentication) {
+        return delegate.supports(authentication);
+    }
+}
@@ -0,0 +1,72 @@
+package com.ada.holiday_party_planning.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/**
+ * Dimensionamento do pool de conexões do Hikari.
+ * <p>
+ * Quando {@code spring.datasource.hikari.maximum-pool-size} não é informado, o tamanho do pool é
+ * calculado a partir dos núcleos da máquina e do limite de conexões do banco: o menor entre
+ * {@code núcleos * 2 + 1} e a parte de cada nó nas conexões do banco
+ * ({@code (db.pool.max-connections - db.pool.reserved-connections) / db.pool.instances}). Como
+ * nenhuma transação espera por SMTP ou tradução, uma conexão fica em uso só durante as consultas,
+ * e um pool pequeno e fixo atende mais requisições do que um grande disputando CPU e locks no banco.
+ * <p>
+ * As métricas do pool (hikaricp.connections.active, pending, usage, acquire e timeout) são
+ * publicadas pelo actuator.
+ */
+
+@Configuration
+public class DataSourcePoolConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(DataSourcePoolConfig.class);
+
+    @Bean
+    public static BeanPostProcessor hikariPoolSizing(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                Binder binder = Binder.get(environment);
+                if (binder.bind("spring.datasource.hikari.maximum-pool-size", Integer.class).isBound()) {
+                    return bean;
+                }
+                int cores = environment.getProperty("db.pool.cores", Integer.class,
+                        Runtime.getRuntime().availableProcessors());
+                int maxConnections = environment.getProperty("db.pool.max-connections", Integer.class, 100);
+                int reserved = environment.getProperty("db.pool.reserved-connections", Integer.class, 10);
+                int instances = environment.getProperty("db.pool.instances", Integer.class, 1);
+                int size = maximumPoolSize(cores, maxConnections, reserved, instances);
+                hikari.setMaximumPoolSize(size);
+                log.info("Hikari pool '{}' sized to {} connections ({} cores, {} database connections, {} instances)",
+                        hikari.getPoolName(), size, cores, maxConnections, instances);
+                return bean;
+            }
+        };
+    }
+
+    /**
+     * Calcula o tamanho máximo do pool.
+     *
+     * @param cores Núcleos disponíveis para a aplicação.
+     * @param maxConnections Limite de conexões do banco (max_connections no Postgres).
+     * @param reserved Conexões do banco reservadas para administração e migrações.
+     * @param instances Quantidade de nós da aplicação que dividem o banco.
+     * @return Tamanho do pool, no mínimo 1.
+     */
+
+    public static int maximumPoolSize(int cores, int maxConnections, int reserved, int instances) {
+        int byCores = Math.max(1, cores) * 2 + 1;
+        int byDatabase = Math.max(0, maxConnections - Math.max(0, reserved)) / Math.max(1, instances);
+        return Math.max(1, Math.min(byCores, byDatabase));
+    }
+}
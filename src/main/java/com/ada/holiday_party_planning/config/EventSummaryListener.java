@@ -0,0 +1,230 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.EventSummary;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventSource;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Mantém a tabela event_summary ({@link EventSummary}) quando {@code events.summary.materialized}
+ * está ativo.
+ * <p>
+ * Escuta as inserções, alterações e exclusões de eventos, itens e convidados feitas pelo Hibernate
+ * e acumula as diferenças por evento durante a transação. Antes do commit, cria as linhas dos
+ * eventos novos e aplica as diferenças com um único "update ... set x = x + ?" por evento, na mesma
+ * transação das gravações. Exclusões em massa por JPQL não passam por aqui: a linha do evento é
+ * excluída pelo banco junto com ele (on delete cascade).
+ */
+
+@Component
+@ConditionalOnProperty(name = "events.summary.materialized", havingValue = "true")
+public class EventSummaryListener implements PostInsertEventListener, PostUpdateEventListener,
+        PostDeleteEventListener {
+
+    private static final Logger log = LoggerFactory.getLogger(EventSummaryListener.class);
+
+    private static final String INSERT = "insert into " + EventSummary.TABLE + " (event_id, item_count, total_cost, "
+            + "pending_guests, confirmed_guests, declined_guests) values (?, 0, 0, 0, 0, 0)";
+    private static final String UPDATE = "update " + EventSummary.TABLE + " set item_count = item_count + ?, "
+            + "total_cost = total_cost + ?, pending_guests = pending_guests + ?, "
+            + "confirmed_guests = confirmed_guests + ?, declined_guests = declined_guests + ? where event_id = ?";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<EventSource, Changes> pending = new ConcurrentHashMap<>();
+
+    public EventSummaryListener(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_INSERT, this);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        Object entity = event.getEntity();
+        if (entity instanceof Event created) {
+            changes(event.getSession()).created.add(created.getEventId());
+        } else if (entity instanceof Item item) {
+            changes(event.getSession()).item(eventId(item.getEvent()), 1, item.getQuantity() * item.getValue());
+        } else if (entity instanceof Guest guest) {
+            changes(event.getSession()).guest(eventId(guest.getEvent()), guest.getStatus(), 1);
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (!(event.getEntity() instanceof Item) && !(event.getEntity() instanceof Guest)) {
+            return;
+        }
+        if (event.getOldState() == null) {
+            log.warn("Estado anterior de {} indisponível; event_summary não foi atualizado", event.getId());
+            return;
+        }
+        remove(event.getSession(), event.getPersister(), event.getOldState());
+        add(event.getSession(), event.getPersister(), event.getState());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getEntity() instanceof Item || event.getEntity() instanceof Guest) {
+            remove(event.getSession(), event.getPersister(), event.getDeletedState());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    private void add(EventSource session, EntityPersister persister, Object[] state) {
+        apply(session, persister, state, 1);
+    }
+
+    private void remove(EventSource session, EntityPersister persister, Object[] state) {
+        apply(session, persister, state, -1);
+    }
+
+    private void apply(EventSource session, EntityPersister persister, Object[] state, int sign) {
+        UUID eventId = eventId((Event) value(persister, state, "event"));
+        if (persister.getMappedClass() == Item.class) {
+            int quantity = (Integer) value(persister, state, "quantity");
+            double value = (Double) value(persister, state, "value");
+            changes(session).item(eventId, sign, sign * quantity * value);
+        } else {
+            changes(session).guest(eventId, (GuestStatusEnum) value(persister, state, "status"), sign);
+        }
+    }
+
+    private Changes changes(EventSource session) {
+        return pending.computeIfAbsent(session, key -> {
+            Changes changes = new Changes();
+            key.getActionQueue().registerProcess(s -> flush(key));
+            key.getActionQueue().registerProcess((success, s) -> pending.remove(key));
+            return changes;
+        });
+    }
+
+    private void flush(EventSource session) {
+        Changes changes = pending.remove(session);
+        if (changes == null || changes.isEmpty()) {
+            return;
+        }
+        session.doWork(connection -> {
+            if (!changes.created.isEmpty()) {
+                try (PreparedStatement insert = connection.prepareStatement(INSERT)) {
+                    for (UUID eventId : changes.created) {
+                        insert.setObject(1, eventId);
+                        insert.addBatch();
+                    }
+                    insert.executeBatch();
+                }
+            }
+            try (PreparedStatement update = connection.prepareStatement(UPDATE)) {
+                for (Map.Entry<UUID, Delta> entry : changes.deltas.entrySet()) {
+                    Delta delta = entry.getValue();
+                    if (delta.isZero()) {
+                        continue;
+                    }
+                    update.setLong(1, delta.items);
+                    update.setDouble(2, delta.cost);
+                    update.setLong(3, delta.guests[GuestStatusEnum.PENDING.ordinal()]);
+                    update.setLong(4, delta.guests[GuestStatusEnum.CONFIRMED.ordinal()]);
+                    update.setLong(5, delta.guests[GuestStatusEnum.DECLINED.ordinal()]);
+                    update.setObject(6, entry.getKey());
+                    update.addBatch();
+                }
+                update.executeBatch();
+            }
+        });
+    }
+
+    private static Object value(EntityPersister persister, Object[] state, String property) {
+        String[] names = persister.getPropertyNames();
+        for (int i = 0; i < names.length; i++) {
+            if (names[i].equals(property)) {
+                return state[i];
+            }
+        }
+        throw new IllegalStateException(persister.getEntityName() + " não tem a propriedade " + property);
+    }
+
+    private static UUID eventId(Event event) {
+        if (event instanceof HibernateProxy proxy) {
+            return (UUID) proxy.getHibernateLazyInitializer().getInternalIdentifier();
+        }
+        return event == null ? null : event.getEventId();
+    }
+
+    /**
+     * Diferenças acumuladas em uma transação.
+     */
+
+    private static final class Changes {
+
+        private final Set<UUID> created = new LinkedHashSet<>();
+        private final Map<UUID, Delta> deltas = new LinkedHashMap<>();
+
+        private void item(UUID eventId, int count, double cost) {
+            if (eventId != null) {
+                Delta delta = deltas.computeIfAbsent(eventId, id -> new Delta());
+                delta.items += count;
+                delta.cost += cost;
+            }
+        }
+
+        private void guest(UUID eventId, GuestStatusEnum status, int count) {
+            if (eventId != null && status != null) {
+                deltas.computeIfAbsent(eventId, id -> new Delta()).guests[status.ordinal()] += count;
+            }
+        }
+
+        private boolean isEmpty() {
+            return created.isEmpty() && deltas.values().stream().allMatch(Delta::isZero);
+        }
+    }
+
+    private static final class Delta {
+
+        private long items;
+        private double cost;
+        private final long[] guests = new long[GuestStatusEnum.values().length];
+
+        private boolean isZero() {
+            return items == 0 && cost == 0 && Arrays.stream(guests).allMatch(count -> count == 0);
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.exceptions.PasswordHashingBusyException;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import java.io.IOException;
+
+/**
+ * Filtro que converte a {@link PasswordHashingBusyException} lançada pelo HTTP Basic na mesma
+ * resposta 429 dos controladores.
+ * <p>
+ * A autenticação roda antes do DispatcherServlet, fora do alcance do @ControllerAdvice; por isso
+ * a exceção é repassada ao {@link HandlerExceptionResolver} do Spring MVC.
+ */
+
+public class PasswordHashingBusyFilter extends OncePerRequestFilter {
+
+    private final HandlerExceptionResolver handlerExceptionResolver;
+
+    public PasswordHashingBusyFilter(HandlerExceptionResolver handlerExceptionResolver) {
+        this.handlerExceptionResolver = handlerExceptionResolver;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try {
+            chain.doFilter(request, response);
+        } catch (PasswordHashingBusyException e) {
+            if (response.isCommitted() || handlerExceptionResolver.resolveException(request, response, null, e) == null) {
+                throw e;
+            }
+        }
+    }
+}
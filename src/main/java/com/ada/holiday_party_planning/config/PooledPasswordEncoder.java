@@ -0,0 +1,35 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.service.PasswordHashingService;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+ * Adaptador que expõe o {@link PasswordHashingService} como {@link PasswordEncoder}.
+ * <p>
+ * Usado pelo provedor HTTP Basic para que a verificação de senha em um cache miss rode no pool
+ * limitado, com as mesmas métricas e a mesma rejeição (429) do login e do cadastro.
+ */
+
+public class PooledPasswordEncoder implements PasswordEncoder {
+
+    private final PasswordHashingService passwordHashingService;
+
+    public PooledPasswordEncoder(PasswordHashingService passwordHashingService) {
+        this.passwordHashingService = passwordHashingService;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return passwordHashingService.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return passwordHashingService.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordHashingService.upgradeEncoding(encodedPassword);
+    }
+}
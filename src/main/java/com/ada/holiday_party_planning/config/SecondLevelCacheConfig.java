@@ -0,0 +1,162 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Cache de segundo nível do Hibernate para PartyOwner, Event, Guest e Item (e as coleções
+ * Event.guests e Event.items), guardado em memória com o Caffeine via JCache.
+ * <p>
+ * Cada região tem tamanho máximo e tempo de vida próprios, configuráveis com
+ * {@code cache.second-level.<região>.max-size} e {@code cache.second-level.<região>.ttl-seconds}.
+ * As entidades usam READ_WRITE, de modo que toda gravação feita pelo Hibernate atualiza o cache na
+ * mesma transação; as coleções são descartadas quando um convidado ou item muda de evento, é criado
+ * ou excluído ({@code hibernate.cache.auto_evict_collection_cache}), e as exclusões e atualizações em
+ * massa por JPQL descartam as regiões afetadas. O cache é desligado com
+ * {@code cache.second-level.enabled=false}; como o Hibernate liga o cache sozinho quando encontra
+ * um provedor JCache no classpath, a opção desligada é aplicada explicitamente.
+ * <p>
+ * Métricas por região: "hibernate.cache.requests" (tag "result" hit/miss), "hibernate.cache.puts"
+ * e "hibernate.cache.hit.ratio".
+ */
+
+@Configuration
+public class SecondLevelCacheConfig {
+
+    private static final String PREFIX = "cache.second-level.";
+    private static final String ENABLED = PREFIX + "enabled";
+
+    /**
+     * Regiões com o tamanho máximo e o tempo de vida padrão. A região de timestamps não pode
+     * perder entradas antes das consultas que dependem dela, por isso não tem limite.
+     */
+
+    static final Map<String, Limits> REGIONS = new LinkedHashMap<>();
+
+    static {
+        REGIONS.put(PartyOwner.CACHE_REGION, new Limits(10_000, Duration.ofMinutes(30)));
+        REGIONS.put(Event.CACHE_REGION, new Limits(10_000, Duration.ofMinutes(10)));
+        REGIONS.put(Guest.CACHE_REGION, new Limits(50_000, Duration.ofMinutes(10)));
+        REGIONS.put(Item.CACHE_REGION, new Limits(50_000, Duration.ofMinutes(10)));
+        REGIONS.put(Event.GUESTS_CACHE_REGION, new Limits(10_000, Duration.ofMinutes(10)));
+        REGIONS.put(Event.ITEMS_CACHE_REGION, new Limits(10_000, Duration.ofMinutes(10)));
+        REGIONS.put(RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME, new Limits(10_000, Duration.ofMinutes(5)));
+        REGIONS.put(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, null);
+    }
+
+    /**
+     * Gerenciador JCache exclusivo deste contexto, com uma cache por região.
+     */
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public CacheManager hibernateCacheManager(Environment environment) {
+        CacheManager cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName())
+                .getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        REGIONS.forEach((region, defaults) -> {
+            CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+            if (defaults != null) {
+                long maxSize = environment.getProperty(PREFIX + region + ".max-size", Long.class, defaults.maxSize());
+                long ttlSeconds = environment.getProperty(PREFIX + region + ".ttl-seconds", Long.class,
+                        defaults.ttl().toSeconds());
+                configuration.setMaximumSize(OptionalLong.of(maxSize));
+                configuration.setExpireAfterWrite(OptionalLong.of(Duration.ofSeconds(ttlSeconds).toNanos()));
+            }
+            cacheManager.createCache(region, configuration);
+        });
+        return cacheManager;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer secondLevelCacheProperties(CacheManager hibernateCacheManager) {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, true);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, true);
+            properties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+            properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+            properties.put(ConfigSettings.MISSING_CACHE_STRATEGY, "fail");
+            properties.put(AvailableSettings.AUTO_EVICT_COLLECTION_CACHE, true);
+            properties.put(AvailableSettings.GENERATE_STATISTICS, true);
+            properties.putIfAbsent(AvailableSettings.LOG_SESSION_METRICS, false);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "false")
+    public HibernatePropertiesCustomizer secondLevelCacheDisabled() {
+        return properties -> {
+            properties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, false);
+            properties.put(AvailableSettings.USE_QUERY_CACHE, false);
+        };
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = ENABLED, havingValue = "true", matchIfMissing = true)
+    public MeterBinder secondLevelCacheMetrics(EntityManagerFactory entityManagerFactory) {
+        return registry -> {
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            for (String region : REGIONS.keySet()) {
+                if (region.equals(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME)) {
+                    continue;
+                }
+                FunctionCounter.builder("hibernate.cache.requests", statistics,
+                                stat(region, CacheRegionStatistics::getHitCount))
+                        .tag("region", region).tag("result", "hit").register(registry);
+                FunctionCounter.builder("hibernate.cache.requests", statistics,
+                                stat(region, CacheRegionStatistics::getMissCount))
+                        .tag("region", region).tag("result", "miss").register(registry);
+                FunctionCounter.builder("hibernate.cache.puts", statistics,
+                                stat(region, CacheRegionStatistics::getPutCount))
+                        .tag("region", region).register(registry);
+                Gauge.builder("hibernate.cache.hit.ratio", statistics, stat(region, SecondLevelCacheConfig::hitRatio))
+                        .tag("region", region).register(registry);
+            }
+        };
+    }
+
+    private static ToDoubleFunction<Statistics> stat(String region, ToDoubleFunction<CacheRegionStatistics> value) {
+        return statistics -> {
+            CacheRegionStatistics regionStatistics = statistics.getCacheRegionStatistics(region);
+            return regionStatistics == null ? 0 : value.applyAsDouble(regionStatistics);
+        };
+    }
+
+    private static double hitRatio(CacheRegionStatistics statistics) {
+        long requests = statistics.getHitCount() + statistics.getMissCount();
+        return requests == 0 ? 0 : (double) statistics.getHitCount() / requests;
+    }
+
+    record Limits(long maxSize, Duration ttl) {
+    }
+}
@@ -1,51 +1,82 @@
 package com.ada.holiday_party_planning.config;
 
 import com.ada.holiday_party_planning.service.CustomUserDetailsService;
+import com.ada.holiday_party_planning.service.PasswordHashingService;
+import com.ada.holiday_party_planning.service.TokenService;
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
+import org.springframework.security.authentication.AuthenticationProvider;
 import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
 
 @Configuration
 @EnableWebSecurity
 public class SecurityConfig {
 
     private final CustomUserDetailsService customUserDetailsService;
+    private final TokenService tokenService;
+    private final VerifiedCredentialsCache verifiedCredentialsCache;
 
-    public SecurityConfig(CustomUserDetailsService customUserDetailsService) {
+    public SecurityConfig(CustomUserDetailsService customUserDetailsService, TokenService tokenService,
+                          VerifiedCredentialsCache verifiedCredentialsCache) {
         this.customUserDetailsService = customUserDetailsService;
+        this.tokenService = tokenService;
+        this.verifiedCredentialsCache = verifiedCredentialsCache;
     }
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http,
+                                                   @Qualifier("handlerExceptionResolver")
+                                                   HandlerExceptionResolver handlerExceptionResolver) throws Exception {
         return http
                 .httpBasic(Customizer.withDefaults())
                 .csrf(AbstractHttpConfigurer -> AbstractHttpConfigurer.disable())
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .addFilterBefore(new TokenAuthenticationFilter(tokenService), BasicAuthenticationFilter.class)
+                .addFilterBefore(new PasswordHashingBusyFilter(handlerExceptionResolver), BasicAuthenticationFilter.class)
                 .authorizeHttpRequests(authorize -> {
                     authorize
                             .requestMatchers(HttpMethod.POST, "/party-owners/register").permitAll()
+                            .requestMatchers(HttpMethod.POST, "/party-owners/login").permitAll()
                             .anyRequest().authenticated();
                 })
                 .build();
     }
 
+    /**
+     * Codificador de senhas compartilhado. Hashes com custo diferente de security.bcrypt.strength
+     * são refeitos no próximo login bem-sucedido.
+     */
+
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${security.bcrypt.strength:10}") int strength) {
+        return new BCryptPasswordEncoder(strength);
     }
 
+    /**
+     * Provedor do HTTP Basic. Em um cache miss, o BCrypt roda no pool do
+     * {@link PasswordHashingService}, e não na thread da requisição.
+     */
+
     @Bean
-    public DaoAuthenticationProvider authenticationProvider() {
+    public AuthenticationProvider authenticationProvider(PasswordHashingService passwordHashingService) {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(customUserDetailsService);
-        authProvider.setPasswordEncoder(passwordEncoder());
-        return authProvider;
+        authProvider.setUserDetailsPasswordService(customUserDetailsService);
+        authProvider.setPasswordEncoder(new PooledPasswordEncoder(passwordHashingService));
+        return new CachingAuthenticationProvider(authProvider, verifiedCredentialsCache);
     }
 
 
@@ -0,0 +1,59 @@
+package com.ada.holiday_party_planning.config;
+
+import com.ada.holiday_party_planning.util.ConnectionLimitingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Ajustes do modo de threads virtuais ({@code spring.threads.virtual.enabled=true}, perfil
+ * "virtual-threads"), em que o Tomcat atende cada requisição em uma thread virtual.
+ * <p>
+ * O pool do Hikari é envolvido por um {@link ConnectionLimitingDataSource} do mesmo tamanho, para
+ * que um pico de requisições espere em uma fila limitada e seja recusado com 503 em vez de
+ * acumular threads esperando conexão. A fila e a espera máxima são configuradas com
+ * {@code jdbc.limiter.max-waiting} e {@code jdbc.limiter.acquire-timeout-ms} (padrão: o
+ * connectionTimeout do Hikari).
+ */
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiter(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof HikariDataSource hikari)) {
+                    return bean;
+                }
+                int maxWaiting = environment.getProperty("jdbc.limiter.max-waiting", Integer.class, 200);
+                long acquireTimeoutMs = environment.getProperty("jdbc.limiter.acquire-timeout-ms", Long.class,
+                        hikari.getConnectionTimeout());
+                return new ConnectionLimitingDataSource(hikari, hikari.getMaximumPoolSize(), maxWaiting,
+                        acquireTimeoutMs);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder connectionLimiterMetrics(DataSource dataSource) {
+        return registry -> {
+            if (dataSource instanceof ConnectionLimitingDataSource limiter) {
+                Gauge.builder("jdbc.limiter.waiting", limiter, ConnectionLimitingDataSource::getWaiting)
+                        .register(registry);
+                Gauge.builder("jdbc.limiter.available", limiter, ConnectionLimitingDataSource::getAvailable)
+                        .register(registry);
+            }
+        };
+    }
+}
@@ -4,12 +4,22 @@ import com.ada.holiday_party_planning.dto.*;
 import com.ada.holiday_party_planning.model.Event;
 import com.ada.holiday_party_planning.service.EmailService;
 import com.ada.holiday_party_planning.service.EventService;
+import com.ada.holiday_party_planning.service.EventSummaryService;
+import com.ada.holiday_party_planning.service.GuestImportService;
+import com.ada.holiday_party_planning.util.NdjsonResponseWriter;
 import jakarta.validation.Valid;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,6 +38,15 @@ public class EventController {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+
+    @Autowired
+    private GuestImportService guestImportService;
+
+    @Autowired
+    private EventSummaryService eventSummaryService;
+
     /**
      * Construtor que injeta o serviço de eventos.
      *
@@ -35,17 +54,35 @@ public class EventController {
      */
 
     /**
-     * Obtém todos os eventos cadastrados.
+     * Obtém os eventos cadastrados. Sem parâmetros, retorna a lista completa; com "after" ou
+     * "limit", retorna uma página ordenada pelo ID e o cursor da próxima página.
      *
-     * @return Lista de todos os eventos no sistema.
+     * @param after ID do último evento da página anterior.
+     * @param limit Quantidade máxima de eventos da página.
+     * @return Lista de todos os eventos no sistema, ou a página solicitada.
      */
 
     @GetMapping("/all")
-    public ResponseEntity<List<Event>> findAllEvent() {
-        List<Event> events = eventService.listAllEvent();
+    public ResponseEntity<?> findAllEvent(@RequestParam(required = false) UUID after,
+                                          @RequestParam(required = false) Integer limit) {
+        if (after != null || limit != null) {
+            return ResponseEntity.ok(eventService.listEventsPage(after, limit));
+        }
+        List<EventDTO> events = eventService.listAllEvent();
         return ResponseEntity.ok(events);
     }
 
+    /**
+     * Transmite todos os eventos em NDJSON, um evento por linha, lidos do banco por cursor.
+     *
+     * @return Corpo da resposta em streaming.
+     */
+
+    @GetMapping(value = "/all/stream", produces = NdjsonResponseWriter.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllEvents() {
+        return ResponseEntity.ok(ndjsonResponseWriter.<EventDTO>stream(eventService::streamAllEvents));
+    }
+
     /**
      * Lista os eventos de um proprietário específico.
      *
@@ -100,10 +137,67 @@ public class EventController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * Enfileira o envio dos convites do evento para todos os convidados.
+     *
+     * @param eventId Identificador do evento.
+     * @return Resposta HTTP com status 202 Accepted e o job de envio criado, ou 204 No Content se o
+     * evento não tiver convidados.
+     */
+
     @PostMapping("/{eventId}/send-invites")
-    public ResponseEntity<Void> sendInvites(@PathVariable UUID eventId) {
-        eventService.sendInvites(eventId);
-        return ResponseEntity.ok().build();
+    public ResponseEntity<InviteJobDTO> sendInvites(@PathVariable UUID eventId) {
+        return eventService.sendInvites(eventId)
+                .map(job -> ResponseEntity.status(HttpStatus.ACCEPTED).body(job))
+                .orElseGet(() -> ResponseEntity.noContent().build());
+    }
+
+    /**
+     * Obtém o resumo do evento, calculado no banco: quantidade de itens, custo total e
+     * quantidade de convidados por status.
+     *
+     * @param eventId Identificador do evento.
+     * @return Resumo do evento.
+     */
+
+    @GetMapping("/{eventId}/summary")
+    public ResponseEntity<EventSummaryDTO> summary(@PathVariable UUID eventId) {
+        return ResponseEntity.ok(eventSummaryService.summarize(eventId));
+    }
+
+    /**
+     * Consulta o andamento de um envio de convites.
+     *
+     * @param jobId Identificador do job de envio.
+     * @return Status do envio e quantidade de convites enviados e com falha.
+     */
+
+    @GetMapping("/invites/{jobId}")
+    public ResponseEntity<InviteJobDTO> inviteJobStatus(@PathVariable UUID jobId) {
+        return ResponseEntity.ok(eventService.inviteJobStatus(jobId));
+    }
+
+    /**
+     * Importa uma lista de convidados para o evento a partir de um arquivo CSV (text/csv) ou
+     * NDJSON (application/x-ndjson), lido em streaming.
+     *
+     * @param eventId Identificador do evento.
+     * @param contentType Tipo do arquivo enviado.
+     * @param body Conteúdo do arquivo.
+     * @return Relatório com as quantidades importadas e os erros por linha.
+     */
+
+    @PostMapping(value = "/{eventId}/guests/bulk", consumes = {"text/csv", NdjsonResponseWriter.APPLICATION_NDJSON})
+    public ResponseEntity<GuestImportReportDTO> importGuests(@PathVariable UUID eventId,
+                                                             @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+                                                             InputStream body) {
+        GuestImportService.Format format = contentType.isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                ? GuestImportService.Format.CSV
+                : GuestImportService.Format.NDJSON;
+        Charset charset = contentType.getCharset() != null ? contentType.getCharset() : StandardCharsets.UTF_8;
+
+        GuestImportReportDTO report = guestImportService.importGuests(eventId, format, new InputStreamReader(body, charset));
+        return ResponseEntity.ok(report);
     }
 
 }
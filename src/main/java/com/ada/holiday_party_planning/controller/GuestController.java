@@ -5,10 +5,12 @@ import com.ada.holiday_party_planning.dto.GuestDTO;
 import com.ada.holiday_party_planning.mappers.GuestMapper;
 import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.service.GuestService;
+import com.ada.holiday_party_planning.util.NdjsonResponseWriter;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +28,9 @@ public class GuestController {
     @Autowired
     private GuestService guestService;
 
+    @Autowired
+    private NdjsonResponseWriter ndjsonResponseWriter;
+
     /**
      * Retorna um convidado específico com base no ID.
      *
@@ -46,13 +51,21 @@ public class GuestController {
     }
 
     /**
-     * Retorna todos os convidados cadastrados.
+     * Retorna os convidados cadastrados. Com "after" ou "limit", retorna uma página ordenada
+     * pelo ID e o cursor da próxima página.
      *
-     * @return Lista de todos os convidados ou mensagem de erro caso não haja dados.
+     * @param after ID do último convidado da página anterior.
+     * @param limit Quantidade máxima de convidados da página.
+     * @return Lista de todos os convidados ou mensagem de erro caso não haja dados, ou a página solicitada.
      */
 
     @GetMapping("/all")
-    public ResponseEntity<?> getAllGuests() {
+    public ResponseEntity<?> getAllGuests(@RequestParam(required = false) UUID after,
+                                          @RequestParam(required = false) Integer limit) {
+
+        if (after != null || limit != null) {
+            return ResponseEntity.ok(guestService.getGuestsPage(after, limit));
+        }
 
         List<GuestDTO> allGuests = guestService.getAllGuests();
 
@@ -63,6 +76,17 @@ public class GuestController {
         return ResponseEntity.ok(allGuests);
     }
 
+    /**
+     * Transmite todos os convidados em NDJSON, um convidado por linha, lidos do banco por cursor.
+     *
+     * @return Corpo da resposta em streaming.
+     */
+
+    @GetMapping(value = "/all/stream", produces = NdjsonResponseWriter.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllGuests() {
+        return ResponseEntity.ok(ndjsonResponseWriter.<GuestDTO>stream(guestService::streamAllGuests));
+    }
+
     /**
      * Cria um novo convidado.
      *
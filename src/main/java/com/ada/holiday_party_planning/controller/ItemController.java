@@ -1,5 +1,7 @@
 package com.ada.holiday_party_planning.controller;
 
+import com.ada.holiday_party_planning.dto.CursorPageDTO;
+import com.ada.holiday_party_planning.dto.ItemAssignmentDTO;
 import com.ada.holiday_party_planning.dto.ItemDTO;
 import com.ada.holiday_party_planning.mappers.ItemMapper;
 import com.ada.holiday_party_planning.model.Guest;
@@ -8,6 +10,8 @@ import com.ada.holiday_party_planning.repository.GuestRepository;
 import com.ada.holiday_party_planning.repository.ItemRepository;
 import com.ada.holiday_party_planning.service.ItemService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -44,15 +48,21 @@ public class ItemController {
     }
 
     /**
-     * Lista todos os itens associados a um evento específico.
+     * Lista os itens associados a um evento específico. A paginação é opcional:
+     * sem os parâmetros page e size, todos os itens do evento são retornados.
      *
      * @param eventId ID do evento para o qual os itens serão listados.
+     * @param page Número da página, começando em 0.
+     * @param size Quantidade de itens por página; se omitido junto com page, usa
+     *             {@link CursorPageDTO#DEFAULT_LIMIT}.
      * @return Lista de itens associados ao evento especificado.
      */
 
     @GetMapping("/{eventId}/list")
-    public ResponseEntity<List<ItemDTO>> findByEvent(@PathVariable UUID eventId) {
-        return ResponseEntity.ok(ItemMapper.toDTOList(itemService.itemsByEventId(eventId)));
+    public ResponseEntity<List<ItemDTO>> findByEvent(@PathVariable UUID eventId,
+                                                     @RequestParam(required = false) Integer page,
+                                                     @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(itemService.itemsByEventId(eventId, pageable(page, size)));
     }
 
     /**
@@ -70,6 +80,19 @@ public class ItemController {
                         ItemMapper.toModel(item), eventId)));
     }
 
+    /**
+     * Cria vários itens para um evento em uma única transação, com inserções em lote.
+     *
+     * @param eventId ID do evento ao qual os itens serão associados.
+     * @param items Dados dos itens a serem criados.
+     * @return Itens criados, com os IDs gerados.
+     */
+
+    @PostMapping("/{eventId}/create/bulk")
+    public ResponseEntity<List<ItemDTO>> createItems(@PathVariable UUID eventId, @RequestBody List<ItemDTO> items) {
+        return new ResponseEntity<>(itemService.createItems(items, eventId), HttpStatus.CREATED);
+    }
+
     /**
      * Atualiza um item associado a um evento específico.
      *
@@ -97,18 +120,27 @@ public class ItemController {
     }
 
     //
-    //Endpoint para listar todos os itens de um convidado específico
+    //Endpoint para listar todos os itens de um convidado específico (paginação opcional via page e size)
     @GetMapping("/guest/{guestId}")
-    public ResponseEntity<List<Item>> getItemsByGuest(@PathVariable UUID guestId) {
-        return ResponseEntity.ok(itemService.itemsByGuestId(guestId));
+    public ResponseEntity<List<ItemDTO>> getItemsByGuest(@PathVariable UUID guestId,
+                                                         @RequestParam(required = false) Integer page,
+                                                         @RequestParam(required = false) Integer size) {
+        return ResponseEntity.ok(itemService.itemsByGuestId(guestId, pageable(page, size)));
     }
 
     //Endpoint para adicionar um novo item a um convidado específico
     @PostMapping("{itemId}/guest/{guestId}")
-    public ResponseEntity<Item> addItemToGuest(@PathVariable UUID guestId, @PathVariable UUID itemId) {
+    public ResponseEntity<ItemDTO> addItemToGuest(@PathVariable UUID guestId, @PathVariable UUID itemId) {
         Item item = itemService.addItemToGuest(guestId, itemId);
-        // Retorna o item criado com status HTTP 201 (Created)
-        return new ResponseEntity<>(item, HttpStatus.CREATED);
+        // Retorna o item atribuído com status HTTP 201 (Created)
+        return new ResponseEntity<>(ItemMapper.toDTO(item), HttpStatus.CREATED);
+    }
+
+    //Endpoint para atribuir vários itens a convidados em uma única transação
+    @PostMapping("/guest/bulk")
+    public ResponseEntity<Void> assignItemsToGuests(@RequestBody List<ItemAssignmentDTO> assignments) {
+        itemService.assignItemsToGuests(assignments);
+        return ResponseEntity.noContent().build();
     }
 
     //Endpoint para remover um item específico de um convidado
@@ -117,4 +149,18 @@ public class ItemController {
         Item item = itemService.removeGuestFromItem(guestId, itemId);
         return new ResponseEntity<>(ItemMapper.toDTO(item), HttpStatus.OK);
     }
+
+    //Monta a paginação opcional: sem page e sem size, a consulta não é paginada
+    private Pageable pageable(Integer page, Integer size) {
+        if (page == null && size == null) {
+            return Pageable.unpaged();
+        }
+        if (page != null && page < 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "page must be zero or greater.");
+        }
+        if (size != null && size <= 0) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "size must be greater than zero.");
+        }
+        return PageRequest.of(page != null ? page : 0, size != null ? size : CursorPageDTO.DEFAULT_LIMIT);
+    }
 }
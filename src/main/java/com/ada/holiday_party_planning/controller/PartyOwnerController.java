@@ -2,8 +2,10 @@ package com.ada.holiday_party_planning.controller;
 
 import com.ada.holiday_party_planning.dto.*;
 import com.ada.holiday_party_planning.service.PartyOwnerService;
+import com.ada.holiday_party_planning.util.NdjsonResponseWriter;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
@@ -20,15 +22,18 @@ import java.util.UUID;
 public class PartyOwnerController {
 
     private final PartyOwnerService partyOwnerService;
+    private final NdjsonResponseWriter ndjsonResponseWriter;
 
     /**
      * Construtor que injeta o serviço de proprietários de festas.
      *
      * @param partyOwnerService Serviço para manipulação de dados de proprietários de festas.
+     * @param ndjsonResponseWriter Utilitário para as respostas em streaming NDJSON.
      */
 
-    public PartyOwnerController(PartyOwnerService partyOwnerService) {
+    public PartyOwnerController(PartyOwnerService partyOwnerService, NdjsonResponseWriter ndjsonResponseWriter) {
         this.partyOwnerService = partyOwnerService;
+        this.ndjsonResponseWriter = ndjsonResponseWriter;
     }
 
     /**
@@ -63,19 +68,38 @@ public class PartyOwnerController {
     }
 
     /**
-     * Retorna todos os proprietários de festas registrados.
+     * Retorna os proprietários de festas registrados. Com "after" ou "limit", retorna uma página
+     * ordenada pelo ID e o cursor da próxima página.
      *
-     * @return Lista de todos os proprietários de festas.
+     * @param after ID do último proprietário da página anterior.
+     * @param limit Quantidade máxima de proprietários da página.
+     * @return Lista de todos os proprietários de festas, ou a página solicitada.
      */
 
     @GetMapping("/all")
-    public ResponseEntity<List<PartyOwnerDTO>> getAllPartyOwners() {
+    public ResponseEntity<?> getAllPartyOwners(@RequestParam(required = false) UUID after,
+                                               @RequestParam(required = false) Integer limit) {
+
+        if (after != null || limit != null) {
+            return ResponseEntity.ok(partyOwnerService.getPartyOwnersPage(after, limit));
+        }
 
         List<PartyOwnerDTO> allPartyOwners = partyOwnerService.getAllPartyOwners();
 
         return ResponseEntity.ok(allPartyOwners);
     }
 
+    /**
+     * Transmite todos os proprietários de festas em NDJSON, um por linha, lidos do banco por cursor.
+     *
+     * @return Corpo da resposta em streaming.
+     */
+
+    @GetMapping(value = "/all/stream", produces = NdjsonResponseWriter.APPLICATION_NDJSON)
+    public ResponseEntity<StreamingResponseBody> streamAllPartyOwners() {
+        return ResponseEntity.ok(ndjsonResponseWriter.<PartyOwnerDTO>stream(partyOwnerService::streamAllPartyOwners));
+    }
+
     /**
      * Atualiza um proprietário de festa existente.
      *
@@ -0,0 +1,82 @@
+package com.ada.holiday_party_planning.dto;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * DTO para representar uma página de uma listagem paginada por cursor (keyset).
+ * Contém os itens da página e o cursor a ser enviado no parâmetro "after" para
+ * buscar a próxima página, ou null quando não há mais registros.
+ *
+ * @param <T> Tipo dos itens da página.
+ */
+
+public class CursorPageDTO<T> {
+
+    /**
+     * Quantidade de itens usada quando o parâmetro "limit" não é informado.
+     */
+
+    public static final int DEFAULT_LIMIT = 50;
+
+    /**
+     * Quantidade máxima de itens aceita por página.
+     */
+
+    public static final int MAX_LIMIT = 500;
+
+    private final List<T> items;
+    private final UUID nextCursor;
+
+    /**
+     * Construtor para inicializar a página.
+     *
+     * @param items Itens da página.
+     * @param nextCursor Cursor da próxima página, ou null se esta for a última.
+     */
+
+    public CursorPageDTO(List<T> items, UUID nextCursor) {
+        this.items = items;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Monta uma página a partir dos itens buscados. Se a página veio cheia, o ID do último
+     * item vira o cursor da próxima página.
+     *
+     * @param items Itens buscados, ordenados pelo ID.
+     * @param limit Quantidade de itens solicitada.
+     * @param idOf Função que extrai o ID de um item.
+     * @return A página com o cursor da próxima.
+     */
+
+    public static <T> CursorPageDTO<T> of(List<T> items, int limit, Function<T, UUID> idOf) {
+        UUID nextCursor = items.size() == limit ? idOf.apply(items.get(items.size() - 1)) : null;
+        return new CursorPageDTO<>(items, nextCursor);
+    }
+
+    /**
+     * Normaliza o limite recebido na requisição, aplicando o padrão e o máximo permitidos.
+     *
+     * @param limit O limite informado, ou null.
+     * @return O limite a ser usado na consulta.
+     */
+
+    public static int normalizeLimit(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_LIMIT;
+        }
+        return Math.min(limit, MAX_LIMIT);
+    }
+
+    // Getters
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public UUID getNextCursor() {
+        return nextCursor;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ada.holiday_party_planning.dto;
+
+import java.util.Map;
+
+/**
+ * DTO que descreve um e-mail a ser enviado com o template padrão.
+ */
+
+public class EmailMessageDTO {
+
+    private final String to;
+    private final String subject;
+    private final Map<String, String> variables;
+
+    /**
+     * Construtor para inicializar o e-mail.
+     *
+     * @param to E-mail do destinatário.
+     * @param subject Assunto do e-mail.
+     * @param variables Variáveis do template.
+     */
+
+    public EmailMessageDTO(String to, String subject, Map<String, String> variables) {
+        this.to = to;
+        this.subject = subject;
+        this.variables = variables;
+    }
+
+    public String getTo() {
+        return to;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+}
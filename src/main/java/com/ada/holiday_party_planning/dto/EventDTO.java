@@ -1,5 +1,6 @@
 package com.ada.holiday_party_planning.dto;
 
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -20,6 +21,7 @@ public class EventDTO {
     private String descriptionTranslateFun;
     private Boolean funActivate;
     private String categoryFun;
+    private TranslationStatusEnum translationStatus;
     private PartyOwnerDTO partyOwnerDTO;
 
     /**
@@ -52,6 +54,31 @@ public class EventDTO {
         this.categoryFun = categoryFun;
     }
 
+    /**
+     * Construtor usado pelas projeções JPQL, que também trazem o andamento da tradução.
+     *
+     * @param eventiD Identificador único do evento.
+     * @param theme Tema do evento.
+     * @param title Título do evento.
+     * @param date Data e hora do evento.
+     * @param place Local do evento.
+     * @param description Descrição do evento.
+     * @param descriptionTranslateFun Descrição traduzida relacionada à diversão.
+     * @param funActivate Se a categoria de diversão está ativada.
+     * @param categoryFun Categoria de diversão.
+     * @param translationStatus Andamento da tradução divertida.
+     */
+
+    public EventDTO(UUID eventiD, String theme,
+                    String title, LocalDateTime date,
+                    String place, String description,
+                    String descriptionTranslateFun,
+                    Boolean funActivate, String categoryFun,
+                    TranslationStatusEnum translationStatus) {
+        this(eventiD, theme, title, date, place, description, descriptionTranslateFun, funActivate, categoryFun);
+        this.translationStatus = translationStatus;
+    }
+
     // Getters e Setters
 
     public UUID getEventID() {
@@ -121,4 +148,12 @@ public class EventDTO {
     public void setCategoryFun(String categoryFun) {
         this.categoryFun = categoryFun;
     }
+
+    public TranslationStatusEnum getTranslationStatus() {
+        return translationStatus;
+    }
+
+    public void setTranslationStatus(TranslationStatusEnum translationStatus) {
+        this.translationStatus = translationStatus;
+    }
 }
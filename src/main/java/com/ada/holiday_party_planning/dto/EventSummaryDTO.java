@@ -0,0 +1,57 @@
+package com.ada.holiday_party_planning.dto;
+
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * DTO com o resumo de um evento: quantidade de itens, custo total e quantidade de convidados
+ * por status (todos os status aparecem, com zero quando não há convidados).
+ */
+
+public class EventSummaryDTO {
+
+    private final UUID eventId;
+    private final long itemCount;
+    private final double totalCost;
+    private final long guestCount;
+    private final Map<GuestStatusEnum, Long> guestsByStatus;
+
+    /**
+     * Construtor para inicializar o resumo.
+     *
+     * @param eventId Identificador do evento.
+     * @param itemCount Quantidade de itens do evento.
+     * @param totalCost Soma de quantidade vezes valor dos itens.
+     * @param guestsByStatus Quantidade de convidados por status.
+     */
+
+    public EventSummaryDTO(UUID eventId, long itemCount, double totalCost, Map<GuestStatusEnum, Long> guestsByStatus) {
+        this.eventId = eventId;
+        this.itemCount = itemCount;
+        this.totalCost = totalCost;
+        this.guestsByStatus = guestsByStatus;
+        this.guestCount = guestsByStatus.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public long getGuestCount() {
+        return guestCount;
+    }
+
+    public Map<GuestStatusEnum, Long> getGuestsByStatus() {
+        return guestsByStatus;
+    }
+}
@@ -1,5 +1,6 @@
 package com.ada.holiday_party_planning.dto;
 
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -20,6 +21,7 @@ public class EventWithPartyOwnerDTO {
     private String descriptionTranslateFun;
     private Boolean funActivate;
     private String categoryFun;
+    private TranslationStatusEnum translationStatus;
     private PartyOwnerDTO partyOwnerDTO;
 
     /**
@@ -133,4 +135,12 @@ public class EventWithPartyOwnerDTO {
     public void setCategoryFun(String categoryFun) {
         this.categoryFun = categoryFun;
     }
+
+    public TranslationStatusEnum getTranslationStatus() {
+        return translationStatus;
+    }
+
+    public void setTranslationStatus(TranslationStatusEnum translationStatus) {
+        this.translationStatus = translationStatus;
+    }
 }
@@ -0,0 +1,38 @@
+package com.ada.holiday_party_planning.dto;
+
+/**
+ * DTO que descreve uma linha rejeitada na importação de convidados em lote.
+ */
+
+public class GuestImportErrorDTO {
+
+    private final int line;
+    private final String email;
+    private final String message;
+
+    /**
+     * Construtor para inicializar o erro de uma linha.
+     *
+     * @param line Número da linha no arquivo.
+     * @param email E-mail informado na linha, se houver.
+     * @param message Motivo da rejeição.
+     */
+
+    public GuestImportErrorDTO(int line, String email, String message) {
+        this.line = line;
+        this.email = email;
+        this.message = message;
+    }
+
+    public int getLine() {
+        return line;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ada.holiday_party_planning.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * DTO com o resultado de uma importação de convidados em lote: quantidade de linhas lidas,
+ * importadas e rejeitadas, e o motivo de cada rejeição (limitado aos primeiros erros).
+ */
+
+public class GuestImportReportDTO {
+
+    private final UUID eventId;
+    private final int received;
+    private final int imported;
+    private final int failed;
+    private final List<GuestImportErrorDTO> errors;
+
+    /**
+     * Construtor para inicializar o relatório.
+     *
+     * @param eventId Identificador do evento.
+     * @param received Quantidade de linhas de dados lidas.
+     * @param imported Quantidade de convidados gravados.
+     * @param failed Quantidade de linhas rejeitadas.
+     * @param errors Erros por linha; pode ter menos itens que "failed" quando o limite é atingido.
+     */
+
+    public GuestImportReportDTO(UUID eventId, int received, int imported, int failed, List<GuestImportErrorDTO> errors) {
+        this.eventId = eventId;
+        this.received = received;
+        this.imported = imported;
+        this.failed = failed;
+        this.errors = errors;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public int getReceived() {
+        return received;
+    }
+
+    public int getImported() {
+        return imported;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+
+    public List<GuestImportErrorDTO> getErrors() {
+        return errors;
+    }
+}
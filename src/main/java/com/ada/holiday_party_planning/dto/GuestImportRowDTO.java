@@ -0,0 +1,95 @@
+package com.ada.holiday_party_planning.dto;
+
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.Size;
+
+/**
+ * DTO de uma linha da importação de convidados em lote (CSV ou NDJSON).
+ * Contém os dados do convidado e o número da linha no arquivo, usado no relatório de erros.
+ */
+
+public class GuestImportRowDTO {
+
+    private int line;
+
+    @NotBlank(message = "Name cannot be blank!")
+    @Size(max = 255, message = "Name must have at most 255 characters!")
+    private String name;
+
+    @NotBlank(message = "Email cannot be blank!")
+    @Email(message = "Email is invalid!")
+    @Size(max = 255, message = "Email must have at most 255 characters!")
+    private String email;
+
+    private GuestStatusEnum status;
+
+    private boolean confirmed;
+
+    /**
+     * Construtor padrão sem parâmetros
+     */
+
+    public GuestImportRowDTO() {}
+
+    /**
+     * Construtor que inicializa os dados da linha.
+     *
+     * @param line Número da linha no arquivo.
+     * @param name Nome do convidado.
+     * @param email E-mail do convidado.
+     * @param status Status do convidado; PENDING se não informado.
+     * @param confirmed Indica se o convidado já confirmou presença.
+     */
+
+    public GuestImportRowDTO(int line, String name, String email, GuestStatusEnum status, boolean confirmed) {
+        this.line = line;
+        this.name = name;
+        this.email = email;
+        this.status = status;
+        this.confirmed = confirmed;
+    }
+
+    // Getters e Setters
+
+    public int getLine() {
+        return line;
+    }
+
+    public void setLine(int line) {
+        this.line = line;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        this.email = email;
+    }
+
+    public GuestStatusEnum getStatus() {
+        return status;
+    }
+
+    public void setStatus(GuestStatusEnum status) {
+        this.status = status;
+    }
+
+    public boolean isConfirmed() {
+        return confirmed;
+    }
+
+    public void setConfirmed(boolean confirmed) {
+        this.confirmed = confirmed;
+    }
+}
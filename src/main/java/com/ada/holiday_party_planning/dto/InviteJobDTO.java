@@ -0,0 +1,66 @@
+package com.ada.holiday_party_planning.dto;
+
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+
+import java.util.UUID;
+
+/**
+ * DTO para representar o andamento de um envio de convites em lote.
+ * Contém o status do envio e a contagem de convites enviados e com falha.
+ */
+
+public class InviteJobDTO {
+
+    private final UUID jobId;
+    private final UUID eventId;
+    private final InviteJobStatusEnum status;
+    private final int total;
+    private final int sent;
+    private final int failed;
+
+    /**
+     * Construtor para inicializar os dados do envio.
+     *
+     * @param jobId Identificador único do envio.
+     * @param eventId Identificador do evento dos convites.
+     * @param status Status atual do envio.
+     * @param total Quantidade de convites do envio.
+     * @param sent Quantidade de convites já enviados.
+     * @param failed Quantidade de convites que falharam após todas as tentativas.
+     */
+
+    public InviteJobDTO(UUID jobId, UUID eventId, InviteJobStatusEnum status, int total, int sent, int failed) {
+        this.jobId = jobId;
+        this.eventId = eventId;
+        this.status = status;
+        this.total = total;
+        this.sent = sent;
+        this.failed = failed;
+    }
+
+    // Getters
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public InviteJobStatusEnum getStatus() {
+        return status;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public int getSent() {
+        return sent;
+    }
+
+    public int getFailed() {
+        return failed;
+    }
+}
@@ -0,0 +1,37 @@
+package com.ada.holiday_party_planning.dto;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.util.UUID;
+
+/**
+ * DTO que associa um item a um convidado na atribuição de itens em lote.
+ */
+
+public class ItemAssignmentDTO {
+
+    private final UUID itemId;
+    private final UUID guestId;
+
+    /**
+     * Construtor para inicializar a atribuição.
+     *
+     * @param itemId ID do item.
+     * @param guestId ID do convidado que levará o item.
+     */
+
+    @JsonCreator
+    public ItemAssignmentDTO(@JsonProperty("itemId") UUID itemId, @JsonProperty("guestId") UUID guestId) {
+        this.itemId = itemId;
+        this.guestId = guestId;
+    }
+
+    public UUID getItemId() {
+        return itemId;
+    }
+
+    public UUID getGuestId() {
+        return guestId;
+    }
+}
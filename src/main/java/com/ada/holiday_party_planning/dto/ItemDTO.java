@@ -1,5 +1,8 @@
 package com.ada.holiday_party_planning.dto;
 
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.fasterxml.jackson.annotation.JsonCreator;
+
 import java.util.UUID;
 
 /**
@@ -23,6 +26,7 @@ public class ItemDTO {
      * @param value Valor unitário do item.
      */
 
+    @JsonCreator
     public ItemDTO(UUID itemId, String name, int quantity, double value, GuestDTO guest) {
         this.itemId = itemId;
         this.name = name;
@@ -31,6 +35,26 @@ public class ItemDTO {
         this.guest = guest;
     }
 
+    /**
+     * Construtor usado pelas projeções JPQL, que recebem as colunas do convidado
+     * de forma achatada a partir de um left join.
+     *
+     * @param itemId Identificador único do item.
+     * @param name Nome do item.
+     * @param quantity Quantidade disponível do item.
+     * @param value Valor unitário do item.
+     * @param guestId Identificador do convidado associado, ou null se não houver.
+     * @param guestName Nome do convidado associado.
+     * @param guestEmail E-mail do convidado associado.
+     * @param guestStatus Status do convidado associado.
+     */
+
+    public ItemDTO(UUID itemId, String name, int quantity, double value,
+                   UUID guestId, String guestName, String guestEmail, GuestStatusEnum guestStatus) {
+        this(itemId, name, quantity, value,
+                guestId != null ? new GuestDTO(guestId, guestName, guestEmail, guestStatus) : null);
+    }
+
     // Getters e Setters
 
     public UUID getItemId() {
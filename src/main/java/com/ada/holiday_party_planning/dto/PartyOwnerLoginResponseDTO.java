@@ -4,7 +4,8 @@ import java.util.UUID;
 
 /**
  * DTO utilizado para representar a resposta após um login bem-sucedido de um proprietário de festa.
- * Contém informações do proprietário que são retornadas após a autenticação.
+ * Contém informações do proprietário que são retornadas após a autenticação e o token de acesso,
+ * enviado nas requisições seguintes como "Authorization: Bearer &lt;token&gt;".
  */
 
 public class PartyOwnerLoginResponseDTO {
@@ -12,6 +13,8 @@ public class PartyOwnerLoginResponseDTO {
     private String name;
     private String email;
     private UUID ownerId;
+    private String token;
+    private long expiresIn;
 
     /**
      * Construtor padrão sem parâmetros
@@ -57,4 +60,24 @@ public class PartyOwnerLoginResponseDTO {
     public void setOwnerId(UUID ownerId) {
         this.ownerId = ownerId;
     }
+
+    public String getToken() {
+        return token;
+    }
+
+    public void setToken(String token) {
+        this.token = token;
+    }
+
+    /**
+     * Validade do token em segundos.
+     */
+
+    public long getExpiresIn() {
+        return expiresIn;
+    }
+
+    public void setExpiresIn(long expiresIn) {
+        this.expiresIn = expiresIn;
+    }
 }
@@ -0,0 +1,12 @@
+package com.ada.holiday_party_planning.enums;
+
+/**
+ * Enum que representa os possíveis status de um envio de convites em lote.
+ */
+
+public enum InviteJobStatusEnum {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    COMPLETED_WITH_FAILURES
+}
@@ -0,0 +1,11 @@
+package com.ada.holiday_party_planning.enums;
+
+/**
+ * Enum que representa os possíveis status de um e-mail da fila de saída (outbox).
+ */
+
+public enum OutboxStatusEnum {
+    PENDING,
+    SENT,
+    FAILED
+}
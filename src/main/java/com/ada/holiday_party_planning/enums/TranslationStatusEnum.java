@@ -0,0 +1,11 @@
+package com.ada.holiday_party_planning.enums;
+
+/**
+ * Enum que representa o andamento da tradução divertida da descrição de um evento.
+ */
+
+public enum TranslationStatusEnum {
+    PENDING,
+    DONE,
+    FAILED
+}
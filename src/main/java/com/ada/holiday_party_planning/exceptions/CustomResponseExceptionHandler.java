@@ -1,8 +1,11 @@
 package com.ada.holiday_party_planning.exceptions;
 
 import com.ada.holiday_party_planning.exceptions.response.ExceptionResponse;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
@@ -139,4 +142,57 @@ public class CustomResponseExceptionHandler extends ResponseEntityExceptionHandl
         );
     }
 
+    @ExceptionHandler(InviteJobNotFoundException.class)
+    public ResponseEntity<ExceptionResponse> inviteJobNotFoundHandler(InviteJobNotFoundException exception) {
+
+        return getExceptionResponse(
+                HttpStatus.NOT_FOUND,
+                "INVITE_JOB_NOT_FOUND",
+                exception.getMessage()
+        );
+    }
+
+    /**
+     * Manipulador de exceção para o caso de o executor de hashing de senhas estar saturado.
+     *
+     * @param exception A exceção lançada quando a fila do BCrypt está cheia.
+     * @return Retorna uma ResponseEntity com status 429 (Too Many Requests) e o cabeçalho Retry-After.
+     */
+
+    @ExceptionHandler(PasswordHashingBusyException.class)
+    public ResponseEntity<ExceptionResponse> passwordHashingBusyHandler(PasswordHashingBusyException exception) {
+
+        ResponseEntity<ExceptionResponse> response = getExceptionResponse(
+                HttpStatus.TOO_MANY_REQUESTS,
+                "TOO_MANY_REQUESTS",
+                exception.getMessage()
+        );
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
+    /**
+     * Manipulador de exceção para o caso de não haver conexão com o banco disponível, seja porque
+     * o pool está saturado, seja porque o banco não respondeu.
+     *
+     * @param exception A exceção lançada ao obter a conexão.
+     * @return Retorna uma ResponseEntity com status 503 (Service Unavailable) e o cabeçalho Retry-After.
+     */
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<ExceptionResponse> databaseUnavailableHandler(RuntimeException exception) {
+
+        ResponseEntity<ExceptionResponse> response = getExceptionResponse(
+                HttpStatus.SERVICE_UNAVAILABLE,
+                "SERVICE_UNAVAILABLE",
+                "Database connection not available. Try again shortly."
+        );
+
+        return ResponseEntity.status(response.getStatusCode())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(response.getBody());
+    }
+
 }
@@ -0,0 +1,12 @@
+package com.ada.holiday_party_planning.exceptions;
+
+public class InviteJobNotFoundException extends RuntimeException {
+
+    public InviteJobNotFoundException() {
+        super("Invite job not found.");
+    }
+
+    public InviteJobNotFoundException(String message) {
+        super(message);
+    }
+}
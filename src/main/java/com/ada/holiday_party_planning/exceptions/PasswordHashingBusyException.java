@@ -0,0 +1,12 @@
+package com.ada.holiday_party_planning.exceptions;
+
+public class PasswordHashingBusyException extends RuntimeException {
+
+    public PasswordHashingBusyException() {
+        super("Too many concurrent authentication requests. Try again shortly.");
+    }
+
+    public PasswordHashingBusyException(String message) {
+        super(message);
+    }
+}
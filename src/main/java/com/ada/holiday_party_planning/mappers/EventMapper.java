@@ -48,7 +48,7 @@ public class EventMapper {
      */
 
     public EventWithPartyOwnerDTO eventwithPartyOwnerDTO (Event event, PartyOwnerDTO partyOwner) {
-        return new EventWithPartyOwnerDTO(
+        EventWithPartyOwnerDTO eventDTO = new EventWithPartyOwnerDTO(
                 event.getEventId(), event.getTheme(),
                 event.getTitle(), event.getDate(),
                 event.getPlace(), event.getDescription(),
@@ -57,6 +57,8 @@ public class EventMapper {
                 new PartyOwnerDTO(partyOwner.getOwnerId(),
                         partyOwner.getName(), partyOwner.getEmail())
         );
+        eventDTO.setTranslationStatus(event.getTranslationStatus());
+        return eventDTO;
     }
 
     /**
@@ -71,19 +73,20 @@ public class EventMapper {
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "PartyOwner not found"));
 
         PartyOwnerDTO partyOwnerDTO = new PartyOwnerDTO(partyOwner.getOwnerId(), partyOwner.getName(), partyOwner.getEmail());
-        List<Event> allEvents = eventRepository.findAll();
-        List<EventWithPartyOwnerDTO> allEventsDTO = new ArrayList<>();
-        allEvents.removeIf(event -> !ownerID.equals(event.getOwner().getOwnerId()));
+        List<EventDTO> ownerEvents = eventRepository.findAllDTOByOwnerId(ownerID);
+        List<EventWithPartyOwnerDTO> allEventsDTO = new ArrayList<>(ownerEvents.size());
 
-        for (Event event : allEvents) {
-            allEventsDTO.add(new EventWithPartyOwnerDTO(
-                    event.getEventId(), event.getTheme(),
+        for (EventDTO event : ownerEvents) {
+            EventWithPartyOwnerDTO eventDTO = new EventWithPartyOwnerDTO(
+                    event.getEventID(), event.getTheme(),
                     event.getTitle(), event.getDate(),
                     event.getPlace(), event.getDescription(),
                     event.getDescriptionTranslateFun(), event.getFunActivate(),
                     event.getCategoryFun(),
                     partyOwnerDTO
-            ));
+            );
+            eventDTO.setTranslationStatus(event.getTranslationStatus());
+            allEventsDTO.add(eventDTO);
         }
 
         return allEventsDTO;
@@ -97,22 +100,7 @@ public class EventMapper {
      */
 
     public List<EventDTO> eventListDTO (UUID ownerID) {
-        List<Event> allEvents = eventRepository.findAll();
-        List<EventDTO> allEventsDTO = new ArrayList<>();
-        allEvents.removeIf(event -> !ownerID.equals(event.getOwner().getOwnerId()));
-
-        for (Event event : allEvents) {
-            allEventsDTO.add(new EventDTO(
-                    event.getEventId(), event.getTheme(),
-                    event.getTitle(), event.getDate(),
-                    event.getPlace(), event.getDescription(),
-                    event.getDescriptionTranslateFun(),
-                    event.getFunActivate(),
-                    event.getCategoryFun())
-            );
-        }
-
-        return allEventsDTO;
+        return eventRepository.findAllDTOByOwnerId(ownerID);
     }
 
     /**
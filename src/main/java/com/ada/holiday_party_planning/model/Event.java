@@ -1,8 +1,11 @@
 package com.ada.holiday_party_planning.model;
 
 import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -16,9 +19,26 @@ import java.util.UUID;
  */
 
 @Entity
-@Table(name = "events_planned")
+@Table(name = "events_planned", indexes = {
+        @Index(name = "idx_events_planned_owner_id", columnList = "owner_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Event.CACHE_REGION)
 public class Event {
 
+    /**
+     * Região do cache de segundo nível.
+     */
+
+    public static final String CACHE_REGION = "event";
+
+    /**
+     * Regiões do cache de segundo nível das coleções de convidados e de itens.
+     */
+
+    public static final String GUESTS_CACHE_REGION = "event.guests";
+    public static final String ITEMS_CACHE_REGION = "event.items";
+
     /**
      * ID único do evento.
      */
@@ -77,11 +97,19 @@ public class Event {
 
     private String categoryFun;
 
+    /**
+     * Andamento da tradução divertida da descrição, feita em segundo plano.
+     */
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "translation_status")
+    private TranslationStatusEnum translationStatus;
+
     /**
      * Dono do evento.
      */
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "owner_id", referencedColumnName = "owner_id", nullable = false)
     @JsonIgnore
     private PartyOwner partyOwner;
@@ -91,6 +119,7 @@ public class Event {
      */
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = GUESTS_CACHE_REGION)
     private List<Guest> guests;
 
     /**
@@ -98,6 +127,7 @@ public class Event {
      */
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = ITEMS_CACHE_REGION)
     private List<Item> items;
 
     /**
@@ -194,6 +224,14 @@ public class Event {
         this.description = description;
     }
 
+    public TranslationStatusEnum getTranslationStatus() {
+        return translationStatus;
+    }
+
+    public void setTranslationStatus(TranslationStatusEnum translationStatus) {
+        this.translationStatus = translationStatus;
+    }
+
     public String getDescriptionTranslateFun() {
         return descriptionTranslateFun;
     }
@@ -267,8 +305,11 @@ public class Event {
      * Calcula o custo total do evento com base na quantidade e valor dos itens.
      *
      * @return O custo total do evento.
+     * @deprecated Carrega a coleção inteira; use o resumo de
+     * {@link com.ada.holiday_party_planning.service.EventSummaryService}.
      */
 
+    @Deprecated
     public double totalEventCost() {
         return items
                 .stream()
@@ -279,8 +320,11 @@ public class Event {
      * Filtra os convidados confirmados do evento.
      *
      * @return Lista de convidados confirmados.
+     * @deprecated Carrega a coleção inteira; use o resumo de
+     * {@link com.ada.holiday_party_planning.service.EventSummaryService}.
      */
 
+    @Deprecated
     public List<Guest> confirmedGuests() {
         return guests
                 .stream()
@@ -292,8 +336,11 @@ public class Event {
      * Filtra os convidados não confirmados do evento.
      *
      * @return Lista de convidados não confirmados.
+     * @deprecated Carrega a coleção inteira; use o resumo de
+     * {@link com.ada.holiday_party_planning.service.EventSummaryService}.
      */
 
+    @Deprecated
     public List<Guest> notConfirmedGuests() {
         return guests
                 .stream()
@@ -0,0 +1,77 @@
+package com.ada.holiday_party_planning.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.OnDelete;
+import org.hibernate.annotations.OnDeleteAction;
+
+import java.util.UUID;
+
+/**
+ * Resumo materializado de um evento: quantidade de itens, custo total e quantidade de convidados
+ * por status. Cada linha é criada junto com o evento e atualizada de forma incremental a cada
+ * gravação de item ou convidado, quando {@code events.summary.materialized} está ativo.
+ * A linha é excluída pelo banco junto com o evento.
+ */
+
+@Entity
+@Table(name = "event_summary")
+public class EventSummary {
+
+    public static final String TABLE = "event_summary";
+
+    @Id
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @MapsId
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id")
+    @OnDelete(action = OnDeleteAction.CASCADE)
+    private Event event;
+
+    @Column(name = "item_count", nullable = false)
+    private long itemCount;
+
+    @Column(name = "total_cost", nullable = false)
+    private double totalCost;
+
+    @Column(name = "pending_guests", nullable = false)
+    private long pendingGuests;
+
+    @Column(name = "confirmed_guests", nullable = false)
+    private long confirmedGuests;
+
+    @Column(name = "declined_guests", nullable = false)
+    private long declinedGuests;
+
+    /**
+     * Construtor padrão.
+     */
+
+    public EventSummary() {
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public long getItemCount() {
+        return itemCount;
+    }
+
+    public double getTotalCost() {
+        return totalCost;
+    }
+
+    public long getPendingGuests() {
+        return pendingGuests;
+    }
+
+    public long getConfirmedGuests() {
+        return confirmedGuests;
+    }
+
+    public long getDeclinedGuests() {
+        return declinedGuests;
+    }
+}
@@ -2,6 +2,8 @@ package com.ada.holiday_party_planning.model;
 
 import com.ada.holiday_party_planning.enums.GuestStatusEnum;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.UUID;
 
@@ -12,9 +14,27 @@ import java.util.UUID;
  */
 
 @Entity
-@Table(name = "guests")
+@Table(name = "guests", indexes = {
+        @Index(name = "idx_guests_event_id_confirmed", columnList = "event_id, is_confirmed")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = Guest.UNIQUE_EVENT_EMAIL, columnNames = {"event_id", "email"})
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Guest.CACHE_REGION)
 public class Guest {
 
+    /**
+     * Região do cache de segundo nível.
+     */
+
+    public static final String CACHE_REGION = "guest";
+
+    /**
+     * Restrição que impede o mesmo e-mail de ser convidado duas vezes para o mesmo evento.
+     */
+
+    public static final String UNIQUE_EVENT_EMAIL = "uk_guests_event_id_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "guest_id", nullable = false)
@@ -30,7 +50,7 @@ public class Guest {
     @Enumerated(EnumType.STRING)
     private GuestStatusEnum status;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", referencedColumnName = "event_id", nullable = false)
     private Event event;
 
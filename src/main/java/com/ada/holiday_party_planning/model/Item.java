@@ -1,6 +1,8 @@
 package com.ada.holiday_party_planning.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import java.util.UUID;
 
 /**
@@ -10,9 +12,20 @@ import java.util.UUID;
  */
 
 @Entity
-@Table(name = "item")
+@Table(name = "item", indexes = {
+        @Index(name = "idx_item_event_id", columnList = "event_id"),
+        @Index(name = "idx_item_guest_id", columnList = "guest_id")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Item.CACHE_REGION)
 public class Item {
 
+    /**
+     * Região do cache de segundo nível.
+     */
+
+    public static final String CACHE_REGION = "item";
+
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -28,12 +41,12 @@ public class Item {
     @Column(name= "item_value", nullable = false)
     private double value;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "event_id", nullable = false)
     private Event event;
 
     //Relacionamento Many-to-One entre Item e Guest
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "guest_id")
     private Guest guest;
 
@@ -0,0 +1,189 @@
+package com.ada.holiday_party_planning.model;
+
+import com.ada.holiday_party_planning.enums.OutboxStatusEnum;
+import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Representa um e-mail da fila de saída (outbox). A linha é gravada na mesma transação da
+ * alteração que gerou o e-mail, e o envio é feito depois pelo
+ * {@link com.ada.holiday_party_planning.service.OutboxDispatcher}: se a transação for desfeita,
+ * nenhum e-mail sai; se a aplicação cair no meio do envio, os e-mails pendentes continuam na fila.
+ * <p>
+ * Uma linha está disponível para envio quando está PENDING e {@code availableAt} já passou. Ao
+ * reservar a linha, o dispatcher adia {@code availableAt} pelo tempo da reserva, de modo que ela
+ * volta para a fila se o nó cair antes de registrar o resultado.
+ */
+
+@Entity
+@Table(name = OutboxMessage.TABLE, indexes = {
+        @Index(name = "idx_email_outbox_status_available_at", columnList = "status, available_at"),
+        @Index(name = "idx_email_outbox_job_id", columnList = "job_id")
+})
+public class OutboxMessage {
+
+    public static final String TABLE = "email_outbox";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "message_id", nullable = false)
+    private UUID messageId;
+
+    @Column(name = "job_id", nullable = false)
+    private UUID jobId;
+
+    @Column(name = "event_id")
+    private UUID eventId;
+
+    @Column(name = "recipient", nullable = false)
+    private String recipient;
+
+    @Column(name = "subject", nullable = false)
+    private String subject;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(name = "variables", nullable = false)
+    private Map<String, String> variables;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    private OutboxStatusEnum status;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "available_at", nullable = false)
+    private Instant availableAt;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    @Column(name = "sent_at")
+    private Instant sentAt;
+
+    @Column(name = "last_error", length = 500)
+    private String lastError;
+
+    /**
+     * Construtor padrão.
+     */
+
+    public OutboxMessage() {}
+
+    /**
+     * Construtor para criar um e-mail pendente, disponível para envio imediato.
+     *
+     * @param jobId ID do envio em lote ao qual o e-mail pertence.
+     * @param eventId ID do evento que gerou o e-mail, se houver.
+     * @param recipient E-mail do destinatário.
+     * @param subject Assunto do e-mail.
+     * @param variables Variáveis do template.
+     * @param createdAt Momento da gravação.
+     */
+
+    public OutboxMessage(UUID jobId, UUID eventId, String recipient, String subject, Map<String, String> variables,
+                         Instant createdAt) {
+        this.jobId = jobId;
+        this.eventId = eventId;
+        this.recipient = recipient;
+        this.subject = subject;
+        this.variables = variables;
+        this.status = OutboxStatusEnum.PENDING;
+        this.availableAt = createdAt;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * Reserva o e-mail para uma tentativa de envio até o instante informado.
+     *
+     * @param leaseUntil Instante em que a reserva expira e o e-mail volta a ficar disponível.
+     */
+
+    public void claim(Instant leaseUntil) {
+        attempts++;
+        availableAt = leaseUntil;
+    }
+
+    /**
+     * Registra o envio do e-mail.
+     *
+     * @param now Momento do envio.
+     */
+
+    public void markSent(Instant now) {
+        status = OutboxStatusEnum.SENT;
+        sentAt = now;
+        lastError = null;
+    }
+
+    /**
+     * Registra uma tentativa de envio que falhou.
+     *
+     * @param error Mensagem do erro.
+     * @param retryAt Momento da próxima tentativa, ou null se não houver mais tentativas.
+     */
+
+    public void markFailed(String error, Instant retryAt) {
+        lastError = error == null || error.length() <= 500 ? error : error.substring(0, 500);
+        if (retryAt == null) {
+            status = OutboxStatusEnum.FAILED;
+        } else {
+            availableAt = retryAt;
+        }
+    }
+
+    // Getters
+
+    public UUID getMessageId() {
+        return messageId;
+    }
+
+    public UUID getJobId() {
+        return jobId;
+    }
+
+    public UUID getEventId() {
+        return eventId;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getSubject() {
+        return subject;
+    }
+
+    public Map<String, String> getVariables() {
+        return variables;
+    }
+
+    public OutboxStatusEnum getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public Instant getAvailableAt() {
+        return availableAt;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getSentAt() {
+        return sentAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
@@ -2,6 +2,8 @@ package com.ada.holiday_party_planning.model;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
 import jakarta.persistence.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,9 +16,25 @@ import java.util.UUID;
  */
 
 @Entity
-@Table(name = "party_owner")
+@Table(name = "party_owner", uniqueConstraints = {
+        @UniqueConstraint(name = PartyOwner.UNIQUE_EMAIL, columnNames = "email")
+})
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = PartyOwner.CACHE_REGION)
 public class PartyOwner {
 
+    /**
+     * Região do cache de segundo nível.
+     */
+
+    public static final String CACHE_REGION = "partyOwner";
+
+    /**
+     * Restrição de unicidade do e-mail do proprietário.
+     */
+
+    public static final String UNIQUE_EMAIL = "uk_party_owner_email";
+
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     @Column(name = "owner_id", nullable = false)
@@ -25,7 +43,7 @@ public class PartyOwner {
     @Column(name = "name", nullable = false)
     private String name;
 
-    @Column(name = "email", nullable = false, unique = true)
+    @Column(name = "email", nullable = false)
     private String email;
 
     @Column(name = "password", nullable = false)
@@ -0,0 +1,60 @@
+package com.ada.holiday_party_planning.model;
+
+import jakarta.persistence.*;
+
+import java.time.Instant;
+
+/**
+ * Representa uma tradução armazenada no cache persistente, para que as traduções mais usadas
+ * sobrevivam a reinicializações da aplicação. A chave é o hash SHA-256 do provedor, da variante
+ * (idiomas ou categoria) e do texto original.
+ */
+
+@Entity
+@Table(name = "translation_cache")
+public class TranslationCacheEntry {
+
+    @Id
+    @Column(name = "cache_key", length = 64, nullable = false)
+    private String cacheKey;
+
+    @Column(name = "translated", nullable = false, length = 4000)
+    private String translated;
+
+    @Column(name = "created_at", nullable = false)
+    private Instant createdAt;
+
+    /**
+     * Construtor padrão.
+     */
+
+    public TranslationCacheEntry() {}
+
+    /**
+     * Construtor para criar uma entrada do cache.
+     *
+     * @param cacheKey Hash que identifica o texto, o provedor e a variante.
+     * @param translated Texto traduzido.
+     * @param createdAt Momento em que a tradução foi obtida.
+     */
+
+    public TranslationCacheEntry(String cacheKey, String translated, Instant createdAt) {
+        this.cacheKey = cacheKey;
+        this.translated = translated;
+        this.createdAt = createdAt;
+    }
+
+    // Getters
+
+    public String getCacheKey() {
+        return cacheKey;
+    }
+
+    public String getTranslated() {
+        return translated;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+}
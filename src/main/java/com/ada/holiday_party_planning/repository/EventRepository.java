@@ -1,10 +1,24 @@
 package com.ada.holiday_party_planning.repository;
 
+import com.ada.holiday_party_planning.dto.EventDTO;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import com.ada.holiday_party_planning.model.Event;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade Event, estendendo a interface JpaRepository para fornecer
@@ -14,4 +28,155 @@ import java.util.UUID;
  */
 
 @Repository
-public interface EventRepository extends JpaRepository <Event,UUID> { }
+public interface EventRepository extends JpaRepository <Event,UUID> {
+
+    /**
+     * Lista os eventos de um dono de festa já projetados em EventDTO.
+     * A consulta filtra pela coluna indexada owner_id no banco, sem carregar as entidades
+     * nem o dono da festa de cada linha.
+     *
+     * @param ownerId O ID do dono da festa.
+     * @return Lista de EventDTO com os eventos do dono da festa.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.ada.holiday_party_planning.dto.EventDTO(" +
+            "e.eventId, e.theme, e.title, e.date, e.place, e.description, " +
+            "e.descriptionTranslateFun, e.funActivate, e.categoryFun, e.translationStatus) " +
+            "from Event e where e.partyOwner.ownerId = :ownerId")
+    List<EventDTO> findAllDTOByOwnerId(@Param("ownerId") UUID ownerId);
+
+    /**
+     * Busca todos os eventos como DTO, em uma única consulta, ordenados pelo ID.
+     *
+     * @return Lista de EventDTO com todos os eventos.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.EventDTO(" +
+            "e.eventId, e.theme, e.title, e.date, e.place, e.description, " +
+            "e.descriptionTranslateFun, e.funActivate, e.categoryFun, e.translationStatus) " +
+            "from Event e order by e.eventId")
+    List<EventDTO> findAllDTO();
+
+    /**
+     * Busca um evento junto com o dono, em uma única consulta.
+     *
+     * @param eventId O ID do evento.
+     * @return O evento com o dono carregado, se existir.
+     */
+
+    @EntityGraph(attributePaths = "partyOwner")
+    Optional<Event> findWithOwnerByEventId(UUID eventId);
+
+    /**
+     * Busca a primeira página da listagem de eventos, ordenada pelo ID (paginação por cursor).
+     *
+     * @param limit Quantidade máxima de eventos da página.
+     * @return Lista de EventDTO da primeira página.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.EventDTO(" +
+            "e.eventId, e.theme, e.title, e.date, e.place, e.description, " +
+            "e.descriptionTranslateFun, e.funActivate, e.categoryFun, e.translationStatus) " +
+            "from Event e order by e.eventId")
+    List<EventDTO> findFirstPageDTO(Limit limit);
+
+    /**
+     * Busca a página seguinte ao cursor informado, usando a chave primária para posicionar
+     * a leitura em vez de OFFSET.
+     *
+     * @param after ID do último evento da página anterior.
+     * @param limit Quantidade máxima de eventos da página.
+     * @return Lista de EventDTO com os eventos seguintes ao cursor.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.EventDTO(" +
+            "e.eventId, e.theme, e.title, e.date, e.place, e.description, " +
+            "e.descriptionTranslateFun, e.funActivate, e.categoryFun, e.translationStatus) " +
+            "from Event e where e.eventId > :after order by e.eventId")
+    List<EventDTO> findPageDTOAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Percorre todos os eventos com um cursor do banco, lendo as linhas em lotes.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de EventDTO com todos os eventos.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.ada.holiday_party_planning.dto.EventDTO(" +
+            "e.eventId, e.theme, e.title, e.date, e.place, e.description, " +
+            "e.descriptionTranslateFun, e.funActivate, e.categoryFun, e.translationStatus) " +
+            "from Event e")
+    Stream<EventDTO> streamAllDTO();
+
+    /**
+     * Linha do resumo de um evento: "ITEM", com a quantidade e o custo dos itens, ou "GUEST",
+     * com a quantidade de convidados de um status.
+     */
+
+    interface SummaryRow {
+
+        String getKind();
+
+        String getStatus();
+
+        long getTotal();
+
+        double getCost();
+    }
+
+    /**
+     * Calcula o resumo de um evento em uma única consulta agregada: a primeira linha traz a
+     * quantidade e o custo dos itens e as demais a quantidade de convidados por status.
+     * Não retorna linhas se o evento não existir.
+     *
+     * @param eventId O ID do evento.
+     * @return As linhas do resumo.
+     */
+
+    @Query(value = "select 'ITEM' as kind, cast(null as varchar(16)) as status, count(i.item_id) as total, " +
+            "coalesce(sum(i.quantity * i.item_value), 0) as cost " +
+            "from events_planned e left join item i on i.event_id = e.event_id " +
+            "where e.event_id = :eventId group by e.event_id " +
+            "union all " +
+            "select 'GUEST', cast(g.status as varchar(16)), count(*), 0 " +
+            "from guests g where g.event_id = :eventId group by g.status",
+            nativeQuery = true)
+    List<SummaryRow> summarizeEvent(@Param("eventId") UUID eventId);
+
+    /**
+     * Exclui o evento com uma única instrução, sem carregar a entidade nem as coleções
+     * de convidados e itens.
+     *
+     * @param eventId O ID do evento.
+     * @return A quantidade de eventos excluídos.
+     */
+
+    @Modifying
+    @Query("delete from Event e where e.eventId = :eventId")
+    int deleteByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Grava o resultado da tradução divertida de um evento. A atualização só é aplicada se a
+     * descrição ainda for a que foi traduzida, para que uma tradução atrasada não sobrescreva
+     * a de uma descrição mais recente. Em caso de falha a tradução é apagada, já que a anterior
+     * seria de outra descrição.
+     *
+     * @param eventId O ID do evento.
+     * @param description Descrição que foi traduzida.
+     * @param translated Texto traduzido, ou null se a tradução falhou.
+     * @param status Novo status da tradução.
+     * @return A quantidade de eventos atualizados.
+     */
+
+    @Modifying
+    @Transactional
+    @Query("update Event e set e.descriptionTranslateFun = :translated, " +
+            "e.translationStatus = :status " +
+            "where e.eventId = :eventId and e.description = :description")
+    int updateTranslation(@Param("eventId") UUID eventId,
+                          @Param("description") String description,
+                          @Param("translated") String translated,
+                          @Param("status") TranslationStatusEnum status);
+}
@@ -0,0 +1,16 @@
+package com.ada.holiday_party_planning.repository;
+
+import com.ada.holiday_party_planning.model.EventSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.UUID;
+
+/**
+ * Repositório do resumo materializado dos eventos. As linhas são mantidas por
+ * {@link com.ada.holiday_party_planning.config.EventSummaryListener}.
+ */
+
+@Repository
+public interface EventSummaryRepository extends JpaRepository<EventSummary, UUID> {
+}
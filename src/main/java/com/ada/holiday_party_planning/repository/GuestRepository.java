@@ -1,33 +1,128 @@
 package com.ada.holiday_party_planning.repository;
 
+import com.ada.holiday_party_planning.dto.GuestDTO;
 import com.ada.holiday_party_planning.model.Event;
 import com.ada.holiday_party_planning.model.Guest;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade Guest, estendendo a interface JpaRepository para fornecer
  * funcionalidades padrão de persistência de dados, como salvar, excluir, encontrar e listar convidados.
  *
- * Além disso, contém um método customizado para buscar um convidado por email.
- *
  * O Spring Data JPA automaticamente implementa essa interface para interagir com o banco de dados.
  */
 @Repository
 public interface GuestRepository extends JpaRepository<Guest, UUID> {
 
+    List<Guest> findByEvent(Event event);
+
     /**
-     * Método customizado para encontrar um convidado pelo seu email.
+     * Verifica se o evento possui ao menos um convidado confirmado.
+     * A consulta é atendida pelo índice (event_id, is_confirmed) da tabela guests.
      *
-     * @param email O email do convidado a ser encontrado.
-     * @return Um Optional contendo o convidado encontrado, se presente.
+     * @param eventId O ID do evento.
+     * @return true se existir convidado confirmado, false caso contrário.
      */
 
-    Optional<Guest> findByEmail(String email);
+    boolean existsByEventEventIdAndIsConfirmedTrue(UUID eventId);
 
-    List<Guest> findByEvent(Event event);
+    /**
+     * Busca os e-mails já convidados para o evento, lidos do índice único (event_id, email).
+     *
+     * @param eventId O ID do evento.
+     * @return Os e-mails dos convidados do evento.
+     */
+
+    @Query("select g.email from Guest g where g.event.eventId = :eventId")
+    Set<String> findEmailsByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Busca, em ordem alfabética, os e-mails dos convidados do evento, sem carregar as entidades.
+     *
+     * @param eventId O ID do evento.
+     * @return Os e-mails dos convidados do evento.
+     */
+
+    @Query("select g.email from Guest g where g.event.eventId = :eventId order by g.email")
+    List<String> findRecipientEmailsByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Filtra, entre os IDs informados, os que pertencem a convidados existentes.
+     *
+     * @param guestIds Os IDs dos convidados.
+     * @return Os IDs encontrados.
+     */
+
+    @Query("select g.guestId from Guest g where g.guestId in :guestIds")
+    Set<UUID> findExistingGuestIds(@Param("guestIds") Collection<UUID> guestIds);
+
+    /**
+     * Exclui, em uma única instrução, todos os convidados de um evento.
+     *
+     * @param eventId O ID do evento.
+     * @return A quantidade de convidados excluídos.
+     */
+
+    @Modifying
+    @Query("delete from Guest g where g.event.eventId = :eventId")
+    int deleteAllByEventId(@Param("eventId") UUID eventId);
+
+    /**
+     * Busca todos os convidados como DTO, em uma única consulta, ordenados pelo ID.
+     *
+     * @return Lista de GuestDTO com todos os convidados.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.GuestDTO(g.guestId, g.name, g.email, g.status) " +
+            "from Guest g order by g.guestId")
+    List<GuestDTO> findAllDTO();
+
+    /**
+     * Busca a primeira página da listagem de convidados, ordenada pelo ID (paginação por cursor).
+     *
+     * @param limit Quantidade máxima de convidados da página.
+     * @return Lista de GuestDTO da primeira página.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.GuestDTO(g.guestId, g.name, g.email, g.status) " +
+            "from Guest g order by g.guestId")
+    List<GuestDTO> findFirstPageDTO(Limit limit);
+
+    /**
+     * Busca a página seguinte ao cursor informado, usando a chave primária para posicionar a leitura.
+     *
+     * @param after ID do último convidado da página anterior.
+     * @param limit Quantidade máxima de convidados da página.
+     * @return Lista de GuestDTO com os convidados seguintes ao cursor.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.GuestDTO(g.guestId, g.name, g.email, g.status) " +
+            "from Guest g where g.guestId > :after order by g.guestId")
+    List<GuestDTO> findPageDTOAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Percorre todos os convidados com um cursor do banco, lendo as linhas em lotes.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de GuestDTO com todos os convidados.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.ada.holiday_party_planning.dto.GuestDTO(g.guestId, g.name, g.email, g.status) " +
+            "from Guest g")
+    Stream<GuestDTO> streamAllDTO();
 }
@@ -1,9 +1,19 @@
 package com.ada.holiday_party_planning.repository;
 
+import com.ada.holiday_party_planning.dto.ItemDTO;
 import com.ada.holiday_party_planning.model.Item;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -13,5 +23,56 @@ import java.util.UUID;
  * O Spring Data JPA automaticamente implementa essa interface para interagir com o banco de dados.
  */
 @Repository
-public interface ItemRepository extends JpaRepository<Item, UUID> { }
+public interface ItemRepository extends JpaRepository<Item, UUID> {
+
+    /**
+     * Lista os itens de um evento já projetados em ItemDTO, filtrando pela coluna indexada event_id.
+     * O convidado associado vem no mesmo select por meio de um left join.
+     *
+     * @param eventId O ID do evento.
+     * @param pageable A página desejada, ou Pageable.unpaged() para todos os itens.
+     * @return Lista de ItemDTO com os itens do evento.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.ada.holiday_party_planning.dto.ItemDTO(" +
+            "i.itemId, i.name, i.quantity, i.value, g.guestId, g.name, g.email, g.status) " +
+            "from Item i left join i.guest g where i.event.eventId = :eventId order by i.name, i.itemId")
+    List<ItemDTO> findAllDTOByEventId(@Param("eventId") UUID eventId, Pageable pageable);
+
+    /**
+     * Lista os itens associados a um convidado já projetados em ItemDTO, filtrando pela coluna indexada guest_id.
+     *
+     * @param guestId O ID do convidado.
+     * @param pageable A página desejada, ou Pageable.unpaged() para todos os itens.
+     * @return Lista de ItemDTO com os itens do convidado.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
+    @Query("select new com.ada.holiday_party_planning.dto.ItemDTO(" +
+            "i.itemId, i.name, i.quantity, i.value, g.guestId, g.name, g.email, g.status) " +
+            "from Item i join i.guest g where g.guestId = :guestId order by i.name, i.itemId")
+    List<ItemDTO> findAllDTOByGuestId(@Param("guestId") UUID guestId, Pageable pageable);
+
+    /**
+     * Busca os itens informados em uma única consulta. O evento e o convidado atual ficam como
+     * proxies, sem serem carregados.
+     *
+     * @param itemIds Os IDs dos itens.
+     * @return Os itens encontrados.
+     */
+
+    List<Item> findAllByItemIdIn(Collection<UUID> itemIds);
+
+    /**
+     * Exclui, em uma única instrução, todos os itens de um evento.
+     *
+     * @param eventId O ID do evento.
+     * @return A quantidade de itens excluídos.
+     */
+
+    @Modifying
+    @Query("delete from Item i where i.event.eventId = :eventId")
+    int deleteAllByEventId(@Param("eventId") UUID eventId);
+}
 
@@ -0,0 +1,91 @@
+package com.ada.holiday_party_planning.repository;
+
+import com.ada.holiday_party_planning.enums.OutboxStatusEnum;
+import com.ada.holiday_party_planning.model.OutboxMessage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Interface de repositório para a fila de saída de e-mails (outbox).
+ */
+
+@Repository
+public interface OutboxMessageRepository extends JpaRepository<OutboxMessage, UUID> {
+
+    /**
+     * Quantidade de e-mails de um envio em lote com um status.
+     */
+
+    interface JobCount {
+
+        UUID getEventId();
+
+        OutboxStatusEnum getStatus();
+
+        long getTotal();
+    }
+
+    /**
+     * Bloqueia e retorna os próximos e-mails disponíveis para envio, do mais antigo para o mais
+     * novo, pulando as linhas já bloqueadas por outra transação (FOR UPDATE SKIP LOCKED). Vários nós
+     * podem chamar a consulta ao mesmo tempo sem receber as mesmas linhas. Deve ser chamada dentro
+     * de uma transação.
+     * <p>
+     * A ordem por available_at impede que e-mails reagendados fiquem esperando atrás de envios
+     * novos. Usada no Postgres; no H2, veja {@link #claimAvailableUnordered}.
+     *
+     * @param now Momento atual; só retorna e-mails com available_at anterior a ele.
+     * @param limit Quantidade máxima de e-mails.
+     * @return Os e-mails bloqueados.
+     */
+
+    @Query(value = "select * from " + OutboxMessage.TABLE + " where status = 'PENDING' and available_at <= :now " +
+            "order by available_at fetch first :limit rows only for update skip locked",
+            nativeQuery = true)
+    List<OutboxMessage> claimAvailable(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Mesma reserva de {@link #claimAvailable}, sem ORDER BY. No H2, a ordenação faz o limite ser
+     * aplicado antes de pular as linhas bloqueadas, e um segundo nó receberia um lote vazio mesmo
+     * com a fila cheia. Não garante a ordem de envio.
+     *
+     * @param now Momento atual; só retorna e-mails com available_at anterior a ele.
+     * @param limit Quantidade máxima de e-mails.
+     * @return Os e-mails bloqueados.
+     */
+
+    @Query(value = "select * from " + OutboxMessage.TABLE + " where status = 'PENDING' and available_at <= :now " +
+            "fetch first :limit rows only for update skip locked",
+            nativeQuery = true)
+    List<OutboxMessage> claimAvailableUnordered(@Param("now") Instant now, @Param("limit") int limit);
+
+    /**
+     * Conta os e-mails de um envio em lote por status.
+     *
+     * @param jobId ID do envio.
+     * @return Uma linha por status presente no envio; vazia se o envio não existir.
+     */
+
+    @Query("select m.eventId as eventId, m.status as status, count(m) as total " +
+            "from OutboxMessage m where m.jobId = :jobId group by m.eventId, m.status")
+    List<JobCount> countByJobId(@Param("jobId") UUID jobId);
+
+    /**
+     * Exclui os e-mails já concluídos (enviados ou com falha definitiva) antes do momento informado.
+     *
+     * @param threshold Momento limite de criação.
+     * @return A quantidade de e-mails excluídos.
+     */
+
+    @Modifying
+    @Query("delete from OutboxMessage m where m.status <> com.ada.holiday_party_planning.enums.OutboxStatusEnum.PENDING " +
+            "and m.createdAt < :threshold")
+    int deleteFinishedBefore(@Param("threshold") Instant threshold);
+}
@@ -2,12 +2,20 @@ package com.ada.holiday_party_planning.repository;
 
 import com.ada.holiday_party_planning.dto.PartyOwnerDTO;
 import com.ada.holiday_party_planning.model.PartyOwner;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import javax.swing.text.html.Option;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Interface de repositório para a entidade PartyOwner, estendendo a interface JpaRepository para fornecer
@@ -25,5 +33,41 @@ public interface PartyOwnerRepository extends JpaRepository<PartyOwner,UUID>{
      * @return Um Optional contendo o PartyOwner, se encontrado.
      */
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<PartyOwner> findByEmail(String email);
+
+    /**
+     * Busca a primeira página da listagem de donos de festa, ordenada pelo ID (paginação por cursor).
+     *
+     * @param limit Quantidade máxima de donos de festa da página.
+     * @return Lista de PartyOwnerDTO da primeira página.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.PartyOwnerDTO(o.ownerId, o.name, o.email) " +
+            "from PartyOwner o order by o.ownerId")
+    List<PartyOwnerDTO> findFirstPageDTO(Limit limit);
+
+    /**
+     * Busca a página seguinte ao cursor informado, usando a chave primária para posicionar a leitura.
+     *
+     * @param after ID do último dono de festa da página anterior.
+     * @param limit Quantidade máxima de donos de festa da página.
+     * @return Lista de PartyOwnerDTO com os donos de festa seguintes ao cursor.
+     */
+
+    @Query("select new com.ada.holiday_party_planning.dto.PartyOwnerDTO(o.ownerId, o.name, o.email) " +
+            "from PartyOwner o where o.ownerId > :after order by o.ownerId")
+    List<PartyOwnerDTO> findPageDTOAfter(@Param("after") UUID after, Limit limit);
+
+    /**
+     * Percorre todos os donos de festa com um cursor do banco, lendo as linhas em lotes.
+     * Deve ser consumido dentro de uma transação e fechado ao final.
+     *
+     * @return Stream de PartyOwnerDTO com todos os donos de festa.
+     */
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("select new com.ada.holiday_party_planning.dto.PartyOwnerDTO(o.ownerId, o.name, o.email) " +
+            "from PartyOwner o")
+    Stream<PartyOwnerDTO> streamAllDTO();
 }
@@ -0,0 +1,13 @@
+package com.ada.holiday_party_planning.repository;
+
+import com.ada.holiday_party_planning.model.TranslationCacheEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Interface de repositório para o cache persistente de traduções.
+ */
+
+@Repository
+public interface TranslationCacheRepository extends JpaRepository<TranslationCacheEntry, String> {
+}
@@ -5,6 +5,7 @@ import com.ada.holiday_party_planning.model.PartyOwner;
 import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
@@ -12,7 +13,7 @@ import org.springframework.stereotype.Service;
 import java.util.ArrayList;
 
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final PartyOwnerRepository partyOwnerRepository;
 
@@ -32,4 +33,19 @@ public class CustomUserDetailsService implements UserDetailsService {
         );
     }
 
+    /**
+     * Grava o novo hash da senha quando o custo do BCrypt configurado mudou. Chamado pelo
+     * DaoAuthenticationProvider após uma autenticação HTTP Basic bem-sucedida.
+     */
+
+    @Override
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        partyOwnerRepository.findByEmail(user.getUsername()).ifPresent(partyOwner -> {
+            partyOwner.setPassword(newPassword);
+            partyOwnerRepository.save(partyOwner);
+        });
+
+        return User.withUserDetails(user).password(newPassword).build();
+    }
+
 }
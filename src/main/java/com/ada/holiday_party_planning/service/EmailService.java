@@ -1,16 +1,21 @@
 package com.ada.holiday_party_planning.service;
 
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
+import com.ada.holiday_party_planning.util.EmailTemplate;
+import com.ada.holiday_party_planning.util.InviteBatchRenderer;
+import com.ada.holiday_party_planning.util.SmtpTransportPool;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.core.io.ClassPathResource;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 import org.springframework.stereotype.Service;
 
-import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 @Service
@@ -18,9 +23,22 @@ public class EmailService {
 
     private final JavaMailSender javaMailSender;
 
+    private final SmtpTransportPool transportPool;
+
+    private final EmailTemplate template;
+
+    private final InviteBatchRenderer batchRenderer;
+
     @Autowired
-    EmailService(JavaMailSender javaMailSender) {
+    EmailService(JavaMailSender javaMailSender, SmtpTransportPool transportPool) {
         this.javaMailSender = javaMailSender;
+        this.transportPool = transportPool;
+        this.template = EmailTemplate.fromClasspath("template-email.html");
+        this.batchRenderer = new InviteBatchRenderer(template);
+    }
+
+    EmailService(JavaMailSender javaMailSender) {
+        this(javaMailSender, null);
     }
 
     @Value("${spring.mail.username}")
@@ -28,33 +46,98 @@ public class EmailService {
 
     public void sendEmail(String to, String subject, Map<String, String> variables) throws MessagingException {
 
+        if (transportPool != null) {
+            MessagingException failure = sendEmails(List.of(new EmailMessageDTO(to, subject, variables))).get(0);
+            if (failure != null) {
+                throw failure;
+            }
+            return;
+        }
+
         try {
-            MimeMessage message = javaMailSender.createMimeMessage();
-            MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
+            javaMailSender.send(createMessage(to, subject, variables));
+        } catch (Exception e) {
+            throw new MessagingException("Failed to send email", e);
+        }
+    }
 
-            String html = processTemplate(variables);
+    /**
+     * Envia um lote de e-mails reaproveitando uma única conexão SMTP autenticada do pool.
+     * E-mails com o mesmo assunto e as mesmas variáveis (os convites de um evento) compartilham o
+     * corpo MIME, renderizado e codificado uma vez só pelo {@link InviteBatchRenderer}.
+     * A falha de um e-mail não interrompe o envio dos demais.
+     *
+     * @param emails E-mails a enviar.
+     * @return Uma posição por e-mail, na mesma ordem: null se o e-mail foi enviado, ou a falha.
+     */
+
+    public List<MessagingException> sendEmails(List<EmailMessageDTO> emails) {
+        List<MessagingException> failures = new ArrayList<>(emails.size());
+        List<MimeMessage> messages = new ArrayList<>(emails.size());
+        List<Integer> positions = new ArrayList<>(emails.size());
+        Map<List<Object>, InviteBatchRenderer.Batch> batches = new HashMap<>();
+        for (EmailMessageDTO email : emails) {
+            try {
+                messages.add(transportPool != null
+                        ? batch(batches, email).createMessage(email.getTo())
+                        : createMessage(email.getTo(), email.getSubject(), email.getVariables()));
+                positions.add(failures.size());
+                failures.add(null);
+            } catch (Exception e) {
+                failures.add(new MessagingException("Failed to send email", e));
+            }
+        }
 
-            helper.setFrom(from);
-            helper.setTo(to);
-            helper.setSubject(subject);
-            helper.setText(html, true);
+        List<MessagingException> sendFailures = send(messages);
+        for (int i = 0; i < positions.size(); i++) {
+            failures.set(positions.get(i), sendFailures.get(i));
+        }
+        return failures;
+    }
 
-            javaMailSender.send(message);
+    private InviteBatchRenderer.Batch batch(Map<List<Object>, InviteBatchRenderer.Batch> batches, EmailMessageDTO email)
+            throws MessagingException {
+        List<Object> key = List.of(email.getSubject(), email.getVariables());
+        InviteBatchRenderer.Batch batch = batches.get(key);
+        if (batch == null) {
+            batch = batchRenderer.prepare(transportPool.getSession(), from, email.getSubject(), email.getVariables());
+            batches.put(key, batch);
+        }
+        return batch;
+    }
 
-        } catch (Exception e) {
-            throw new MessagingException("Failed to send email", e);
+    private List<MessagingException> send(List<MimeMessage> messages) {
+        if (transportPool != null) {
+            try {
+                return transportPool.send(messages);
+            } catch (MessagingException e) {
+                return messages.stream().map(message -> e).toList();
+            }
         }
+
+        List<MessagingException> failures = new ArrayList<>(messages.size());
+        for (MimeMessage message : messages) {
+            try {
+                javaMailSender.send(message);
+                failures.add(null);
+            } catch (Exception e) {
+                failures.add(new MessagingException("Failed to send email", e));
+            }
+        }
+        return failures;
     }
 
-    private String processTemplate(Map<String, String> variables) throws IOException {
-        ClassPathResource resource = new ClassPathResource("template-email.html");
-        String template = new String(resource.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+    private MimeMessage createMessage(String to, String subject, Map<String, String> variables) throws MessagingException {
+        MimeMessage message = javaMailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED, StandardCharsets.UTF_8.name());
 
+        String html = template.render(variables);
 
-        for (Map.Entry<String, String> entry : variables.entrySet()) {
-            template = template.replace("{{" + entry.getKey() + "}}", entry.getValue());
-        }
+        helper.setFrom(from);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(html, true);
 
-        return template;
+        return message;
     }
 }
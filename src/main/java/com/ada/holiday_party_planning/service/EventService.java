@@ -1,35 +1,44 @@
 package com.ada.holiday_party_planning.service;
 
 import com.ada.holiday_party_planning.dto.CreateEventDTO;
+import com.ada.holiday_party_planning.dto.CursorPageDTO;
+import com.ada.holiday_party_planning.dto.EventDTO;
 import com.ada.holiday_party_planning.dto.EventWithPartyOwnerDTO;
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
 import com.ada.holiday_party_planning.dto.UpdateEventDTO;
 import com.ada.holiday_party_planning.enums.CategoryFun;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import com.ada.holiday_party_planning.exceptions.EventDeleteConflictException;
 import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
 import com.ada.holiday_party_planning.exceptions.PartyOwnerNotFoundException;
 import com.ada.holiday_party_planning.mappers.EventMapper;
 import com.ada.holiday_party_planning.model.Event;
-import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.model.PartyOwner;
 import com.ada.holiday_party_planning.repository.EventRepository;
 import com.ada.holiday_party_planning.repository.GuestRepository;
 import com.ada.holiday_party_planning.repository.ItemRepository;
 import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
-import com.ada.holiday_party_planning.util.APIFunTranslation;
-import com.ada.holiday_party_planning.util.APIGoogleTranslate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Service
 public class EventService {
 
+    private static final Logger log = LoggerFactory.getLogger(EventService.class);
+
     @Autowired
     private EventRepository eventRepository;
     @Autowired
@@ -39,11 +48,9 @@ public class EventService {
     @Autowired
     private ItemRepository itemRepository;
     @Autowired
-    private EmailService emailService;
-    @Autowired
-    APIGoogleTranslate apiGoogleTranslate;
+    private InviteDispatchService inviteDispatchService;
     @Autowired
-    APIFunTranslation apiFunTranslation;
+    private FunTranslationService funTranslationService;
 
 
     public Event createEvent(UUID ownerID, CreateEventDTO createEventDTO) {
@@ -51,16 +58,10 @@ public class EventService {
         PartyOwner partyOwner = partyOwnerRepository.findById(ownerID)
                 .orElseThrow(PartyOwnerNotFoundException::new);
         Event event = eventMapper.createDTOToModel(createEventDTO, partyOwner);
-        if (event.getFunActivate()) {
-            try {
-                CategoryFun category = CategoryFun.valueOf(event.getCategoryFun().toLowerCase());
-                String mensagemTraduzida = translateFun(event.getDescription(), category);
-                event.setDescriptionTranslateFun(mensagemTraduzida);
-            } catch (IllegalArgumentException e) {
-                System.out.println("Erro: Categoria não encontrada para a descrição do evento.");
-            }
-        }
-        return eventRepository.save(event);
+        CategoryFun category = prepareTranslation(event);
+        Event savedEvent = eventRepository.save(event);
+        scheduleTranslation(savedEvent, category);
+        return savedEvent;
     }
 
 
@@ -73,21 +74,31 @@ public class EventService {
         event.setPlace(updateEventDTO.getPlace());
         event.setDescription(updateEventDTO.getDescription());
         event.setFunActivate(updateEventDTO.getFunActivate());
-        if (event.getFunActivate()) {
-            try {
-                CategoryFun category = CategoryFun.valueOf(event.getCategoryFun().toLowerCase());
-                String mensagemTraduzida = translateFun(event.getDescription(), category);
-                event.setDescriptionTranslateFun(mensagemTraduzida);
-            } catch (IllegalArgumentException e) {
-                System.out.println("Erro: Categoria não encontrada para a descrição do evento.");
-            }
-        }
-        eventRepository.save(event);
+        CategoryFun category = prepareTranslation(event);
+        Event savedEvent = eventRepository.save(event);
+        scheduleTranslation(savedEvent, category);
+    }
+
+
+    public List<EventDTO> listAllEvent() {
+        return eventRepository.findAllDTO();
     }
 
 
-    public List<Event> listAllEvent() {
-        return eventRepository.findAll();
+    public CursorPageDTO<EventDTO> listEventsPage(UUID after, Integer limit) {
+        int pageSize = CursorPageDTO.normalizeLimit(limit);
+        List<EventDTO> events = after == null
+                ? eventRepository.findFirstPageDTO(Limit.of(pageSize))
+                : eventRepository.findPageDTOAfter(after, Limit.of(pageSize));
+        return CursorPageDTO.of(events, pageSize, EventDTO::getEventID);
+    }
+
+
+    @Transactional(readOnly = true)
+    public void streamAllEvents(Consumer<EventDTO> consumer) {
+        try (Stream<EventDTO> events = eventRepository.streamAllDTO()) {
+            events.forEach(consumer);
+        }
     }
 
 
@@ -98,65 +109,82 @@ public class EventService {
     }
 
 
+    @Transactional
     public void deleteEvent(UUID eventID) throws ResponseStatusException {
-        List<Guest> guests = guestRepository.findAll();
-
-        boolean hasConfirmedGuest = guests.stream()
-                .filter(guest -> eventID.equals(guest.getEvent().getEventId()))
-                .anyMatch(Guest::isConfirmed);
-
-        if (hasConfirmedGuest) {
+        if (guestRepository.existsByEventEventIdAndIsConfirmedTrue(eventID)) {
             throw new EventDeleteConflictException();
         }
 
-        guestRepository.findAll().stream()
-                .filter(guest -> eventID.equals(guest.getEvent().getEventId()))
-                .forEach(guest -> guestRepository.deleteById(guest.getGuestId()));
-
-        itemRepository.findAll().stream()
-                .filter(item -> eventID.equals(item.getEvent().getEventId()))
-                .forEach(item -> itemRepository.deleteById(item.getItemId()));
-
-        eventRepository.deleteById(eventID);
+        itemRepository.deleteAllByEventId(eventID);
+        guestRepository.deleteAllByEventId(eventID);
+        eventRepository.deleteByEventId(eventID);
     }
 
 
-    @Async
-    public String translateFun(String message, CategoryFun category) {
-        if (message != null) {
-            String textTranslate = apiGoogleTranslate.translateMessage(message, "pt-br", "en");
-            String translatedText = apiFunTranslation.translateFun(textTranslate, category.name().toLowerCase());
+    /**
+     * Define o status da tradução divertida antes de salvar o evento. Enquanto a tradução está
+     * pendente, ou se ela não puder ser feita, a tradução anterior é apagada, pois era de outra
+     * descrição.
+     *
+     * @return Categoria a ser traduzida em segundo plano, ou null se não houver tradução a fazer.
+     */
 
-            if (category.isRepeat()) {
-                translatedText = apiGoogleTranslate.translateMessage(translatedText, "en", "pt-br");
-            }
+    private CategoryFun prepareTranslation(Event event) {
+        if (!Boolean.TRUE.equals(event.getFunActivate())) {
+            event.setTranslationStatus(null);
+            return null;
+        }
+        if (event.getDescription() == null) {
+            event.setDescriptionTranslateFun("");
+            event.setTranslationStatus(TranslationStatusEnum.DONE);
+            return null;
+        }
+        try {
+            CategoryFun category = CategoryFun.valueOf(String.valueOf(event.getCategoryFun()).toLowerCase());
+            event.setDescriptionTranslateFun(null);
+            event.setTranslationStatus(TranslationStatusEnum.PENDING);
+            return category;
+        } catch (IllegalArgumentException e) {
+            log.warn("Unknown fun translation category '{}' for event {}", event.getCategoryFun(), event.getEventId());
+            event.setDescriptionTranslateFun(null);
+            event.setTranslationStatus(TranslationStatusEnum.FAILED);
+            return null;
+        }
+    }
 
-            return translatedText;
+    private void scheduleTranslation(Event event, CategoryFun category) {
+        if (category == null) {
+            return;
+        }
+        try {
+            funTranslationService.translateEvent(event.getEventId(), event.getDescription(), category);
+        } catch (TaskRejectedException e) {
+            log.warn("Translation queue is full, event {} will not be translated", event.getEventId());
+            eventRepository.updateTranslation(event.getEventId(), event.getDescription(), null, TranslationStatusEnum.FAILED);
         }
-        return "";
     }
 
-    public void sendInvites(UUID eventId) {
+    @Transactional
+    public Optional<InviteJobDTO> sendInvites(UUID eventId) {
 
-        Event event = eventRepository.findById(eventId)
+        Event event = eventRepository.findWithOwnerByEventId(eventId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "Event not found."));
-        List<Guest> guests = guestRepository.findByEvent(event);
+        List<String> recipients = guestRepository.findRecipientEmailsByEventId(eventId);
 
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("dd/MM/yyyy, HH:mm");
 
-        for (Guest guest : guests) {
-            Map<String, String> variables = new HashMap<>();
-            variables.put("eventTitle", event.getTitle());
-            variables.put("hostName", event.getOwner().getName());
-            variables.put("eventDate", event.getDate().format(formatter));
-            variables.put("eventLocation", event.getPlace());
-            variables.put("eventLink", "http://localhost:8080/events/" + event.getEventId());
-
-            try {
-                emailService.sendEmail(guest.getEmail(), "You're Invited!", variables);
-            } catch (Exception e) {
-                throw new ResponseStatusException(HttpStatus.INTERNAL_SERVER_ERROR, "Failed to send email.");
-            }
-        }
+        Map<String, String> variables = new HashMap<>();
+        variables.put("eventTitle", event.getTitle());
+        variables.put("hostName", event.getOwner().getName());
+        variables.put("eventDate", event.getDate().format(formatter));
+        variables.put("eventLocation", event.getPlace());
+        variables.put("eventLink", "http://localhost:8080/events/" + event.getEventId());
+
+        return inviteDispatchService.dispatch(event.getEventId(), "You're Invited!", recipients, variables);
+    }
+
+
+    public InviteJobDTO inviteJobStatus(UUID jobId) {
+        return inviteDispatchService.getJob(jobId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,102 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.EventSummaryDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
+import com.ada.holiday_party_planning.model.EventSummary;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.EventSummaryRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Resumo de um evento (itens, custo total e convidados por status) calculado no banco, sem
+ * carregar as coleções de itens e convidados.
+ * <p>
+ * Por padrão o resumo vem de uma consulta agregada. Com {@code events.summary.materialized}
+ * ativo, é lido da tabela event_summary, mantida de forma incremental a cada gravação; eventos
+ * sem linha na tabela (criados antes de a opção ser ativada) continuam usando a consulta agregada.
+ */
+
+@Service
+public class EventSummaryService {
+
+    private final EventRepository eventRepository;
+    private final EventSummaryRepository eventSummaryRepository;
+    private final boolean materialized;
+
+    public EventSummaryService(EventRepository eventRepository, EventSummaryRepository eventSummaryRepository,
+                               @Value("${events.summary.materialized:false}") boolean materialized) {
+        this.eventRepository = eventRepository;
+        this.eventSummaryRepository = eventSummaryRepository;
+        this.materialized = materialized;
+    }
+
+    /**
+     * Retorna o resumo do evento.
+     *
+     * @param eventId ID do evento.
+     * @return Quantidade de itens, custo total e quantidade de convidados por status.
+     * @throws EventNotFoundException Se o evento não existir.
+     */
+
+    public EventSummaryDTO summarize(UUID eventId) {
+        if (materialized) {
+            Optional<EventSummary> summary = eventSummaryRepository.findById(eventId);
+            if (summary.isPresent()) {
+                return toDTO(summary.get());
+            }
+        }
+        return aggregate(eventId);
+    }
+
+    /**
+     * Calcula o resumo com a consulta agregada, ignorando a tabela materializada.
+     *
+     * @param eventId ID do evento.
+     * @return Quantidade de itens, custo total e quantidade de convidados por status.
+     * @throws EventNotFoundException Se o evento não existir.
+     */
+
+    public EventSummaryDTO aggregate(UUID eventId) {
+        List<EventRepository.SummaryRow> rows = eventRepository.summarizeEvent(eventId);
+        if (rows.isEmpty()) {
+            throw new EventNotFoundException();
+        }
+
+        long itemCount = 0;
+        double totalCost = 0;
+        Map<GuestStatusEnum, Long> guests = emptyGuestCounts();
+        for (EventRepository.SummaryRow row : rows) {
+            if ("ITEM".equals(row.getKind())) {
+                itemCount = row.getTotal();
+                totalCost = row.getCost();
+            } else {
+                guests.put(GuestStatusEnum.valueOf(row.getStatus()), row.getTotal());
+            }
+        }
+        return new EventSummaryDTO(eventId, itemCount, totalCost, guests);
+    }
+
+    private static EventSummaryDTO toDTO(EventSummary summary) {
+        Map<GuestStatusEnum, Long> guests = emptyGuestCounts();
+        guests.put(GuestStatusEnum.PENDING, summary.getPendingGuests());
+        guests.put(GuestStatusEnum.CONFIRMED, summary.getConfirmedGuests());
+        guests.put(GuestStatusEnum.DECLINED, summary.getDeclinedGuests());
+        return new EventSummaryDTO(summary.getEventId(), summary.getItemCount(), summary.getTotalCost(), guests);
+    }
+
+    private static Map<GuestStatusEnum, Long> emptyGuestCounts() {
+        Map<GuestStatusEnum, Long> guests = new EnumMap<>(GuestStatusEnum.class);
+        for (GuestStatusEnum status : GuestStatusEnum.values()) {
+            guests.put(status, 0L);
+        }
+        return guests;
+    }
+}
@@ -0,0 +1,133 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.enums.CategoryFun;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.util.APIFunTranslation;
+import com.ada.holiday_party_planning.util.APIGoogleTranslate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serviço responsável pela tradução divertida da descrição dos eventos.
+ * <p>
+ * A tradução roda no executor "translationExecutor", fora da requisição que criou ou atualizou
+ * o evento. Falhas são repetidas com espera exponencial e, ao final, o resultado e o status
+ * da tradução são gravados no evento. A espera entre tentativas não ocupa uma thread do
+ * executor: a próxima tentativa é reenviada a ele depois do intervalo, e se a fila estiver cheia
+ * a tradução é gravada como falha.
+ */
+
+@Service
+public class FunTranslationService {
+
+    private static final Logger log = LoggerFactory.getLogger(FunTranslationService.class);
+
+    private final APIGoogleTranslate apiGoogleTranslate;
+    private final APIFunTranslation apiFunTranslation;
+    private final EventRepository eventRepository;
+    private final Executor translationExecutor;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+
+    public FunTranslationService(APIGoogleTranslate apiGoogleTranslate,
+                                 APIFunTranslation apiFunTranslation,
+                                 EventRepository eventRepository,
+                                 @Qualifier("translationExecutor") Executor translationExecutor,
+                                 @Value("${translation.async.max-attempts:3}") int maxAttempts,
+                                 @Value("${translation.async.initial-backoff-ms:15000}") long initialBackoffMs) {
+        this.apiGoogleTranslate = apiGoogleTranslate;
+        this.apiFunTranslation = apiFunTranslation;
+        this.eventRepository = eventRepository;
+        this.translationExecutor = translationExecutor;
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+    }
+
+    /**
+     * Traduz a descrição de um evento em segundo plano e grava o resultado.
+     * A gravação só acontece se a descrição do evento não tiver mudado nesse meio tempo.
+     *
+     * @param eventId ID do evento.
+     * @param description Descrição a ser traduzida.
+     * @param category Categoria da tradução divertida.
+     */
+
+    @Async("translationExecutor")
+    public void translateEvent(UUID eventId, String description, CategoryFun category) {
+        attempt(eventId, description, category, 1, initialBackoffMs);
+    }
+
+    /**
+     * Traduz uma mensagem para a categoria informada: pt-br para inglês, tradução divertida
+     * e, dependendo da categoria, de volta para pt-br.
+     *
+     * @param message Mensagem a ser traduzida.
+     * @param category Categoria da tradução divertida.
+     * @return Texto traduzido, ou null se alguma das etapas falhar.
+     */
+
+    public String translate(String message, CategoryFun category) {
+        String textTranslate = apiGoogleTranslate.translateMessage(message, "pt-br", "en");
+        if (textTranslate == null) {
+            return null;
+        }
+        String translatedText = apiFunTranslation.translateFun(textTranslate, category.name().toLowerCase());
+
+        if (translatedText != null && category.isRepeat()) {
+            translatedText = apiGoogleTranslate.translateMessage(translatedText, "en", "pt-br");
+        }
+
+        return translatedText;
+    }
+
+    private void attempt(UUID eventId, String description, CategoryFun category, int attempt, long backoff) {
+        String translated = null;
+        try {
+            translated = translate(description, category);
+            if (translated == null) {
+                log.warn("Translation of event {} returned no result (attempt {}/{})", eventId, attempt, maxAttempts);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Translation of event {} failed (attempt {}/{}): {}", eventId, attempt, maxAttempts, e.toString());
+        }
+
+        if (translated == null && attempt < maxAttempts) {
+            retryLater(eventId, description, category, attempt + 1, backoff);
+            return;
+        }
+        if (translated == null) {
+            log.error("Giving up translating event {} after {} attempts", eventId, maxAttempts);
+        }
+        record(eventId, description, translated);
+    }
+
+    private void retryLater(UUID eventId, String description, CategoryFun category, int attempt, long backoff) {
+        CompletableFuture.delayedExecutor(backoff, TimeUnit.MILLISECONDS).execute(() -> {
+            try {
+                translationExecutor.execute(() -> attempt(eventId, description, category, attempt, backoff * 2));
+            } catch (RejectedExecutionException e) {
+                log.warn("Translation queue is full, giving up on event {} before attempt {}", eventId, attempt);
+                record(eventId, description, null);
+            }
+        });
+    }
+
+    private void record(UUID eventId, String description, String translated) {
+        TranslationStatusEnum status = translated != null ? TranslationStatusEnum.DONE : TranslationStatusEnum.FAILED;
+        int updated = eventRepository.updateTranslation(eventId, description, translated, status);
+        if (updated == 0) {
+            log.debug("Event {} changed or was deleted before its translation finished", eventId);
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.GuestImportErrorDTO;
+import com.ada.holiday_party_planning.dto.GuestImportReportDTO;
+import com.ada.holiday_party_planning.dto.GuestImportRowDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EmailAlreadyExistsException;
+import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.util.ConstraintViolations;
+import com.ada.holiday_party_planning.util.GuestImportReader;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.hibernate.Session;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Importação de convidados em lote a partir de um arquivo CSV ou NDJSON.
+ * <p>
+ * As linhas são validadas à medida que são lidas e os convidados válidos são inseridos com o
+ * batching JDBC do Hibernate: a cada {@code guests.import.batch-size} convidados o contexto de
+ * persistência é descarregado e limpo, de modo que a memória não cresce com o arquivo. Os IDs são
+ * UUIDs gerados na aplicação, o que mantém as inserções agrupadas em lotes.
+ * <p>
+ * E-mails repetidos no arquivo ou já convidados para o evento são rejeitados linha a linha. O
+ * arquivo é lido e validado fora de transação, com as linhas válidas gravadas em um arquivo
+ * temporário; só depois de todo o conteúdo recebido uma única transação insere os convidados. Assim
+ * um upload lento não segura uma conexão do pool enquanto o cliente envia o arquivo.
+ */
+
+@Service
+public class GuestImportService {
+
+    private static final Logger log = LoggerFactory.getLogger(GuestImportService.class);
+
+    private final GuestRepository guestRepository;
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final int batchSize;
+    private final int maxErrors;
+
+    public GuestImportService(GuestRepository guestRepository, EventRepository eventRepository,
+                              EntityManager entityManager, TransactionTemplate transactionTemplate,
+                              Validator validator,
+                              @Value("${guests.import.batch-size:500}") int batchSize,
+                              @Value("${guests.import.max-errors:1000}") int maxErrors) {
+        this.guestRepository = guestRepository;
+        this.eventRepository = eventRepository;
+        this.entityManager = entityManager;
+        this.transactionTemplate = transactionTemplate;
+        this.validator = validator;
+        this.batchSize = batchSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Formatos de arquivo aceitos na importação.
+     */
+
+    public enum Format {
+        CSV,
+        NDJSON
+    }
+
+    /**
+     * Importa os convidados do arquivo para o evento.
+     *
+     * @param eventId ID do evento.
+     * @param format Formato do arquivo.
+     * @param content Conteúdo do arquivo, lido em streaming fora de transação.
+     * @return Relatório com as quantidades importadas e os erros por linha.
+     * @throws EventNotFoundException Se o evento não existir.
+     * @throws EmailAlreadyExistsException Se outra requisição gravar o mesmo e-mail durante a importação.
+     */
+
+    public GuestImportReportDTO importGuests(UUID eventId, Format format, Reader content) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException();
+        }
+
+        Path spoolFile = createSpoolFile();
+        try {
+            Spool spool = new Spool(eventId, guestRepository.findEmailsByEventId(eventId), spoolFile);
+            try (spool) {
+                if (format == Format.CSV) {
+                    GuestImportReader.readCsv(content, spool);
+                } else {
+                    GuestImportReader.readNdjson(content, spool);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            transactionTemplate.executeWithoutResult(status -> insert(eventId, spoolFile));
+            return spool.report();
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Guest.UNIQUE_EVENT_EMAIL)) {
+                throw new EmailAlreadyExistsException("Email is already in use!");
+            }
+            throw e;
+        } finally {
+            try {
+                Files.deleteIfExists(spoolFile);
+            } catch (IOException e) {
+                log.warn("Could not delete guest import spool file {}: {}", spoolFile, e.toString());
+            }
+        }
+    }
+
+    /**
+     * Insere os convidados gravados no arquivo temporário, em lotes de {@code batchSize}.
+     * Roda dentro da transação da importação.
+     */
+
+    private void insert(UUID eventId, Path spoolFile) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        Event event = entityManager.getReference(Event.class, eventId);
+        int pending = 0;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(spoolFile)))) {
+            while (in.readBoolean()) {
+                String name = in.readUTF();
+                String email = in.readUTF();
+                GuestStatusEnum status = GuestStatusEnum.values()[in.readByte()];
+                boolean confirmed = in.readBoolean();
+                entityManager.persist(new Guest(null, status, email, name, event, confirmed));
+                if (++pending >= batchSize) {
+                    entityManager.flush();
+                    entityManager.clear();
+                    event = entityManager.getReference(Event.class, eventId);
+                    pending = 0;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private static Path createSpoolFile() {
+        try {
+            return Files.createTempFile("guest-import-", ".bin");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Leitura de uma importação em andamento: valida as linhas e grava as válidas no arquivo
+     * temporário, cada uma precedida de um marcador; o fim do arquivo é marcado com false.
+     */
+
+    private final class Spool implements GuestImportReader.Handler, AutoCloseable {
+
+        private final UUID eventId;
+        private final Set<String> emails;
+        private final DataOutputStream out;
+        private final List<GuestImportErrorDTO> errors = new ArrayList<>();
+        private int received;
+        private int imported;
+        private int failed;
+
+        private Spool(UUID eventId, Set<String> existingEmails, Path spoolFile) {
+            this.eventId = eventId;
+            this.emails = existingEmails;
+            try {
+                this.out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(spoolFile)));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public void row(GuestImportRowDTO row) {
+            received++;
+            Set<ConstraintViolation<GuestImportRowDTO>> violations = validator.validate(row);
+            if (!violations.isEmpty()) {
+                reject(row.getLine(), row.getEmail(), violations.iterator().next().getMessage());
+                return;
+            }
+            if (!emails.add(row.getEmail())) {
+                reject(row.getLine(), row.getEmail(), "Email is already in use!");
+                return;
+            }
+
+            try {
+                out.writeBoolean(true);
+                out.writeUTF(row.getName());
+                out.writeUTF(row.getEmail());
+                out.writeByte(row.getStatus().ordinal());
+                out.writeBoolean(row.isConfirmed());
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            imported++;
+        }
+
+        @Override
+        public void error(int line, String email, String message) {
+            received++;
+            reject(line, email, message);
+        }
+
+        @Override
+        public void close() throws IOException {
+            try (out) {
+                out.writeBoolean(false);
+            }
+        }
+
+        private void reject(int line, String email, String message) {
+            failed++;
+            if (errors.size() < maxErrors) {
+                errors.add(new GuestImportErrorDTO(line, email, message));
+            }
+        }
+
+        private GuestImportReportDTO report() {
+            return new GuestImportReportDTO(eventId, received, imported, failed, errors);
+        }
+    }
+}
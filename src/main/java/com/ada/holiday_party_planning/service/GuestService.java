@@ -1,6 +1,7 @@
 package com.ada.holiday_party_planning.service;
 
 import com.ada.holiday_party_planning.dto.CreateGuestDTO;
+import com.ada.holiday_party_planning.dto.CursorPageDTO;
 import com.ada.holiday_party_planning.dto.GuestDTO;
 import com.ada.holiday_party_planning.exceptions.EmailAlreadyExistsException;
 import com.ada.holiday_party_planning.exceptions.GuestNotFoundException;
@@ -9,6 +10,9 @@ import com.ada.holiday_party_planning.model.Event;
 import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.repository.EventRepository;
 import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.util.ConstraintViolations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -16,6 +20,8 @@ import org.springframework.web.server.ResponseStatusException;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Service
@@ -33,9 +39,24 @@ public class GuestService {
 
 
     public List<GuestDTO> getAllGuests() {
-        List<Guest> allGuest = guestRepository.findAll();
+        return guestRepository.findAllDTO();
+    }
+
 
-        return GuestMapper.toDTOList(allGuest);
+    public CursorPageDTO<GuestDTO> getGuestsPage(UUID after, Integer limit) {
+        int pageSize = CursorPageDTO.normalizeLimit(limit);
+        List<GuestDTO> guests = after == null
+                ? guestRepository.findFirstPageDTO(Limit.of(pageSize))
+                : guestRepository.findPageDTOAfter(after, Limit.of(pageSize));
+        return CursorPageDTO.of(guests, pageSize, GuestDTO::getGuestId);
+    }
+
+
+    @Transactional(readOnly = true)
+    public void streamAllGuests(Consumer<GuestDTO> consumer) {
+        try (Stream<GuestDTO> guests = guestRepository.streamAllDTO()) {
+            guests.forEach(consumer);
+        }
     }
 
 
@@ -47,15 +68,15 @@ public class GuestService {
     }
 
 
+    /**
+     * Cria um convidado. A unicidade do e-mail por evento é garantida pelo índice único
+     * (event_id, email): a violação é traduzida para {@link EmailAlreadyExistsException},
+     * sem uma consulta prévia que concorra com outras requisições.
+     */
+
     @Transactional
     public Guest createGuest(CreateGuestDTO guest) {
 
-        Optional<Guest> existingGuest = guestRepository.findByEmail(guest.getEmail());
-
-        if (existingGuest.isPresent()) {
-            throw new EmailAlreadyExistsException("Email is already in use!");
-        }
-
         Event event = guest.getEvent();
 
         if (event != null && event.getEventId() == null) {
@@ -67,7 +88,7 @@ public class GuestService {
 
         guestCreated.setConfirmed(guest.isConfirmed());
 
-        return guestRepository.save(guestCreated);
+        return saveUniqueEmail(guestCreated);
     }
 
 
@@ -80,7 +101,7 @@ public class GuestService {
 
             GuestMapper.updateGuestDTO(newGuestDTO, existingGuest);
 
-            guestRepository.save(existingGuest);
+            saveUniqueEmail(existingGuest);
 
             return Optional.of(GuestMapper.toDTO(existingGuest));
         }
@@ -94,4 +115,16 @@ public class GuestService {
 
         guestRepository.delete(guest);
     }
+
+
+    private Guest saveUniqueEmail(Guest guest) {
+        try {
+            return guestRepository.saveAndFlush(guest);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isViolationOf(e, Guest.UNIQUE_EVENT_EMAIL)) {
+                throw new EmailAlreadyExistsException("Email is already in use!");
+            }
+            throw e;
+        }
+    }
 }
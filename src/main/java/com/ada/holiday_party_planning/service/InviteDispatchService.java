@@ -0,0 +1,98 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.exceptions.InviteJobNotFoundException;
+import com.ada.holiday_party_planning.model.OutboxMessage;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Serviço responsável pelo envio de convites em lote.
+ * Cada envio gera um job consultável pelo ID. Os convites não são enviados aqui: cada
+ * destinatário vira uma linha da fila de saída (outbox), gravada na transação de quem chamou, e o
+ * {@link OutboxDispatcher} faz o envio depois. O andamento do job é calculado a partir das linhas.
+ */
+
+@Service
+public class InviteDispatchService {
+
+    private final OutboxMessageRepository outboxMessageRepository;
+
+    public InviteDispatchService(OutboxMessageRepository outboxMessageRepository) {
+        this.outboxMessageRepository = outboxMessageRepository;
+    }
+
+    /**
+     * Grava um convite pendente para cada destinatário na transação atual. Se a transação for
+     * desfeita, nenhum convite é enviado.
+     *
+     * @param eventId ID do evento dos convites.
+     * @param subject Assunto dos e-mails.
+     * @param recipients E-mails dos destinatários.
+     * @param variables Variáveis do template, iguais para todos os destinatários.
+     * @return Estado inicial do job criado, ou vazio se não houver destinatários. Sem linhas na
+     * fila, um job não poderia ser consultado depois, então nenhum é criado.
+     */
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<InviteJobDTO> dispatch(UUID eventId, String subject, List<String> recipients,
+                                           Map<String, String> variables) {
+        if (recipients.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UUID jobId = UUID.randomUUID();
+        Instant now = Instant.now();
+        Map<String, String> sharedVariables = Map.copyOf(variables);
+        List<OutboxMessage> messages = recipients.stream()
+                .map(recipient -> new OutboxMessage(jobId, eventId, recipient, subject, sharedVariables, now))
+                .toList();
+        outboxMessageRepository.saveAll(messages);
+
+        return Optional.of(new InviteJobDTO(jobId, eventId, InviteJobStatusEnum.QUEUED, messages.size(), 0, 0));
+    }
+
+    /**
+     * Consulta o andamento de um job de envio.
+     *
+     * @param jobId ID do job.
+     * @return Status e contagem de envios do job.
+     * @throws InviteJobNotFoundException Se o job não existir ou já tiver sido expurgado.
+     */
+
+    @Transactional(readOnly = true)
+    public InviteJobDTO getJob(UUID jobId) {
+        List<OutboxMessageRepository.JobCount> counts = outboxMessageRepository.countByJobId(jobId);
+        if (counts.isEmpty()) {
+            throw new InviteJobNotFoundException();
+        }
+
+        int pending = 0;
+        int sent = 0;
+        int failed = 0;
+        for (OutboxMessageRepository.JobCount count : counts) {
+            switch (count.getStatus()) {
+                case PENDING -> pending += (int) count.getTotal();
+                case SENT -> sent += (int) count.getTotal();
+                case FAILED -> failed += (int) count.getTotal();
+            }
+        }
+
+        InviteJobStatusEnum status;
+        if (pending > 0) {
+            status = sent + failed == 0 ? InviteJobStatusEnum.QUEUED : InviteJobStatusEnum.RUNNING;
+        } else {
+            status = failed > 0 ? InviteJobStatusEnum.COMPLETED_WITH_FAILURES : InviteJobStatusEnum.COMPLETED;
+        }
+        return new InviteJobDTO(jobId, counts.get(0).getEventId(), status, pending + sent + failed, sent, failed);
+    }
+}
@@ -1,17 +1,31 @@
 package com.ada.holiday_party_planning.service;
 
+import com.ada.holiday_party_planning.dto.ItemAssignmentDTO;
+import com.ada.holiday_party_planning.dto.ItemDTO;
 import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
 import com.ada.holiday_party_planning.exceptions.ItemNotFoundException;
 import com.ada.holiday_party_planning.exceptions.GuestNotFoundException;
+import com.ada.holiday_party_planning.mappers.ItemMapper;
 import com.ada.holiday_party_planning.model.Event;
 import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.model.Item;
 import com.ada.holiday_party_planning.repository.EventRepository;
 import com.ada.holiday_party_planning.repository.GuestRepository;
 import com.ada.holiday_party_planning.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -21,12 +35,18 @@ public class ItemService {
     private final ItemRepository itemRepository;
     private final EventRepository eventRepository;
     private final GuestRepository guestRepository;
+    private final EntityManager entityManager;
+    private final int batchSize;
 
 
-    public ItemService(ItemRepository itemRepository, EventRepository eventRepository, GuestRepository guestRepository) {
+    @Autowired
+    public ItemService(ItemRepository itemRepository, EventRepository eventRepository, GuestRepository guestRepository,
+                       EntityManager entityManager, @Value("${items.bulk.batch-size:500}") int batchSize) {
         this.itemRepository = itemRepository;
         this.eventRepository = eventRepository;
         this.guestRepository = guestRepository;
+        this.entityManager = entityManager;
+        this.batchSize = batchSize;
     }
 
 
@@ -37,6 +57,45 @@ public class ItemService {
         return itemRepository.save(item);
     }
 
+    /**
+     * Cria vários itens para um evento em uma única transação.
+     * <p>
+     * O evento é referenciado por um proxy, sem ser carregado, e os itens são inseridos com o
+     * batching JDBC do Hibernate: a cada {@code items.bulk.batch-size} itens o contexto de
+     * persistência é descarregado e limpo.
+     *
+     * @param items Itens a serem criados; IDs informados são ignorados.
+     * @param eventId ID do evento.
+     * @return Itens criados, com os IDs gerados.
+     * @throws EventNotFoundException Se o evento não existir.
+     */
+
+    @Transactional
+    public List<ItemDTO> createItems(List<ItemDTO> items, UUID eventId) {
+        if (!eventRepository.existsById(eventId)) {
+            throw new EventNotFoundException();
+        }
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        List<ItemDTO> created = new ArrayList<>(items.size());
+        Event event = eventRepository.getReferenceById(eventId);
+        int pending = 0;
+        for (ItemDTO dto : items) {
+            Item item = ItemMapper.toModel(dto);
+            item.setItemId(null);
+            item.setEvent(event);
+            entityManager.persist(item);
+            created.add(ItemMapper.toDTO(item));
+            if (++pending >= batchSize) {
+                entityManager.flush();
+                entityManager.clear();
+                event = eventRepository.getReferenceById(eventId);
+                pending = 0;
+            }
+        }
+        return created;
+    }
+
     public Item updateItem(Item item, UUID eventId) {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(EventNotFoundException::new);
@@ -45,13 +104,17 @@ public class ItemService {
     }
 
 
-    public List<Item> itemsByEventId(UUID eventId) {
-        List<Item> allItems = itemRepository.findAll();
-        allItems.removeIf(item -> !eventId.equals(item.getEvent().getEventId()));
-        if (allItems.isEmpty()) {
+    public List<ItemDTO> itemsByEventId(UUID eventId) {
+        return itemsByEventId(eventId, Pageable.unpaged());
+    }
+
+
+    public List<ItemDTO> itemsByEventId(UUID eventId, Pageable pageable) {
+        List<ItemDTO> eventItems = itemRepository.findAllDTOByEventId(eventId, pageable);
+        if (eventItems.isEmpty()) {
             throw new ItemNotFoundException("No items found for the given eventId: " + eventId);
         }
-        return allItems;
+        return eventItems;
     }
 
 
@@ -64,14 +127,20 @@ public class ItemService {
     //metodo q verifica se um item está associado a um convidado específico
     public boolean isItemWithGuest(UUID itemId, UUID guestId) {
         Item item = itemRepository.findById(itemId).orElseThrow(ItemNotFoundException::new);
-        return item.getGuest().getGuestId().equals(guestId);
+        return item.getGuest() != null && item.getGuest().getGuestId().equals(guestId);
     }
 
 
-    public List<Item> itemsByGuestId(UUID guestId) {
-        return itemRepository.findAll().stream().filter(item -> item.getGuest() != null && item.getGuest().getGuestId().equals(guestId)).toList();
+    public List<ItemDTO> itemsByGuestId(UUID guestId) {
+        return itemsByGuestId(guestId, Pageable.unpaged());
     }
 
+
+    public List<ItemDTO> itemsByGuestId(UUID guestId, Pageable pageable) {
+        return itemRepository.findAllDTOByGuestId(guestId, pageable);
+    }
+
+    @Transactional
     public Item addItemToGuest(UUID guestId, UUID itemId) {
         Guest guest = guestRepository.findById(guestId)
                 .orElseThrow(GuestNotFoundException::new);
@@ -83,6 +152,56 @@ public class ItemService {
 
     }
 
+    /**
+     * Atribui vários itens a convidados em uma única transação.
+     * <p>
+     * Para cada lote de {@code items.bulk.batch-size} atribuições são feitas apenas duas consultas:
+     * uma confirma que os convidados existem e outra carrega os itens. Os convidados entram como
+     * proxies e as alterações são gravadas com updates agrupados em lotes JDBC. Se um item aparecer
+     * mais de uma vez, vale a última atribuição.
+     *
+     * @param assignments Pares de item e convidado.
+     * @throws ItemNotFoundException Se algum item não existir; nenhuma atribuição é gravada.
+     * @throws GuestNotFoundException Se algum convidado não existir; nenhuma atribuição é gravada.
+     */
+
+    @Transactional
+    public void assignItemsToGuests(List<ItemAssignmentDTO> assignments) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+
+        for (int from = 0; from < assignments.size(); from += batchSize) {
+            Map<UUID, UUID> guestByItem = new LinkedHashMap<>();
+            for (ItemAssignmentDTO assignment : assignments.subList(from, Math.min(from + batchSize, assignments.size()))) {
+                if (assignment.getItemId() == null) {
+                    throw new ItemNotFoundException();
+                }
+                if (assignment.getGuestId() == null) {
+                    throw new GuestNotFoundException();
+                }
+                guestByItem.put(assignment.getItemId(), assignment.getGuestId());
+            }
+
+            Set<UUID> guestIds = new HashSet<>(guestByItem.values());
+            guestIds.removeAll(guestRepository.findExistingGuestIds(guestIds));
+            if (!guestIds.isEmpty()) {
+                throw new GuestNotFoundException("Guest not found: " + guestIds.iterator().next());
+            }
+
+            List<Item> items = itemRepository.findAllByItemIdIn(guestByItem.keySet());
+            if (items.size() != guestByItem.size()) {
+                Set<UUID> missing = new HashSet<>(guestByItem.keySet());
+                items.forEach(item -> missing.remove(item.getItemId()));
+                throw new ItemNotFoundException("Item not found: " + missing.iterator().next());
+            }
+            for (Item item : items) {
+                item.setGuest(guestRepository.getReferenceById(guestByItem.get(item.getItemId())));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        }
+    }
+
+    @Transactional
     public Item removeGuestFromItem(UUID guestId, UUID itemId) {
 
         if (isItemWithGuest(itemId, guestId)) {
@@ -0,0 +1,227 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
+import com.ada.holiday_party_planning.model.OutboxMessage;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Envia os e-mails da fila de saída (outbox) gravados pelo {@link InviteDispatchService}.
+ * <p>
+ * A cada ciclo, reserva um lote de e-mails pendentes com {@code SELECT ... FOR UPDATE SKIP LOCKED}
+ * e adia a disponibilidade deles pelo tempo da reserva ({@code outbox.lease-ms}), em uma transação
+ * curta. Assim, vários nós podem esvaziar a fila em paralelo sem pegar os mesmos e-mails, e a
+ * conexão com o banco não fica presa durante a conversa SMTP. O lote é dividido em até
+ * {@code outbox.max-concurrency} trechos, cada um enviado por uma única conexão SMTP com
+ * {@link EmailService#sendEmails}, fora de transação, em um pool fixo de threads de plataforma (o
+ * envio SMTP do Jakarta Mail é sincronizado e prenderia a thread portadora de uma thread
+ * virtual). O resultado é gravado em uma segunda transação: enviado, nova tentativa com espera
+ * exponencial, ou falha definitiva após {@code outbox.max-attempts} tentativas.
+ * <p>
+ * Os e-mails são reservados do mais antigo para o mais novo ({@code available_at}). No H2, que não
+ * combina ORDER BY com SKIP LOCKED, {@code outbox.claim-in-order=false} reserva sem ordem.
+ * <p>
+ * A entrega é "pelo menos uma vez": se o nó cair depois de enviar e antes de gravar o resultado, o
+ * e-mail volta para a fila quando a reserva expira e é enviado de novo.
+ */
+
+@Service
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    private final OutboxMessageRepository outboxMessageRepository;
+    private final EmailService emailService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final boolean enabled;
+    private final boolean claimInOrder;
+    private final int batchSize;
+    private final int maxConcurrency;
+    private final int maxAttempts;
+    private final long initialBackoffMs;
+    private final Duration lease;
+    private final Duration retention;
+
+    public OutboxDispatcher(OutboxMessageRepository outboxMessageRepository,
+                            EmailService emailService,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${outbox.dispatcher.enabled:true}") boolean enabled,
+                            @Value("${outbox.claim-in-order:true}") boolean claimInOrder,
+                            @Value("${outbox.batch-size:50}") int batchSize,
+                            @Value("${outbox.max-concurrency:8}") int maxConcurrency,
+                            @Value("${outbox.max-attempts:3}") int maxAttempts,
+                            @Value("${outbox.initial-backoff-ms:500}") long initialBackoffMs,
+                            @Value("${outbox.lease-ms:60000}") long leaseMs,
+                            @Value("${outbox.retention-hours:24}") long retentionHours) {
+        this.outboxMessageRepository = outboxMessageRepository;
+        this.emailService = emailService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.executor = Executors.newFixedThreadPool(Math.max(1, maxConcurrency),
+                Thread.ofPlatform().name("outbox-mail-", 0).daemon(true).factory());
+        this.enabled = enabled;
+        this.claimInOrder = claimInOrder;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.initialBackoffMs = Math.max(0, initialBackoffMs);
+        this.lease = Duration.ofMillis(Math.max(1, leaseMs));
+        this.retention = Duration.ofHours(Math.max(1, retentionHours));
+    }
+
+    /**
+     * Esvazia a fila enquanto os lotes vierem cheios.
+     */
+
+    @Scheduled(fixedDelayString = "${outbox.poll-interval-ms:1000}")
+    public void poll() {
+        if (!enabled) {
+            return;
+        }
+        while (!executor.isShutdown() && dispatchBatch() == batchSize) {
+            log.debug("Outbox batch full, polling again");
+        }
+    }
+
+    /**
+     * Remove da fila os e-mails concluídos há mais de {@code outbox.retention-hours}.
+     */
+
+    @Scheduled(fixedDelayString = "${outbox.purge-interval-ms:3600000}")
+    public void purge() {
+        if (!enabled) {
+            return;
+        }
+        Integer deleted = transactionTemplate.execute(status ->
+                outboxMessageRepository.deleteFinishedBefore(Instant.now().minus(retention)));
+        log.debug("Outbox purge removed {} messages", deleted);
+    }
+
+    /**
+     * Reserva, envia e registra o resultado de um lote de e-mails.
+     *
+     * @return A quantidade de e-mails reservados no lote.
+     */
+
+    public int dispatchBatch() {
+        List<OutboxMessage> claimed = transactionTemplate.execute(status -> {
+            Instant now = Instant.now();
+            List<OutboxMessage> batch = claimInOrder
+                    ? outboxMessageRepository.claimAvailable(now, batchSize)
+                    : outboxMessageRepository.claimAvailableUnordered(now, batchSize);
+            batch.forEach(message -> message.claim(now.plus(lease)));
+            return batch;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        int chunkSize = (claimed.size() + maxConcurrency - 1) / maxConcurrency;
+        List<List<OutboxMessage>> chunks = new ArrayList<>();
+        List<Future<List<String>>> sends = new ArrayList<>();
+        for (int from = 0; from < claimed.size(); from += chunkSize) {
+            List<OutboxMessage> chunk = claimed.subList(from, Math.min(from + chunkSize, claimed.size()));
+            chunks.add(chunk);
+            sends.add(executor.submit(() -> send(chunk)));
+        }
+        List<String> errors = new ArrayList<>(claimed.size());
+        for (int i = 0; i < sends.size(); i++) {
+            errors.addAll(outcome(sends.get(i), chunks.get(i).size()));
+        }
+
+        transactionTemplate.executeWithoutResult(status -> record(claimed, errors));
+        return claimed.size();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Envia um trecho do lote por uma única conexão SMTP e retorna, para cada e-mail, a mensagem
+     * de erro, ou null se o envio deu certo.
+     */
+
+    private List<String> send(List<OutboxMessage> chunk) {
+        List<MessagingException> failures = emailService.sendEmails(chunk.stream()
+                .map(message -> new EmailMessageDTO(message.getRecipient(), message.getSubject(), message.getVariables()))
+                .toList());
+        List<String> errors = new ArrayList<>(chunk.size());
+        for (int i = 0; i < chunk.size(); i++) {
+            MessagingException failure = failures.get(i);
+            if (failure == null) {
+                errors.add(null);
+                continue;
+            }
+            OutboxMessage message = chunk.get(i);
+            log.warn("Outbox message {} (job {}): attempt {}/{} to {} failed: {}", message.getMessageId(),
+                    message.getJobId(), message.getAttempts(), maxAttempts, message.getRecipient(), failure.getMessage());
+            errors.add(failure.getMessage() == null ? failure.getClass().getName() : failure.getMessage());
+        }
+        return errors;
+    }
+
+    private List<String> outcome(Future<List<String>> send, int size) {
+        String error;
+        try {
+            return send.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            error = "Interrupted";
+        } catch (ExecutionException e) {
+            error = String.valueOf(e.getCause());
+        }
+        return Collections.nCopies(size, error);
+    }
+
+    /**
+     * Grava o resultado dos envios. Um e-mail cuja reserva expirou e que já foi reservado de novo
+     * por outro nó (tentativas diferentes das desta reserva) fica com o resultado do outro nó.
+     */
+
+    private void record(List<OutboxMessage> claimed, List<String> errors) {
+        Map<UUID, OutboxMessage> current = outboxMessageRepository.findAllById(
+                        claimed.stream().map(OutboxMessage::getMessageId).toList())
+                .stream()
+                .collect(Collectors.toMap(OutboxMessage::getMessageId, Function.identity()));
+        Instant now = Instant.now();
+        for (int i = 0; i < claimed.size(); i++) {
+            OutboxMessage message = current.get(claimed.get(i).getMessageId());
+            if (message == null || message.getAttempts() != claimed.get(i).getAttempts()) {
+                continue;
+            }
+            String error = errors.get(i);
+            if (error == null) {
+                message.markSent(now);
+            } else if (message.getAttempts() >= maxAttempts) {
+                message.markFailed(error, null);
+            } else {
+                long backoff = initialBackoffMs << Math.min(message.getAttempts() - 1, 20);
+                message.markFailed(error, now.plusMillis(backoff));
+            }
+        }
+    }
+}
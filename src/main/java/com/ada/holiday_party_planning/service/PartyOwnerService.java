@@ -7,49 +7,54 @@ import com.ada.holiday_party_planning.exceptions.PartyOwnerNotFoundException;
 import com.ada.holiday_party_planning.mappers.PartyOwnerMapper;
 import com.ada.holiday_party_planning.model.PartyOwner;
 import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.util.ConstraintViolations;
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 
 @Service
 public class PartyOwnerService {
 
     private final PartyOwnerRepository partyOwnerRepository;
-    private final BCryptPasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
+    private final TokenService tokenService;
+    private final VerifiedCredentialsCache verifiedCredentialsCache;
 
 
-    public PartyOwnerService(PartyOwnerRepository partyOwnerRepository) {
+    public PartyOwnerService(PartyOwnerRepository partyOwnerRepository, PasswordHashingService passwordHashingService,
+                             TokenService tokenService, VerifiedCredentialsCache verifiedCredentialsCache) {
         this.partyOwnerRepository = partyOwnerRepository;
-        this.passwordEncoder = new BCryptPasswordEncoder();
+        this.passwordHashingService = passwordHashingService;
+        this.tokenService = tokenService;
+        this.verifiedCredentialsCache = verifiedCredentialsCache;
     }
 
 
     public PartyOwnerDTO createPartyOwner(CreatePartyOwnerDTO createPartyOwnerDTO) {
 
-        Optional<PartyOwner> existingPartyOwner = partyOwnerRepository.findByEmail(createPartyOwnerDTO.getEmail());
-
-        if (existingPartyOwner.isPresent()) {
-            throw new EmailAlreadyExistsException();
-        }
-
         PartyOwner partyOwnerCreated = PartyOwnerMapper.createDTOToModel(createPartyOwnerDTO);
         partyOwnerCreated.setPassword(
-                passwordEncoder
+                passwordHashingService
                         .encode(
                                 createPartyOwnerDTO
                                         .getPassword()
                         ));
 
-        partyOwnerRepository.save(partyOwnerCreated);
+        saveUniqueEmail(partyOwnerCreated);
 
         return PartyOwnerMapper.toDTO(partyOwnerCreated);
 
@@ -65,11 +70,19 @@ public class PartyOwnerService {
 
         PartyOwner partyOwner = existingPartyOwner.get();
 
-        if (!passwordEncoder.matches(userLoginInfo.getPassword(), partyOwner.getPassword())) {
+        if (!passwordHashingService.matches(userLoginInfo.getPassword(), partyOwner.getPassword())) {
             throw new InvalidCredentialsException();
         }
 
-        return PartyOwnerMapper.toLoginResponseDTO(partyOwner);
+        if (passwordHashingService.upgradeEncoding(partyOwner.getPassword())) {
+            partyOwner.setPassword(passwordHashingService.encode(userLoginInfo.getPassword()));
+            partyOwnerRepository.save(partyOwner);
+        }
+
+        PartyOwnerLoginResponseDTO response = PartyOwnerMapper.toLoginResponseDTO(partyOwner);
+        response.setToken(tokenService.issue(partyOwner.getEmail()));
+        response.setExpiresIn(tokenService.ttl().toSeconds());
+        return response;
     }
 
 
@@ -82,14 +95,32 @@ public class PartyOwnerService {
     }
 
 
+    public CursorPageDTO<PartyOwnerDTO> getPartyOwnersPage(UUID after, Integer limit) {
+        int pageSize = CursorPageDTO.normalizeLimit(limit);
+        List<PartyOwnerDTO> partyOwners = after == null
+                ? partyOwnerRepository.findFirstPageDTO(Limit.of(pageSize))
+                : partyOwnerRepository.findPageDTOAfter(after, Limit.of(pageSize));
+        return CursorPageDTO.of(partyOwners, pageSize, PartyOwnerDTO::getOwnerId);
+    }
+
+
+    @Transactional(readOnly = true)
+    public void streamAllPartyOwners(Consumer<PartyOwnerDTO> consumer) {
+        try (Stream<PartyOwnerDTO> partyOwners = partyOwnerRepository.streamAllDTO()) {
+            partyOwners.forEach(consumer);
+        }
+    }
+
+
     public Optional<PartyOwnerDTO> updatePartyOwner(UUID ownerId, UpdatePartyOwnerDTO newPartyOwner) {
         Optional<PartyOwner> oldPartyOwner = partyOwnerRepository.findById(ownerId);
 
         if (oldPartyOwner.isPresent()) {
             PartyOwner existingPartyOwner = oldPartyOwner.get();
+            verifiedCredentialsCache.evict(existingPartyOwner.getEmail());
             PartyOwnerMapper.updatePartyOwnerDTO(newPartyOwner, existingPartyOwner);
 
-            partyOwnerRepository.save(existingPartyOwner);
+            saveUniqueEmail(existingPartyOwner);
 
             return Optional.of(PartyOwnerMapper.toDTO(existingPartyOwner));
         }
@@ -109,4 +140,22 @@ public class PartyOwnerService {
         );
     }
 
+
+    /**
+     * Grava o proprietário em uma única instrução. O e-mail duplicado é detectado pelo índice
+     * único uk_party_owner_email, ou pela restrição única antiga da coluna em bancos criados antes
+     * dele, e traduzido para {@link EmailAlreadyExistsException}.
+     */
+
+    private void saveUniqueEmail(PartyOwner partyOwner) {
+        try {
+            partyOwnerRepository.saveAndFlush(partyOwner);
+        } catch (DataIntegrityViolationException e) {
+            if (ConstraintViolations.isUniqueViolationOf(e, PartyOwner.UNIQUE_EMAIL, "email")) {
+                throw new EmailAlreadyExistsException();
+            }
+            throw e;
+        }
+    }
+
 }
@@ -0,0 +1,112 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+
+import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+
+/**
+ * Executa o hashing e a verificação de senhas no executor limitado "passwordHashingExecutor".
+ * <p>
+ * O BCrypt consome dezenas de milissegundos de CPU por chamada. Executá-lo em um pool do tamanho
+ * do número de CPUs, com fila curta, evita que uma rajada de cadastros e logins ocupe todas as
+ * threads de requisição: quando a fila enche, a chamada falha com
+ * {@link PasswordHashingBusyException} (429).
+ * <p>
+ * Métricas: "password.hashing" (tempo de cada hash, com a tag "operation"),
+ * "password.hashing.queue" (tarefas aguardando) e "password.hashing.rejected" (rejeições).
+ */
+
+@Service
+public class PasswordHashingService {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejected;
+
+    public PasswordHashingService(PasswordEncoder passwordEncoder,
+                                  @Qualifier("passwordHashingExecutor") ThreadPoolTaskExecutor executor,
+                                  Optional<MeterRegistry> meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        MeterRegistry registry = meterRegistry.orElseGet(SimpleMeterRegistry::new);
+        this.encodeTimer = Timer.builder("password.hashing").tag("operation", "encode").register(registry);
+        this.matchesTimer = Timer.builder("password.hashing").tag("operation", "matches").register(registry);
+        this.rejected = Counter.builder("password.hashing.rejected").register(registry);
+        Gauge.builder("password.hashing.queue", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(registry);
+    }
+
+    /**
+     * Gera o hash de uma senha.
+     *
+     * @param rawPassword Senha em texto puro.
+     * @return Hash da senha.
+     * @throws PasswordHashingBusyException Se o executor estiver saturado.
+     */
+
+    public String encode(CharSequence rawPassword) {
+        return execute(() -> encodeTimer.record(() -> passwordEncoder.encode(rawPassword)));
+    }
+
+    /**
+     * Verifica se a senha corresponde ao hash armazenado.
+     *
+     * @param rawPassword Senha em texto puro.
+     * @param encodedPassword Hash armazenado.
+     * @return true se a senha corresponder.
+     * @throws PasswordHashingBusyException Se o executor estiver saturado.
+     */
+
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return execute(() -> matchesTimer.record(() -> passwordEncoder.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Indica se o hash foi gerado com um custo diferente do configurado e deve ser refeito.
+     * Apenas lê o prefixo do hash, sem executar o BCrypt.
+     *
+     * @param encodedPassword Hash armazenado.
+     * @return true se o hash precisar ser refeito.
+     */
+
+    public boolean upgradeEncoding(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    private <T> T execute(Callable<T> task) {
+        Future<T> future;
+        try {
+            future = executor.submit(task);
+        } catch (TaskRejectedException e) {
+            rejected.increment();
+            throw new PasswordHashingBusyException();
+        }
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrompido aguardando o hashing da senha", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
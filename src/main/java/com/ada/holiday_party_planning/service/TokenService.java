@@ -0,0 +1,182 @@
+package com.ada.holiday_party_planning.service;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+/**
+ * Emissão e verificação dos tokens de acesso (JWT assinado com HMAC-SHA256).
+ * <p>
+ * O token carrega apenas o e-mail do proprietário ("sub") e as datas de emissão e expiração, e é
+ * verificado sem consultar o banco nem executar o BCrypt. A chave vem de
+ * {@code security.token.secret} (mínimo de 32 bytes) e precisa ser a mesma em todos os nós; sem ela
+ * a aplicação não inicia. Só com {@code security.token.allow-random-secret=true}, ligado no perfil
+ * local e nos testes, uma chave aleatória é gerada na inicialização, e os tokens deixam de valer
+ * quando a aplicação reinicia e não são aceitos pelos outros nós.
+ */
+
+@Service
+public class TokenService {
+
+    private static final Logger log = LoggerFactory.getLogger(TokenService.class);
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+    private static final JsonFactory JSON = new JsonFactory();
+    private static final String HEADER = ENCODER.encodeToString(
+            "{\"alg\":\"HS256\",\"typ\":\"JWT\"}".getBytes(StandardCharsets.US_ASCII));
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> mac;
+    private final Duration ttl;
+    private final Clock clock;
+
+    @Autowired
+    public TokenService(@Value("${security.token.secret:${TOKEN_SECRET:}}") String secret,
+                        @Value("${security.token.allow-random-secret:false}") boolean allowRandomSecret,
+                        @Value("${security.token.ttl-minutes:15}") long ttlMinutes) {
+        this(secret, allowRandomSecret, Duration.ofMinutes(ttlMinutes), Clock.systemUTC());
+    }
+
+    TokenService(String secret, boolean allowRandomSecret, Duration ttl, Clock clock) {
+        this.key = new SecretKeySpec(secretBytes(secret, allowRandomSecret), ALGORITHM);
+        this.mac = ThreadLocal.withInitial(this::newMac);
+        this.ttl = ttl;
+        this.clock = clock;
+    }
+
+    /**
+     * Emite um token para o proprietário informado.
+     *
+     * @param subject E-mail do proprietário.
+     * @return Token assinado no formato JWT.
+     */
+
+    public String issue(String subject) {
+        long now = clock.instant().getEpochSecond();
+        ByteArrayOutputStream payload = new ByteArrayOutputStream(128);
+        try (JsonGenerator generator = JSON.createGenerator(payload)) {
+            generator.writeStartObject();
+            generator.writeStringField("sub", subject);
+            generator.writeNumberField("iat", now);
+            generator.writeNumberField("exp", now + ttl.toSeconds());
+            generator.writeEndObject();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+        String signingInput = HEADER + "." + ENCODER.encodeToString(payload.toByteArray());
+        return signingInput + "." + ENCODER.encodeToString(sign(signingInput));
+    }
+
+    /**
+     * Verifica a assinatura e a validade de um token.
+     *
+     * @param token Token recebido no cabeçalho Authorization.
+     * @return E-mail do proprietário, ou vazio se o token for inválido ou estiver expirado.
+     */
+
+    public Optional<String> verify(String token) {
+        int firstDot = token.indexOf('.');
+        int lastDot = token.lastIndexOf('.');
+        if (firstDot <= 0 || lastDot == firstDot || !token.startsWith(HEADER + ".")) {
+            return Optional.empty();
+        }
+        try {
+            byte[] signature = DECODER.decode(token.substring(lastDot + 1));
+            if (!MessageDigest.isEqual(signature, sign(token.substring(0, lastDot)))) {
+                return Optional.empty();
+            }
+            return readSubject(DECODER.decode(token.substring(firstDot + 1, lastDot)));
+        } catch (IllegalArgumentException | IOException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Tempo de vida dos tokens emitidos.
+     *
+     * @return Duração de validade de um token.
+     */
+
+    public Duration ttl() {
+        return ttl;
+    }
+
+    private Optional<String> readSubject(byte[] payload) throws IOException {
+        String subject = null;
+        long expiresAt = 0;
+        try (JsonParser parser = JSON.createParser(payload)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return Optional.empty();
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "sub" -> subject = parser.getValueAsString();
+                    case "exp" -> expiresAt = parser.getValueAsLong();
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+        if (subject == null || expiresAt <= clock.instant().getEpochSecond()) {
+            return Optional.empty();
+        }
+        return Optional.of(subject);
+    }
+
+    private byte[] sign(String signingInput) {
+        return mac.get().doFinal(signingInput.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            Mac instance = Mac.getInstance(ALGORITHM);
+            instance.init(key);
+            return instance;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] secretBytes(String secret, boolean allowRandomSecret) {
+        if (secret == null || secret.isBlank()) {
+            if (!allowRandomSecret) {
+                throw new IllegalStateException("security.token.secret (ou TOKEN_SECRET) não configurado; "
+                        + "defina a mesma chave em todos os nós");
+            }
+            log.warn("security.token.secret não configurado; usando chave aleatória, os tokens não sobrevivem a reinicializações");
+            byte[] random = new byte[MIN_SECRET_BYTES];
+            new SecureRandom().nextBytes(random);
+            return random;
+        }
+        byte[] bytes = secret.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length < MIN_SECRET_BYTES) {
+            Arrays.fill(bytes, (byte) 0);
+            throw new IllegalArgumentException("security.token.secret deve ter pelo menos " + MIN_SECRET_BYTES + " bytes");
+        }
+        return bytes;
+    }
+}
@@ -1,6 +1,5 @@
 package com.ada.holiday_party_planning.util;
 
-import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 
@@ -17,18 +16,28 @@ import org.springframework.stereotype.Component;
 @Component
 public class APIFunTranslation {
 
-    public APIFunTranslation(HttpUtil httpUtil) {
+    public APIFunTranslation(HttpUtil httpUtil, TranslationCache translationCache,
+                             TranslationResilience translationResilience) {
         this.httpUtil = httpUtil;
+        this.translationCache = translationCache;
+        this.translationResilience = translationResilience;
     }
 
     @Autowired
     HttpUtil httpUtil;
 
+    @Autowired
+    TranslationCache translationCache;
+
+    @Autowired
+    TranslationResilience translationResilience;
+
     /**
      * Traduz uma mensagem para a categoria especificada utilizando a API FunTranslations.
      * <p>
      * Esse método faz uma solicitação POST para a API, enviando o texto e a categoria para tradução.
-     * Se a tradução for bem-sucedida, o texto traduzido é retornado. Caso contrário, um erro é exibido.
+     * Se a tradução for bem-sucedida, o texto traduzido é retornado. A chamada passa pela
+     * {@link TranslationResilience}: com o circuito aberto ou a cota esgotada, falha sem ir à API.
      *
      * @param message  A mensagem a ser traduzida.
      * @param category A categoria para qual a mensagem deve ser traduzida, como "pirate", "yoda", etc.
@@ -36,16 +45,14 @@ public class APIFunTranslation {
      */
 
     public String translateFun(String message, String category) {
+        return translationCache.get(TranslationResilience.FUN_TRANSLATIONS, category, message,
+                () -> requestTranslation(message, category));
+    }
 
-        String endPoint = "https://api.funtranslations.com/translate/";
-        endPoint += category + ".json";
-        String content = String.format("{\"text\":\"%s\"}", message);
-        String response = httpUtil.postRequest(endPoint, content);
-        if(response != null){
-            JSONObject jsonResponse = new JSONObject(response);
-            JSONObject contents = jsonResponse.getJSONObject("contents");
-            return contents.getString("translated");
-        }
-        return null;
+    private String requestTranslation(String message, String category) {
+        String endPoint = "https://api.funtranslations.com/translate/" + category + ".json";
+        byte[] content = TranslationCodec.funTranslationRequest(message);
+        return translationResilience.call(TranslationResilience.FUN_TRANSLATIONS,
+                () -> httpUtil.postJson(endPoint, content, TranslationCodec::readFunTranslation));
     }
 }
@@ -31,10 +31,14 @@ import java.security.PublicKey;
 public class APIGoogleTranslate {
 
     @Autowired
-    private HttpUtil httpUtil;
+    private GoogleTranslateBatcher googleTranslateBatcher;
 
-    public APIGoogleTranslate(HttpUtil httpUtil) {
-        this.httpUtil = httpUtil;
+    @Autowired
+    private TranslationCache translationCache;
+
+    public APIGoogleTranslate(GoogleTranslateBatcher googleTranslateBatcher, TranslationCache translationCache) {
+        this.googleTranslateBatcher = googleTranslateBatcher;
+        this.translationCache = translationCache;
     }
 
 
@@ -106,9 +110,8 @@ public class APIGoogleTranslate {
     /**
      * Traduz uma mensagem usando a API Google Translate.
      * <p>
-     * Esse método envia uma solicitação POST para a API Google Translate, especificando a mensagem
-     * a ser traduzida, o idioma de origem e o idioma de destino. O texto traduzido é retornado como
-     * resposta. Em caso de erro, o método imprime o código de erro da resposta.
+     * A mensagem é enviada pelo {@link GoogleTranslateBatcher}, junto com as outras traduções
+     * concorrentes do mesmo par de idiomas, e o resultado fica no {@link TranslationCache}.
      *
      * @param message    O texto a ser traduzido.
      * @param sourceLang O código do idioma de origem (ex: "en" para inglês).
@@ -117,27 +120,7 @@ public class APIGoogleTranslate {
      */
 
     public String translateMessage(String message, String sourceLang, String targetLang) {
-        String apiKey = System.getenv("GOOGLE_API_KEY");
-        String endPoint = "https://translation.googleapis.com/language/translate/v2?key=" + apiKey;
-        System.out.println(endPoint);
-        String content = String.format(
-                "{\"q\":\"%s\", \"source\":\"%s\", \"target\":\"%s\", \"format\":\"text\"}",
-                message, sourceLang, targetLang
-        );
-
-        String translateResult = httpUtil.postRequest(endPoint, content);
-        if (translateResult != null) {
-            JSONObject jsonResponse = new JSONObject(translateResult);
-            JSONArray translations = jsonResponse.getJSONObject("data").getJSONArray("translations");
-            String translatedText = translations.getJSONObject(0).getString("translatedText");
-
-            return translatedText;
-        }
-        return null;
+        return translationCache.get(TranslationResilience.GOOGLE, sourceLang + ">" + targetLang, message,
+                () -> googleTranslateBatcher.translate(message, sourceLang, targetLang).join());
     }
 }
-
-
-
-
-
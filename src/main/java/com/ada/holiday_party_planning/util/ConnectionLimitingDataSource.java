@@ -0,0 +1,140 @@
+package com.ada.holiday_party_planning.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * DataSource que limita as conexões em uso ao tamanho do pool e a fila de espera por uma conexão.
+ * <p>
+ * Com threads virtuais, cada requisição tem a sua thread e nada impede milhares delas de pedirem
+ * conexão ao pool ao mesmo tempo, cada uma esperando até o tempo limite do pool. Aqui a espera é
+ * feita em um semáforo justo com uma permissão por conexão do pool; quando já há
+ * {@code maxWaiting} threads esperando, ou a espera passa de {@code acquireTimeoutMs}, a conexão
+ * é recusada na hora com {@link SQLTransientConnectionException}. A permissão é devolvida quando
+ * a conexão é fechada.
+ */
+
+public class ConnectionLimitingDataSource extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore permits;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public ConnectionLimitingDataSource(DataSource target, int maxConnections, int maxWaiting, long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(Math.max(1, maxConnections), true);
+        this.maxWaiting = Math.max(0, maxWaiting);
+        this.acquireTimeoutMs = Math.max(0, acquireTimeoutMs);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        acquire();
+        return limited(() -> super.getConnection(username, password));
+    }
+
+    /**
+     * Quantidade de threads esperando por uma conexão.
+     *
+     * @return Threads na fila do limitador.
+     */
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+    /**
+     * Quantidade de conexões que ainda podem ser obtidas sem esperar.
+     *
+     * @return Permissões livres do limitador.
+     */
+
+    public int getAvailable() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Fecha o pool de destino, já que este DataSource é o bean exposto no lugar dele.
+     */
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    private void acquire() throws SQLException {
+        if (permits.tryAcquire()) {
+            return;
+        }
+        if (waiting.incrementAndGet() > maxWaiting) {
+            waiting.decrementAndGet();
+            throw new SQLTransientConnectionException("Connection limit reached: " + maxWaiting + " threads already waiting");
+        }
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Connection not available, request timed out after "
+                        + acquireTimeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted while waiting for a connection", e);
+        } finally {
+            waiting.decrementAndGet();
+        }
+    }
+
+    private Connection limited(ConnectionSupplier supplier) throws SQLException {
+        Connection connection;
+        try {
+            connection = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(Connection.class.getClassLoader(), new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("equals") && method.getParameterCount() == 1) {
+                        return proxy == args[0];
+                    }
+                    if (method.getName().equals("hashCode") && method.getParameterCount() == 0) {
+                        return System.identityHashCode(proxy);
+                    }
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getCause();
+                    } finally {
+                        if (method.getName().equals("close") && released.compareAndSet(false, true)) {
+                            permits.release();
+                        }
+                    }
+                });
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+
+        Connection get() throws SQLException;
+    }
+}
@@ -0,0 +1,73 @@
+package com.ada.holiday_party_planning.util;
+
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.sql.SQLException;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Utilitário para identificar qual restrição do banco causou uma {@link DataIntegrityViolationException}.
+ * <p>
+ * O nome da restrição vem do driver e varia entre bancos (o H2, por exemplo, o devolve em maiúsculas
+ * e prefixado pelo schema), por isso a comparação ignora maiúsculas e aceita o nome contido na mensagem.
+ * <p>
+ * Bancos criados antes de as restrições receberem nome podem ter uma restrição única equivalente
+ * com nome gerado pelo Hibernate ({@code ddl-auto: update} não a remove); para esses casos,
+ * {@link #isUniqueViolationOf} também aceita qualquer violação de unicidade na coluna informada.
+ */
+
+public final class ConstraintViolations {
+
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
+    private ConstraintViolations() {
+    }
+
+    /**
+     * Verifica se a exceção foi causada pela restrição informada.
+     *
+     * @param exception Exceção lançada pelo repositório.
+     * @param constraintName Nome da restrição, como declarado na entidade.
+     * @return true se a violação for dessa restrição.
+     */
+
+    public static boolean isViolationOf(DataIntegrityViolationException exception, String constraintName) {
+        String expected = constraintName.toLowerCase(Locale.ROOT);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                return violation.getConstraintName().toLowerCase(Locale.ROOT).contains(expected);
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Verifica se a exceção foi causada pela restrição única informada ou por qualquer outra
+     * restrição única que contenha apenas a coluna informada.
+     * <p>
+     * A coluna é procurada na mensagem do driver, no formato do PostgreSQL ({@code Key (email)=})
+     * e do H2 ({@code PARTY_OWNER(EMAIL NULLS FIRST)}).
+     *
+     * @param exception Exceção lançada pelo repositório.
+     * @param constraintName Nome da restrição, como declarado na entidade.
+     * @param column Coluna protegida pela restrição.
+     * @return true se a violação for dessa restrição ou de outra restrição única na coluna.
+     */
+
+    public static boolean isUniqueViolationOf(DataIntegrityViolationException exception, String constraintName,
+                                              String column) {
+        if (isViolationOf(exception, constraintName)) {
+            return true;
+        }
+        Pattern columnPattern = Pattern.compile("\\(\\s*\"?" + Pattern.quote(column) + "\"?[\\s)]",
+                Pattern.CASE_INSENSITIVE);
+        for (Throwable cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sql && UNIQUE_VIOLATION_SQL_STATE.equals(sql.getSQLState())) {
+                return sql.getMessage() != null && columnPattern.matcher(sql.getMessage()).find();
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,140 @@
+package com.ada.holiday_party_planning.util;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Template de e-mail pré-compilado.
+ * <p>
+ * O texto é analisado uma única vez e dividido em trechos literais intercalados com
+ * placeholders no formato {@code {{nome}}}. A renderização percorre esses trechos em uma
+ * única passada, escrevendo em um buffer já dimensionado, e aplica escape HTML aos valores.
+ * Placeholders sem valor correspondente são mantidos no texto, como antes.
+ */
+
+public final class EmailTemplate {
+
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+
+    private final String[] literals;
+    private final String[] slots;
+    private final int literalLength;
+
+    private EmailTemplate(String[] literals, String[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Compila o texto de um template.
+     *
+     * @param source Texto do template.
+     * @return Template compilado.
+     */
+
+    public static EmailTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+
+        int position = 0;
+        StringBuilder literal = new StringBuilder();
+        while (position < source.length()) {
+            int open = source.indexOf(OPEN, position);
+            int close = open < 0 ? -1 : source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                break;
+            }
+            literal.append(source, position, open);
+            String name = source.substring(open + OPEN.length(), close);
+            if (name.isBlank() || name.contains(OPEN)) {
+                literal.append(OPEN);
+                position = open + OPEN.length();
+                continue;
+            }
+            literals.add(literal.toString());
+            slots.add(name);
+            literal.setLength(0);
+            position = close + CLOSE.length();
+        }
+        literal.append(source, position, source.length());
+        literals.add(literal.toString());
+
+        return new EmailTemplate(literals.toArray(String[]::new), slots.toArray(String[]::new));
+    }
+
+    /**
+     * Carrega e compila um template do classpath.
+     *
+     * @param path Caminho do recurso no classpath.
+     * @return Template compilado.
+     * @throws UncheckedIOException Se o recurso não puder ser lido.
+     */
+
+    public static EmailTemplate fromClasspath(String path) {
+        try (InputStream input = new ClassPathResource(path).getInputStream()) {
+            return compile(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load email template " + path, e);
+        }
+    }
+
+    /**
+     * Renderiza o template com as variáveis informadas.
+     *
+     * @param variables Valores dos placeholders, escapados para HTML na saída.
+     * @return HTML renderizado.
+     */
+
+    public String render(Map<String, String> variables) {
+        int capacity = literalLength;
+        for (String slot : slots) {
+            String value = variables.get(slot);
+            capacity += value != null ? value.length() + 8 : slot.length() + OPEN.length() + CLOSE.length();
+        }
+
+        StringBuilder out = new StringBuilder(capacity);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]);
+            String value = variables.get(slots[i]);
+            if (value != null) {
+                appendEscaped(out, value);
+            } else {
+                out.append(OPEN).append(slots[i]).append(CLOSE);
+            }
+        }
+        out.append(literals[slots.length]);
+        return out.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        int start = 0;
+        for (int i = 0; i < value.length(); i++) {
+            String replacement = switch (value.charAt(i)) {
+                case '&' -> "&amp;";
+                case '<' -> "&lt;";
+                case '>' -> "&gt;";
+                case '"' -> "&quot;";
+                case '\'' -> "&#39;";
+                default -> null;
+            };
+            if (replacement != null) {
+                out.append(value, start, i).append(replacement);
+                start = i + 1;
+            }
+        }
+        out.append(value, start, value.length());
+    }
+}
@@ -0,0 +1,159 @@
+package com.ada.holiday_party_planning.util;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Agrupa traduções concorrentes para a API Google Translate.
+ * <p>
+ * As mensagens de um mesmo par de idiomas que chegam dentro de uma janela curta são enviadas em
+ * uma única requisição, com um array de valores "q". A API devolve as traduções na mesma ordem,
+ * e cada chamador recebe a tradução da sua posição. Um lote é enviado quando a janela termina
+ * ou quando atinge o tamanho máximo, o que acontecer primeiro.
+ */
+
+@Component
+public class GoogleTranslateBatcher {
+
+    private final HttpUtil httpUtil;
+    private final TranslationResilience translationResilience;
+    private final String endpoint;
+    private final String apiKey;
+    private final long windowMs;
+    private final int maxBatchSize;
+    private final Map<String, Batch> openBatches = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "google-translate-batcher");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public GoogleTranslateBatcher(HttpUtil httpUtil,
+                                  TranslationResilience translationResilience,
+                                  @Value("${translation.google.endpoint:https://translation.googleapis.com/language/translate/v2}") String endpoint,
+                                  @Value("${translation.google.api-key:${GOOGLE_API_KEY:}}") String apiKey,
+                                  @Value("${translation.google.batch.window-ms:10}") long windowMs,
+                                  @Value("${translation.google.batch.max-size:50}") int maxBatchSize) {
+        this.httpUtil = httpUtil;
+        this.translationResilience = translationResilience;
+        this.endpoint = endpoint;
+        this.apiKey = apiKey;
+        this.windowMs = windowMs;
+        this.maxBatchSize = Math.max(1, maxBatchSize);
+    }
+
+    /**
+     * Enfileira uma mensagem para tradução no próximo lote do par de idiomas.
+     *
+     * @param message Texto a ser traduzido.
+     * @param sourceLang Código do idioma de origem.
+     * @param targetLang Código do idioma de destino.
+     * @return Futuro com o texto traduzido; completa com exceção se a requisição do lote falhar.
+     */
+
+    public CompletableFuture<String> translate(String message, String sourceLang, String targetLang) {
+        CompletableFuture<String> result = new CompletableFuture<>();
+        String pair = sourceLang + ">" + targetLang;
+        while (true) {
+            Batch batch = openBatches.get(pair);
+            if (batch == null) {
+                Batch created = new Batch(pair, sourceLang, targetLang);
+                batch = openBatches.putIfAbsent(pair, created);
+                if (batch == null) {
+                    batch = created;
+                    scheduler.schedule(created::flush, windowMs, TimeUnit.MILLISECONDS);
+                }
+            }
+            if (batch.add(message, result)) {
+                return result;
+            }
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        scheduler.shutdown();
+        openBatches.values().forEach(Batch::flush);
+    }
+
+    private void send(Batch batch, List<String> messages, List<CompletableFuture<String>> results) {
+        byte[] body = TranslationCodec.googleTranslateRequest(messages, batch.sourceLang, batch.targetLang);
+        String url = endpoint + "?key=" + URLEncoder.encode(apiKey, StandardCharsets.UTF_8);
+
+        translationResilience.<List<String>>callAsync(TranslationResilience.GOOGLE,
+                () -> httpUtil.postJsonAsync(url, body, TranslationCodec::readGoogleTranslations)
+        ).whenComplete((translations, error) -> {
+            if (error != null) {
+                results.forEach(result -> result.completeExceptionally(error));
+                return;
+            }
+            if (translations == null || translations.size() != results.size()) {
+                IllegalStateException mismatch = new IllegalStateException("Expected " + results.size()
+                        + " translations but got " + (translations == null ? 0 : translations.size()));
+                results.forEach(result -> result.completeExceptionally(mismatch));
+                return;
+            }
+            for (int i = 0; i < results.size(); i++) {
+                results.get(i).complete(translations.get(i));
+            }
+        });
+    }
+
+    private final class Batch {
+
+        private final String pair;
+        private final String sourceLang;
+        private final String targetLang;
+        private final List<String> messages = new ArrayList<>();
+        private final List<CompletableFuture<String>> results = new ArrayList<>();
+        private boolean closed;
+
+        private Batch(String pair, String sourceLang, String targetLang) {
+            this.pair = pair;
+            this.sourceLang = sourceLang;
+            this.targetLang = targetLang;
+        }
+
+        private boolean add(String message, CompletableFuture<String> result) {
+            synchronized (this) {
+                if (closed) {
+                    return false;
+                }
+                messages.add(message);
+                results.add(result);
+                if (messages.size() < maxBatchSize) {
+                    return true;
+                }
+                closed = true;
+            }
+            openBatches.remove(pair, this);
+            send(this, messages, results);
+            return true;
+        }
+
+        private void flush() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            openBatches.remove(pair, this);
+            if (!messages.isEmpty()) {
+                send(this, messages, results);
+            }
+        }
+    }
+}
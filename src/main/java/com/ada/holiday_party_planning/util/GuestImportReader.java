@@ -0,0 +1,237 @@
+package com.ada.holiday_party_planning.util;
+
+import com.ada.holiday_party_planning.dto.GuestImportRowDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Leitura incremental dos arquivos de importação de convidados, linha a linha.
+ * <p>
+ * Formatos aceitos:
+ * <ul>
+ *     <li>CSV com cabeçalho, separado por vírgula ou ponto e vírgula, com as colunas name e email
+ *     (obrigatórias), status e confirmed. Campos entre aspas seguem o RFC 4180, sem quebras de linha.</li>
+ *     <li>NDJSON, um objeto por linha com os campos name, email, status e confirmed.</li>
+ * </ul>
+ * Cada linha é entregue ao {@link Handler} assim que é lida, de modo que a memória usada não
+ * depende do tamanho do arquivo. Linhas mal formadas são reportadas como erro e a leitura continua.
+ */
+
+public final class GuestImportReader {
+
+    private static final JsonFactory JSON = new JsonFactory();
+
+    private GuestImportReader() {
+    }
+
+    /**
+     * Recebe as linhas lidas do arquivo.
+     */
+
+    public interface Handler {
+
+        void row(GuestImportRowDTO row);
+
+        void error(int line, String email, String message);
+    }
+
+    /**
+     * Lê um arquivo CSV com cabeçalho.
+     *
+     * @param reader Conteúdo do arquivo.
+     * @param handler Destino das linhas e dos erros.
+     * @throws IOException Se a leitura do corpo da requisição falhar.
+     */
+
+    public static void readCsv(Reader reader, Handler handler) throws IOException {
+        BufferedReader lines = buffered(reader);
+        String line;
+        int lineNumber = 0;
+        Map<String, Integer> columns = null;
+        char separator = ',';
+
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (lineNumber == 1 && !line.isEmpty() && line.charAt(0) == '\uFEFF') {
+                line = line.substring(1);
+            }
+            if (line.isBlank()) {
+                continue;
+            }
+            if (columns == null) {
+                separator = line.indexOf(';') >= 0 && line.indexOf(',') < 0 ? ';' : ',';
+                columns = header(splitCsv(line, separator));
+                if (columns == null) {
+                    handler.error(lineNumber, null, "Header must contain the columns name and email!");
+                    return;
+                }
+                continue;
+            }
+
+            List<String> fields = splitCsv(line, separator);
+            if (fields == null) {
+                handler.error(lineNumber, null, "Unbalanced quotes!");
+                continue;
+            }
+            String email = field(fields, columns, "email");
+            toRow(lineNumber, field(fields, columns, "name"), email,
+                    field(fields, columns, "status"), field(fields, columns, "confirmed"), handler);
+        }
+    }
+
+    /**
+     * Lê um arquivo NDJSON.
+     *
+     * @param reader Conteúdo do arquivo.
+     * @param handler Destino das linhas e dos erros.
+     * @throws IOException Se a leitura do corpo da requisição falhar.
+     */
+
+    public static void readNdjson(Reader reader, Handler handler) throws IOException {
+        BufferedReader lines = buffered(reader);
+        String line;
+        int lineNumber = 0;
+
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>(8);
+            try (JsonParser parser = JSON.createParser(line)) {
+                if (parser.nextToken() != JsonToken.START_OBJECT) {
+                    handler.error(lineNumber, null, "Line must be a JSON object!");
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String name = parser.currentName();
+                    JsonToken value = parser.nextToken();
+                    if (value.isScalarValue()) {
+                        fields.put(name, value == JsonToken.VALUE_NULL ? null : parser.getText());
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } catch (JsonProcessingException e) {
+                handler.error(lineNumber, null, "Invalid JSON!");
+                continue;
+            }
+            toRow(lineNumber, fields.get("name"), fields.get("email"), fields.get("status"),
+                    fields.get("confirmed"), handler);
+        }
+    }
+
+    private static void toRow(int line, String name, String email, String status, String confirmed, Handler handler) {
+        GuestStatusEnum guestStatus = GuestStatusEnum.PENDING;
+        if (status != null && !status.isBlank()) {
+            try {
+                guestStatus = GuestStatusEnum.valueOf(status.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                handler.error(line, trim(email), "Invalid status: " + status.trim());
+                return;
+            }
+        }
+
+        Boolean isConfirmed = parseBoolean(confirmed);
+        if (isConfirmed == null) {
+            handler.error(line, trim(email), "Invalid confirmed value: " + confirmed.trim());
+            return;
+        }
+
+        handler.row(new GuestImportRowDTO(line, trim(name), trim(email), guestStatus, isConfirmed));
+    }
+
+    private static Boolean parseBoolean(String value) {
+        if (value == null || value.isBlank()) {
+            return false;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "true", "1", "yes", "sim" -> true;
+            case "false", "0", "no", "nao", "não" -> false;
+            default -> null;
+        };
+    }
+
+    private static Map<String, Integer> header(List<String> names) {
+        if (names == null) {
+            return null;
+        }
+        Map<String, Integer> columns = new HashMap<>();
+        for (int i = 0; i < names.size(); i++) {
+            String column = switch (names.get(i).trim().toLowerCase(Locale.ROOT)) {
+                case "name", "nome" -> "name";
+                case "email", "e-mail" -> "email";
+                case "status" -> "status";
+                case "confirmed", "confirmado" -> "confirmed";
+                default -> null;
+            };
+            if (column != null) {
+                columns.putIfAbsent(column, i);
+            }
+        }
+        return columns.containsKey("name") && columns.containsKey("email") ? columns : null;
+    }
+
+    private static String field(List<String> fields, Map<String, Integer> columns, String column) {
+        Integer index = columns.get(column);
+        return index == null || index >= fields.size() ? null : fields.get(index);
+    }
+
+    /**
+     * Divide uma linha CSV nos campos, respeitando aspas. Retorna null se as aspas não fecharem.
+     */
+
+    static List<String> splitCsv(String line, char separator) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"') {
+                    if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        current.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == separator) {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static BufferedReader buffered(Reader reader) {
+        return reader instanceof BufferedReader buffered ? buffered : new BufferedReader(reader, 64 * 1024);
+    }
+}
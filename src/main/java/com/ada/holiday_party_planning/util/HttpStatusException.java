@@ -0,0 +1,77 @@
+package com.ada.holiday_party_planning.util;
+
+import java.net.http.HttpHeaders;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.Optional;
+
+/**
+ * Resposta HTTP com status fora da faixa 2xx recebida de uma integração externa.
+ * <p>
+ * Separa os erros do provedor (4xx e 5xx) das respostas vazias, e carrega o tempo de espera
+ * pedido pelo cabeçalho Retry-After, quando houver (em segundos ou como data HTTP).
+ */
+
+public class HttpStatusException extends RuntimeException {
+
+    private final int statusCode;
+    private final Duration retryAfter;
+
+    public HttpStatusException(String endpoint, int statusCode, Duration retryAfter) {
+        super("POST " + endpoint + " returned HTTP " + statusCode
+                + (retryAfter != null ? " (retry after " + retryAfter.toSeconds() + "s)" : ""));
+        this.statusCode = statusCode;
+        this.retryAfter = retryAfter;
+    }
+
+    /**
+     * Cria a exceção a partir do status e dos cabeçalhos da resposta.
+     *
+     * @param endpoint URL chamada.
+     * @param statusCode Status HTTP da resposta.
+     * @param headers Cabeçalhos da resposta.
+     * @return Exceção com o Retry-After interpretado, se presente.
+     */
+
+    public static HttpStatusException of(String endpoint, int statusCode, HttpHeaders headers) {
+        return new HttpStatusException(endpoint, statusCode,
+                headers.firstValue("Retry-After").map(HttpStatusException::parseRetryAfter).orElse(null));
+    }
+
+    public int getStatusCode() {
+        return statusCode;
+    }
+
+    public Optional<Duration> getRetryAfter() {
+        return Optional.ofNullable(retryAfter);
+    }
+
+    /**
+     * Indica se o erro é transitório: 408, 429 ou 5xx. Os demais 4xx dependem da requisição e
+     * se repetiriam a cada nova tentativa.
+     *
+     * @return true se valer a pena tentar de novo mais tarde.
+     */
+
+    public boolean isTransient() {
+        return statusCode == 408 || statusCode == 429 || statusCode >= 500;
+    }
+
+    private static Duration parseRetryAfter(String value) {
+        String trimmed = value.trim();
+        try {
+            return Duration.ofSeconds(Math.max(0, Long.parseLong(trimmed)));
+        } catch (NumberFormatException e) {
+            try {
+                Duration wait = Duration.between(ZonedDateTime.now(Clock.systemUTC()),
+                        ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME));
+                return wait.isNegative() ? Duration.ZERO : wait;
+            } catch (DateTimeParseException ignored) {
+                return null;
+            }
+        }
+    }
+}
@@ -1,28 +1,183 @@
 package com.ada.holiday_party_planning.util;
 
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cliente HTTP compartilhado pelas integrações externas.
+ * <p>
+ * Um único {@link HttpClient} é criado na inicialização e reaproveitado em todas as chamadas,
+ * mantendo o pool de conexões, as sessões TLS e a multiplexação HTTP/2. Os tempos limite de
+ * conexão e de requisição são configuráveis, e os callbacks assíncronos rodam em threads virtuais.
+ */
 
 @Component
 public class HttpUtil {
 
-    public String postRequest(String endpoint, String content) {
-        try (HttpClient client = HttpClient.newHttpClient()) {
-            HttpRequest request = HttpRequest.newBuilder()
-                    .uri(URI.create(endpoint))
-                    .POST(HttpRequest.BodyPublishers.ofString(content))
-                    .build();
+    private static final Logger log = LoggerFactory.getLogger(HttpUtil.class);
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient client;
+    private final Duration requestTimeout;
+
+    public HttpUtil(@Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                    @Value("${http.client.request-timeout-ms:5000}") long requestTimeoutMs) {
+        this.requestTimeout = Duration.ofMillis(requestTimeoutMs);
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMs))
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .executor(executor)
+                .build();
+    }
 
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
-            return response.body();
+    /**
+     * Envia um POST e aguarda a resposta.
+     *
+     * @param endpoint URL de destino.
+     * @param content Corpo da requisição.
+     * @return Corpo da resposta, ou null em caso de erro ou tempo limite esgotado.
+     */
 
+    public String postRequest(String endpoint, String content) {
+        try {
+            return client.send(buildPost(endpoint, content), HttpResponse.BodyHandlers.ofString()).body();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("POST {} interrupted", endpoint);
+            return null;
         } catch (Exception e) {
-            e.printStackTrace();
+            log.warn("POST {} failed: {}", endpoint, e.toString());
             return null;
         }
     }
+
+    /**
+     * Envia um POST sem bloquear a thread chamadora.
+     *
+     * @param endpoint URL de destino.
+     * @param content Corpo da requisição.
+     * @return Futuro com o corpo da resposta; completa com exceção em caso de erro ou tempo limite esgotado.
+     */
+
+    public CompletableFuture<String> postRequestAsync(String endpoint, String content) {
+        try {
+            return client.sendAsync(buildPost(endpoint, content), HttpResponse.BodyHandlers.ofString())
+                    .thenApply(HttpResponse::body);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Envia um POST com corpo JSON e lê a resposta em streaming com o leitor informado.
+     * <p>
+     * Só respostas 2xx chegam ao leitor; as demais viram {@link HttpStatusException}, e falhas de
+     * rede e tempo limite esgotado são relançadas, para que o chamador não as confunda com uma
+     * resposta sem resultado.
+     *
+     * @param endpoint URL de destino.
+     * @param body Corpo JSON em UTF-8.
+     * @param reader Leitor do corpo da resposta.
+     * @return Valor lido da resposta.
+     * @throws HttpStatusException Se o status da resposta não for 2xx.
+     * @throws UncheckedIOException Em caso de erro de rede, tempo limite esgotado ou interrupção.
+     */
+
+    public <T> T postJson(String endpoint, byte[] body, ResponseReader<T> reader) {
+        try {
+            HttpResponse<InputStream> response = client.send(buildJsonPost(endpoint, body),
+                    HttpResponse.BodyHandlers.ofInputStream());
+            return read(endpoint, response, reader);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new UncheckedIOException(new InterruptedIOException("POST " + endpoint + " interrupted"));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Envia um POST com corpo JSON sem bloquear a thread chamadora. A resposta é lida em
+     * streaming, numa thread virtual, pelo leitor informado.
+     *
+     * @param endpoint URL de destino.
+     * @param body Corpo JSON em UTF-8.
+     * @param reader Leitor do corpo da resposta.
+     * @return Futuro com o valor lido; completa com {@link HttpStatusException} se o status não for
+     *         2xx, ou com a exceção de rede em caso de erro ou tempo limite esgotado.
+     */
+
+    public <T> CompletableFuture<T> postJsonAsync(String endpoint, byte[] body, ResponseReader<T> reader) {
+        try {
+            return client.sendAsync(buildJsonPost(endpoint, body), HttpResponse.BodyHandlers.ofInputStream())
+                    .thenApplyAsync(response -> {
+                        try {
+                            return read(endpoint, response, reader);
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    }, executor);
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    /**
+     * Leitor do corpo de uma resposta HTTP.
+     */
+
+    @FunctionalInterface
+    public interface ResponseReader<T> {
+        T read(InputStream body) throws IOException;
+    }
+
+    @PreDestroy
+    void close() {
+        client.close();
+        executor.shutdownNow();
+    }
+
+    private static <T> T read(String endpoint, HttpResponse<InputStream> response, ResponseReader<T> reader)
+            throws IOException {
+        try (InputStream body = response.body()) {
+            if (response.statusCode() / 100 != 2) {
+                throw HttpStatusException.of(endpoint, response.statusCode(), response.headers());
+            }
+            return reader.read(body);
+        }
+    }
+
+    private HttpRequest buildJsonPost(String endpoint, byte[] body) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(endpoint))
+                .timeout(requestTimeout)
+                .header("Content-Type", "application/json; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body))
+                .build();
+    }
+
+    private HttpRequest buildPost(String endpoint, String content) {
+        return HttpRequest.newBuilder()
+                .uri(URI.create(endpoint))
+                .timeout(requestTimeout)
+                .POST(HttpRequest.BodyPublishers.ofString(content))
+                .build();
+    }
 }
@@ -0,0 +1,139 @@
+package com.ada.holiday_party_planning.util;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.internet.InternetAddress;
+import jakarta.mail.internet.MimeMessage;
+import jakarta.mail.internet.MimeMultipart;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+/**
+ * Monta os e-mails de um lote de convites a partir de partes MIME codificadas uma única vez.
+ * <p>
+ * Os convites de um evento usam as mesmas variáveis para todos os convidados; o que muda entre
+ * eles são só os cabeçalhos do destinatário. {@link #prepare} renderiza o template, monta o corpo
+ * multipart (mixed/related, como o {@link MimeMessageHelper}) e codifica corpo, From e Subject
+ * para bytes e texto prontos. {@link Batch#createMessage} cria então uma mensagem por destinatário
+ * que reaproveita esses bytes: ao ser enviada, ela não renderiza nem recodifica o HTML.
+ */
+
+public final class InviteBatchRenderer {
+
+    private final EmailTemplate template;
+
+    public InviteBatchRenderer(EmailTemplate template) {
+        this.template = template;
+    }
+
+    /**
+     * Renderiza e codifica as partes comuns a todos os e-mails do lote.
+     *
+     * @param session Sessão do Jakarta Mail das mensagens.
+     * @param from Remetente.
+     * @param subject Assunto.
+     * @param variables Variáveis do template, iguais para todos os destinatários.
+     * @return Lote pronto para criar uma mensagem por destinatário.
+     * @throws MessagingException Se o remetente for inválido ou o corpo não puder ser codificado.
+     */
+
+    public Batch prepare(Session session, String from, String subject, Map<String, String> variables)
+            throws MessagingException {
+        MimeMessage message = new MimeMessage(session);
+        MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name());
+        helper.setFrom(from);
+        helper.setSubject(subject);
+        helper.setText(template.render(variables), true);
+        message.saveChanges();
+
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        try {
+            helper.getRootMimeMultipart().writeTo(body);
+        } catch (IOException e) {
+            throw new MessagingException("Failed to encode email body", e);
+        }
+        return new Batch(session, message.getHeader("From", null), message.getHeader("Subject", null),
+                message.getContentType(), body.toByteArray());
+    }
+
+    /**
+     * Partes já codificadas de um lote de e-mails.
+     */
+
+    public static final class Batch {
+
+        private final Session session;
+        private final String from;
+        private final String subject;
+        private final String contentType;
+        private final byte[] body;
+
+        private Batch(Session session, String from, String subject, String contentType, byte[] body) {
+            this.session = session;
+            this.from = from;
+            this.subject = subject;
+            this.contentType = contentType;
+            this.body = body;
+        }
+
+        /**
+         * Cria a mensagem de um destinatário com o corpo e os cabeçalhos compartilhados do lote.
+         *
+         * @param to E-mail do destinatário.
+         * @return Mensagem pronta para envio.
+         * @throws MessagingException Se o e-mail do destinatário for inválido.
+         */
+
+        public MimeMessage createMessage(String to) throws MessagingException {
+            if (to == null) {
+                throw new MessagingException("Recipient must not be null");
+            }
+            MimeMessage message = new PreencodedMimeMessage(session, body);
+            message.setHeader("From", from);
+            message.setRecipient(Message.RecipientType.TO, new InternetAddress(to));
+            message.setHeader("Subject", subject);
+            message.setHeader("Content-Type", contentType);
+            return message;
+        }
+
+        /**
+         * Tamanho em bytes do corpo compartilhado.
+         *
+         * @return Bytes do corpo codificado.
+         */
+
+        public int getBodySize() {
+            return body.length;
+        }
+    }
+
+    /**
+     * Mensagem cujo corpo já está codificado. Ao salvar, só atualiza MIME-Version e Message-ID,
+     * sem abrir o multipart para recalcular os cabeçalhos das partes, e o envio escreve os bytes
+     * do corpo como estão.
+     */
+
+    private static final class PreencodedMimeMessage extends MimeMessage {
+
+        private PreencodedMimeMessage(Session session, byte[] body) {
+            super(session);
+            this.content = body;
+        }
+
+        @Override
+        protected void updateHeaders() throws MessagingException {
+            setHeader("MIME-Version", "1.0");
+            if (getHeader("Message-ID") == null) {
+                updateMessageID();
+            }
+            // O corpo não mudou: writeTo copia os bytes prontos em vez de passar pelo DataHandler.
+            modified = false;
+        }
+    }
+}
@@ -0,0 +1,67 @@
+package com.ada.holiday_party_planning.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * Utilitário para escrever respostas no formato NDJSON (um objeto JSON por linha).
+ * <p>
+ * Cada linha é serializada e enviada assim que chega do banco, e o buffer é descarregado
+ * a cada {@link #FLUSH_EVERY} linhas, de modo que a memória usada não depende do tamanho da tabela.
+ */
+
+@Component
+public class NdjsonResponseWriter {
+
+    /**
+     * Media type das respostas em streaming.
+     */
+
+    public static final String APPLICATION_NDJSON = "application/x-ndjson";
+
+    private static final int FLUSH_EVERY = 100;
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public NdjsonResponseWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    /**
+     * Cria o corpo da resposta em streaming a partir de uma fonte de linhas.
+     *
+     * @param source Função que percorre as linhas e entrega cada uma ao consumidor recebido.
+     * @return O corpo da resposta, executado pelo Spring MVC fora da thread da requisição.
+     */
+
+    public <T> StreamingResponseBody stream(Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null)) {
+                int[] written = {0};
+                source.accept(row -> {
+                    try {
+                        rowWriter.writeValue(generator, row);
+                        generator.writeRaw('\n');
+                        if (++written[0] % FLUSH_EVERY == 0) {
+                            generator.flush();
+                        }
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            }
+        };
+    }
+}
@@ -0,0 +1,276 @@
+package com.ada.holiday_party_planning.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.annotation.PreDestroy;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
+import jakarta.mail.Transport;
+import jakarta.mail.internet.MimeMessage;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Pool de conexões SMTP já autenticadas, para que um lote de e-mails pague o handshake (TCP,
+ * STARTTLS e AUTH) uma vez só, e não uma vez por e-mail como o {@link JavaMailSenderImpl}.
+ * <p>
+ * Cada chamada a {@link #send} pega uma conexão do pool e envia o lote inteiro por ela; threads
+ * diferentes usam conexões diferentes, até {@code mail.pool.max-size}. Conexões paradas há mais de
+ * {@code mail.pool.idle-timeout-ms} ou que já enviaram {@code mail.pool.max-messages-per-connection}
+ * e-mails são trocadas por novas, antes que o servidor as derrube. Se o envio falhar por um
+ * problema de conexão, a conexão é refeita e o e-mail é reenviado uma vez; se a conexão continua de
+ * pé (um destinatário recusado, por exemplo), falha só o próprio e-mail. Se não for possível
+ * conectar, o restante do lote falha com o mesmo erro, sem uma nova tentativa por e-mail.
+ * <p>
+ * Métricas: {@code mail.smtp.connections.open} e {@code mail.smtp.connections.idle} (gauges),
+ * {@code mail.smtp.connects} e {@code mail.smtp.reconnects} (contadores) e os timers
+ * {@code mail.smtp.connect} e {@code mail.smtp.send}, este com a tag result (success/failure).
+ */
+
+@Component
+public class SmtpTransportPool implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(SmtpTransportPool.class);
+
+    private final JavaMailSenderImpl mailSender;
+    private final int maxMessagesPerConnection;
+    private final long idleTimeoutMs;
+    private final long borrowTimeoutMs;
+    private final Semaphore permits;
+    private final LinkedBlockingDeque<PooledTransport> idle = new LinkedBlockingDeque<>();
+    private final AtomicInteger open = new AtomicInteger();
+    private volatile boolean closed;
+
+    private final Counter connects;
+    private final Counter reconnects;
+    private final Timer connectTimer;
+    private final Timer sendSuccess;
+    private final Timer sendFailure;
+
+    public SmtpTransportPool(JavaMailSenderImpl mailSender,
+                             @Value("${mail.pool.max-size:8}") int maxSize,
+                             @Value("${mail.pool.max-messages-per-connection:100}") int maxMessagesPerConnection,
+                             @Value("${mail.pool.idle-timeout-ms:30000}") long idleTimeoutMs,
+                             @Value("${mail.pool.borrow-timeout-ms:10000}") long borrowTimeoutMs,
+                             Optional<MeterRegistry> meterRegistry) {
+        this.mailSender = mailSender;
+        this.permits = new Semaphore(Math.max(1, maxSize), true);
+        this.maxMessagesPerConnection = Math.max(1, maxMessagesPerConnection);
+        this.idleTimeoutMs = Math.max(0, idleTimeoutMs);
+        this.borrowTimeoutMs = Math.max(0, borrowTimeoutMs);
+
+        MeterRegistry registry = meterRegistry.orElseGet(SimpleMeterRegistry::new);
+        Gauge.builder("mail.smtp.connections.open", open, AtomicInteger::get).register(registry);
+        Gauge.builder("mail.smtp.connections.idle", idle, LinkedBlockingDeque::size).register(registry);
+        this.connects = Counter.builder("mail.smtp.connects").register(registry);
+        this.reconnects = Counter.builder("mail.smtp.reconnects").register(registry);
+        this.connectTimer = Timer.builder("mail.smtp.connect").register(registry);
+        this.sendSuccess = Timer.builder("mail.smtp.send").tag("result", "success").register(registry);
+        this.sendFailure = Timer.builder("mail.smtp.send").tag("result", "failure").register(registry);
+    }
+
+    /**
+     * Envia os e-mails por uma única conexão do pool.
+     *
+     * @param messages E-mails a enviar.
+     * @return Uma posição por e-mail, na mesma ordem: null se o e-mail foi enviado, ou a falha.
+     * @throws MessagingException Se nenhuma conexão ficar livre dentro de {@code mail.pool.borrow-timeout-ms}.
+     */
+
+    public List<MessagingException> send(List<MimeMessage> messages) throws MessagingException {
+        List<MessagingException> failures = new ArrayList<>(messages.size());
+        if (messages.isEmpty()) {
+            return failures;
+        }
+
+        acquire();
+        PooledTransport transport = idle.pollFirst();
+        try {
+            for (MimeMessage message : messages) {
+                if (transport == null || transport.expired()) {
+                    discard(transport);
+                    transport = null;
+                    try {
+                        transport = connect();
+                    } catch (MessagingException e) {
+                        failRemaining(failures, messages.size(), e);
+                        break;
+                    }
+                }
+                try {
+                    sendMessage(transport, message);
+                    failures.add(null);
+                } catch (MessagingException | IllegalStateException e) {
+                    if (e instanceof MessagingException failure && transport.transport.isConnected()) {
+                        failures.add(failure);
+                        continue;
+                    }
+                    log.debug("SMTP connection failed, reconnecting: {}", e.getMessage());
+                    discard(transport);
+                    transport = null;
+                    reconnects.increment();
+                    try {
+                        transport = connect();
+                    } catch (MessagingException retry) {
+                        failRemaining(failures, messages.size(), retry);
+                        break;
+                    }
+                    try {
+                        sendMessage(transport, message);
+                        failures.add(null);
+                    } catch (MessagingException retry) {
+                        failures.add(retry);
+                    }
+                }
+            }
+        } finally {
+            release(transport);
+        }
+        return failures;
+    }
+
+    /**
+     * Sessão do Jakarta Mail usada pelas conexões do pool, para criar as mensagens enviadas por ele.
+     *
+     * @return Sessão do {@link JavaMailSenderImpl}.
+     */
+
+    public Session getSession() {
+        return mailSender.getSession();
+    }
+
+    /**
+     * Quantidade de conexões abertas, livres ou em uso.
+     *
+     * @return Conexões abertas pelo pool.
+     */
+
+    public int getOpen() {
+        return open.get();
+    }
+
+    /**
+     * Fecha as conexões livres; as que estão em uso são fechadas quando forem devolvidas.
+     */
+
+    @PreDestroy
+    @Override
+    public void close() {
+        closed = true;
+        PooledTransport transport;
+        while ((transport = idle.pollFirst()) != null) {
+            discard(transport);
+        }
+    }
+
+    private void acquire() throws MessagingException {
+        try {
+            if (!permits.tryAcquire(borrowTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new MessagingException("No SMTP connection available after " + borrowTimeoutMs + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MessagingException("Interrupted while waiting for an SMTP connection", e);
+        }
+    }
+
+    private void release(PooledTransport transport) {
+        if (transport != null) {
+            if (closed || transport.expired()) {
+                discard(transport);
+            } else {
+                transport.lastUsed = System.nanoTime();
+                idle.offerFirst(transport);
+            }
+        }
+        permits.release();
+    }
+
+    private PooledTransport connect() throws MessagingException {
+        long start = System.nanoTime();
+        Transport transport = mailSender.getSession().getTransport(
+                mailSender.getProtocol() == null ? "smtp" : mailSender.getProtocol());
+        String username = mailSender.getUsername();
+        String password = mailSender.getPassword();
+        if ("".equals(username)) {
+            username = null;
+            if ("".equals(password)) {
+                password = null;
+            }
+        }
+        try {
+            transport.connect(mailSender.getHost(), mailSender.getPort(), username, password);
+        } finally {
+            connectTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        connects.increment();
+        open.incrementAndGet();
+        return new PooledTransport(transport);
+    }
+
+    private void sendMessage(PooledTransport transport, MimeMessage message) throws MessagingException {
+        long start = System.nanoTime();
+        boolean sent = false;
+        try {
+            if (message.getSentDate() == null) {
+                message.setSentDate(new Date());
+            }
+            message.saveChanges();
+            transport.transport.sendMessage(message, message.getAllRecipients());
+            transport.sent++;
+            transport.lastUsed = System.nanoTime();
+            sent = true;
+        } finally {
+            (sent ? sendSuccess : sendFailure).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    private static void failRemaining(List<MessagingException> failures, int total, MessagingException failure) {
+        while (failures.size() < total) {
+            failures.add(failure);
+        }
+    }
+
+    private void discard(PooledTransport transport) {
+        if (transport == null) {
+            return;
+        }
+        open.decrementAndGet();
+        try {
+            transport.transport.close();
+        } catch (MessagingException e) {
+            log.debug("Failed to close SMTP connection: {}", e.getMessage());
+        }
+    }
+
+    private final class PooledTransport {
+
+        private final Transport transport;
+        private long lastUsed = System.nanoTime();
+        private int sent;
+
+        private PooledTransport(Transport transport) {
+            this.transport = transport;
+        }
+
+        private boolean expired() {
+            return sent >= maxMessagesPerConnection
+                    || System.nanoTime() - lastUsed > TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        }
+    }
+}
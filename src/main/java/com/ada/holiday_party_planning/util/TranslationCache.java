@@ -0,0 +1,244 @@
+package com.ada.holiday_party_planning.util;
+
+import com.ada.holiday_party_planning.model.TranslationCacheEntry;
+import com.ada.holiday_party_planning.repository.TranslationCacheRepository;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Cache das traduções obtidas nas APIs externas, indexado por provedor, variante
+ * (idiomas ou categoria) e texto.
+ * <p>
+ * A memória é limitada pelo tamanho aproximado das entradas em bytes, com a política de despejo
+ * W-TinyLFU do Caffeine. Traduções bem-sucedidas expiram após o TTL configurado; falhas também
+ * são guardadas, por um tempo menor, para não repetir chamadas a um provedor indisponível. Quando o
+ * provedor responde com Retry-After ({@link HttpStatusException}), a falha fica guardada por esse
+ * tempo, limitado ao TTL.
+ * Opcionalmente, as traduções são gravadas na tabela translation_cache e recuperadas de lá
+ * quando não estão em memória, sobrevivendo a reinicializações.
+ * As estatísticas de acertos, falhas e despejos são publicadas no Micrometer com o nome "translations".
+ * <p>
+ * O cache guarda futuros ({@link AsyncCache}): a chamada ao provedor roda na thread de quem pediu,
+ * fora do lock do mapa, e chamadas simultâneas para o mesmo texto aguardam o mesmo futuro.
+ */
+
+@Component
+public class TranslationCache {
+
+    private static final Logger log = LoggerFactory.getLogger(TranslationCache.class);
+
+    private static final int ENTRY_OVERHEAD_BYTES = 64;
+    private static final int MAX_PERSISTED_LENGTH = 4000;
+
+    private final AsyncCache<Key, Entry> cache;
+    private final Duration ttl;
+    private final TranslationCacheRepository repository;
+
+    @Autowired
+    public TranslationCache(@Value("${translation.cache.max-weight-bytes:16777216}") long maxWeightBytes,
+                            @Value("${translation.cache.ttl-minutes:1440}") long ttlMinutes,
+                            @Value("${translation.cache.negative-ttl-seconds:10}") long negativeTtlSeconds,
+                            @Value("${translation.cache.persistent.enabled:false}") boolean persistentEnabled,
+                            Optional<TranslationCacheRepository> repository,
+                            Optional<MeterRegistry> meterRegistry) {
+        this(maxWeightBytes, Duration.ofMinutes(ttlMinutes), Duration.ofSeconds(negativeTtlSeconds),
+                persistentEnabled ? repository.orElse(null) : null, meterRegistry);
+    }
+
+    private TranslationCache(long maxWeightBytes, Duration ttl, Duration negativeTtl,
+                             TranslationCacheRepository repository, Optional<MeterRegistry> meterRegistry) {
+        this.ttl = ttl;
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxWeightBytes)
+                .weigher((Key key, Entry value) -> key.weight() + value.weight())
+                .expireAfter(new ValueExpiry(ttl, negativeTtl))
+                .recordStats()
+                .buildAsync();
+        meterRegistry.ifPresent(registry -> CaffeineCacheMetrics.monitor(registry, cache, "translations"));
+    }
+
+    /**
+     * Cria um cache apenas em memória, sem tier persistente nem métricas.
+     *
+     * @param maxWeightBytes Tamanho máximo aproximado do cache em bytes.
+     * @param ttl Tempo de vida das traduções bem-sucedidas.
+     * @param negativeTtl Tempo de vida das falhas.
+     * @return Cache em memória.
+     */
+
+    public static TranslationCache inMemory(long maxWeightBytes, Duration ttl, Duration negativeTtl) {
+        return new TranslationCache(maxWeightBytes, ttl, negativeTtl, null, Optional.empty());
+    }
+
+    /**
+     * Retorna a tradução em cache ou a obtém com o loader informado.
+     * <p>
+     * Um resultado nulo ou uma exceção do loader é guardado como falha; enquanto a falha estiver
+     * em cache, as chamadas seguintes retornam null sem consultar o provedor. Um erro HTTP com
+     * Retry-After mantém a falha pelo tempo pedido pelo provedor.
+     *
+     * @param provider Nome do provedor de tradução.
+     * @param variant Idiomas de origem e destino, ou categoria da tradução.
+     * @param text Texto a ser traduzido.
+     * @param loader Chamada ao provedor, executada somente em caso de falta no cache.
+     * @return Texto traduzido, ou null se a tradução falhou.
+     */
+
+    public String get(String provider, String variant, String text, Supplier<String> loader) {
+        if (text == null) {
+            return loader.get();
+        }
+        Key key = new Key(provider, variant, text);
+        CompletableFuture<Entry> loading = new CompletableFuture<>();
+        CompletableFuture<Entry> entry = cache.get(key, (k, executor) -> loading);
+        if (entry == loading) {
+            try {
+                loading.complete(load(key, loader));
+            } catch (RuntimeException | Error e) {
+                loading.completeExceptionally(e);
+                throw e;
+            }
+        }
+        return entry.join().translated();
+    }
+
+    /**
+     * Estatísticas do cache em memória.
+     *
+     * @return Contadores de acertos, faltas e despejos.
+     */
+
+    public CacheStats stats() {
+        return cache.synchronous().stats();
+    }
+
+    private Entry load(Key key, Supplier<String> loader) {
+        String persisted = readPersisted(key);
+        if (persisted != null) {
+            return new Entry(persisted);
+        }
+
+        String translated;
+        try {
+            translated = loader.get();
+        } catch (RuntimeException e) {
+            log.warn("Translation via {} failed: {}", key.provider(), e.toString());
+            return new Entry(null, retryAfter(e));
+        }
+        if (translated != null) {
+            writePersisted(key, translated);
+        }
+        return new Entry(translated);
+    }
+
+    private static Duration retryAfter(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpStatusException status) {
+                return status.getRetryAfter().orElse(null);
+            }
+        }
+        return null;
+    }
+
+    private String readPersisted(Key key) {
+        if (repository == null) {
+            return null;
+        }
+        try {
+            return repository.findById(key.hash())
+                    .filter(entry -> entry.getCreatedAt().plus(ttl).isAfter(Instant.now()))
+                    .map(TranslationCacheEntry::getTranslated)
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Could not read persisted translation: {}", e.toString());
+            return null;
+        }
+    }
+
+    private void writePersisted(Key key, String translated) {
+        if (repository == null || translated.length() > MAX_PERSISTED_LENGTH) {
+            return;
+        }
+        try {
+            repository.save(new TranslationCacheEntry(key.hash(), translated, Instant.now()));
+        } catch (RuntimeException e) {
+            log.warn("Could not persist translation: {}", e.toString());
+        }
+    }
+
+    private record Key(String provider, String variant, String text) {
+
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + 2 * (provider.length() + variant.length() + text.length());
+        }
+
+        String hash() {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                digest.update(provider.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(variant.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+                digest.update(text.getBytes(StandardCharsets.UTF_8));
+                return HexFormat.of().formatHex(digest.digest());
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    private record Entry(String translated, Duration retryAfter) {
+
+        Entry(String translated) {
+            this(translated, null);
+        }
+
+        int weight() {
+            return ENTRY_OVERHEAD_BYTES + (translated != null ? 2 * translated.length() : 0);
+        }
+    }
+
+    private record ValueExpiry(Duration ttl, Duration negativeTtl) implements Expiry<Key, Entry> {
+
+        @Override
+        public long expireAfterCreate(Key key, Entry value, long currentTime) {
+            if (value.translated() != null) {
+                return ttl.toNanos();
+            }
+            if (value.retryAfter() != null && value.retryAfter().compareTo(negativeTtl) > 0) {
+                return (value.retryAfter().compareTo(ttl) < 0 ? value.retryAfter() : ttl).toNanos();
+            }
+            return negativeTtl.toNanos();
+        }
+
+        @Override
+        public long expireAfterUpdate(Key key, Entry value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(Key key, Entry value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
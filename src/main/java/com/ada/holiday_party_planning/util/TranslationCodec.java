@@ -0,0 +1,133 @@
+package com.ada.holiday_party_planning.util;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Codec JSON compartilhado pelos clientes de tradução.
+ * <p>
+ * Os corpos das requisições são escritos em streaming, com escape correto de aspas, quebras de
+ * linha e caracteres de controle, num buffer de bytes reaproveitado por thread. As respostas são
+ * lidas token a token, extraindo apenas o campo da tradução, sem montar a árvore do documento.
+ */
+
+public final class TranslationCodec {
+
+    private static final JsonFactory FACTORY = JsonFactory.builder().build();
+
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
+    private static final ThreadLocal<ByteArrayOutputStream> BUFFER =
+            ThreadLocal.withInitial(() -> new ByteArrayOutputStream(1024));
+
+    private TranslationCodec() {
+    }
+
+    /**
+     * Monta o corpo da requisição da API FunTranslations: {@code {"text": ...}}.
+     *
+     * @param text Texto a ser traduzido.
+     * @return Corpo JSON em UTF-8.
+     */
+
+    public static byte[] funTranslationRequest(String text) {
+        return write(generator -> {
+            generator.writeStartObject();
+            generator.writeStringField("text", text);
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Monta o corpo da requisição da API Google Translate v2, com um valor "q" por mensagem.
+     *
+     * @param messages Textos a serem traduzidos.
+     * @param sourceLang Código do idioma de origem.
+     * @param targetLang Código do idioma de destino.
+     * @return Corpo JSON em UTF-8.
+     */
+
+    public static byte[] googleTranslateRequest(List<String> messages, String sourceLang, String targetLang) {
+        return write(generator -> {
+            generator.writeStartObject();
+            generator.writeArrayFieldStart("q");
+            for (String message : messages) {
+                generator.writeString(message);
+            }
+            generator.writeEndArray();
+            generator.writeStringField("source", sourceLang);
+            generator.writeStringField("target", targetLang);
+            generator.writeStringField("format", "text");
+            generator.writeEndObject();
+        });
+    }
+
+    /**
+     * Lê o campo "translated" da resposta da API FunTranslations.
+     *
+     * @param body Corpo da resposta.
+     * @return Texto traduzido, ou null se a resposta não tiver o campo (por exemplo, um erro da API).
+     * @throws IOException Se o corpo não for um JSON válido.
+     */
+
+    public static String readFunTranslation(InputStream body) throws IOException {
+        List<String> values = readStringFields(body, "translated", 1);
+        return values.isEmpty() ? null : values.get(0);
+    }
+
+    /**
+     * Lê os campos "translatedText" da resposta da API Google Translate, na ordem em que aparecem.
+     *
+     * @param body Corpo da resposta.
+     * @return Traduções na mesma ordem dos valores "q" enviados.
+     * @throws IOException Se o corpo não for um JSON válido.
+     */
+
+    public static List<String> readGoogleTranslations(InputStream body) throws IOException {
+        return readStringFields(body, "translatedText", Integer.MAX_VALUE);
+    }
+
+    private static List<String> readStringFields(InputStream body, String fieldName, int limit) throws IOException {
+        List<String> values = new ArrayList<>();
+        try (JsonParser parser = FACTORY.createParser(body)) {
+            JsonToken token;
+            while (values.size() < limit && (token = parser.nextToken()) != null) {
+                if (token == JsonToken.FIELD_NAME && fieldName.equals(parser.currentName())
+                        && parser.nextToken() == JsonToken.VALUE_STRING) {
+                    values.add(parser.getText());
+                }
+            }
+        }
+        return values;
+    }
+
+    private static byte[] write(BodyWriter writer) {
+        ByteArrayOutputStream buffer = BUFFER.get();
+        buffer.reset();
+        try (JsonGenerator generator = FACTORY.createGenerator(buffer)) {
+            writer.write(generator);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        byte[] bytes = buffer.toByteArray();
+        if (bytes.length > MAX_RETAINED_BUFFER) {
+            // Não mantém por thread um buffer que cresceu por causa de uma descrição muito grande.
+            BUFFER.remove();
+        }
+        return bytes;
+    }
+
+    @FunctionalInterface
+    private interface BodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+}
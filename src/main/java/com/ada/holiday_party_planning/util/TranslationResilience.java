@@ -0,0 +1,161 @@
+package com.ada.holiday_party_planning.util;
+
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedRateLimiterMetrics;
+import io.github.resilience4j.ratelimiter.RateLimiter;
+import io.github.resilience4j.ratelimiter.RateLimiterConfig;
+import io.github.resilience4j.ratelimiter.RateLimiterRegistry;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+/**
+ * Camada de resiliência das chamadas aos provedores de tradução.
+ * <p>
+ * Cada provedor tem um circuit breaker, um bulkhead e um rate limiter próprios. O circuit breaker
+ * abre quando a taxa de falhas passa do limite e, depois da espera, libera algumas chamadas de
+ * teste no estado half-open. Contam como falha os erros de rede, o tempo limite esgotado e os
+ * status transitórios (408, 429 e 5xx, ver {@link HttpStatusException#isTransient()}); uma
+ * resposta sem resultado ou um 4xx causado pela requisição não indicam que o provedor está fora. O bulkhead limita as chamadas simultâneas
+ * e o rate limiter aplica a cota do provedor; em ambos, o excesso falha imediatamente em vez de
+ * esperar. Os estados são publicados no Micrometer com a tag "name" igual ao provedor.
+ * <p>
+ * Configuração por provedor, com prefixo {@code translation.resilience.<provedor>.}:
+ * rate-limit, rate-period-ms, max-concurrent, failure-rate-threshold, sliding-window,
+ * minimum-calls, wait-in-open-ms e half-open-calls.
+ */
+
+@Component
+public class TranslationResilience {
+
+    public static final String FUN_TRANSLATIONS = "funtranslations";
+    public static final String GOOGLE = "google";
+
+    private static final Map<String, Defaults> DEFAULTS = Map.of(
+            // Plano gratuito da FunTranslations: 5 requisições por hora.
+            FUN_TRANSLATIONS, new Defaults(5, Duration.ofHours(1), 2),
+            GOOGLE, new Defaults(50, Duration.ofSeconds(1), 8));
+
+    private final Environment environment;
+    private final CircuitBreakerRegistry circuitBreakers = CircuitBreakerRegistry.ofDefaults();
+    private final BulkheadRegistry bulkheads = BulkheadRegistry.ofDefaults();
+    private final RateLimiterRegistry rateLimiters = RateLimiterRegistry.ofDefaults();
+
+    public TranslationResilience(Environment environment, Optional<MeterRegistry> meterRegistry) {
+        this.environment = environment;
+        meterRegistry.ifPresent(registry -> {
+            TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakers).bindTo(registry);
+            TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheads).bindTo(registry);
+            TaggedRateLimiterMetrics.ofRateLimiterRegistry(rateLimiters).bindTo(registry);
+        });
+        DEFAULTS.keySet().forEach(provider -> {
+            circuitBreaker(provider);
+            bulkhead(provider);
+            rateLimiter(provider);
+        });
+    }
+
+    /**
+     * Executa uma chamada síncrona ao provedor dentro do circuit breaker, do rate limiter e do bulkhead.
+     *
+     * @param provider Nome do provedor.
+     * @param call Chamada ao provedor.
+     * @return Resultado da chamada, possivelmente nulo.
+     * @throws io.github.resilience4j.circuitbreaker.CallNotPermittedException Se o circuito estiver aberto.
+     * @throws RequestNotPermitted Se a cota do provedor estiver esgotada.
+     * @throws BulkheadFullException Se o limite de chamadas simultâneas for atingido.
+     */
+
+    public <T> T call(String provider, Supplier<T> call) {
+        Supplier<T> limited = Bulkhead.decorateSupplier(bulkhead(provider), call);
+        Supplier<T> rateLimited = RateLimiter.decorateSupplier(rateLimiter(provider), limited);
+        return CircuitBreaker.decorateSupplier(circuitBreaker(provider), rateLimited).get();
+    }
+
+    /**
+     * Executa uma chamada assíncrona ao provedor com as mesmas proteções de {@link #call}.
+     * As rejeições completam o futuro com exceção.
+     *
+     * @param provider Nome do provedor.
+     * @param call Chamada ao provedor.
+     * @return Futuro com o resultado da chamada.
+     */
+
+    public <T> CompletableFuture<T> callAsync(String provider, Supplier<CompletionStage<T>> call) {
+        Supplier<CompletionStage<T>> limited = Bulkhead.decorateCompletionStage(bulkhead(provider), call);
+        Supplier<CompletionStage<T>> rateLimited = RateLimiter.decorateCompletionStage(rateLimiter(provider), limited);
+        return CircuitBreaker.decorateCompletionStage(circuitBreaker(provider), rateLimited).get().toCompletableFuture();
+    }
+
+    /**
+     * Estado atual do circuit breaker de um provedor.
+     *
+     * @param provider Nome do provedor.
+     * @return Estado do circuito.
+     */
+
+    public CircuitBreaker.State state(String provider) {
+        return circuitBreaker(provider).getState();
+    }
+
+    private CircuitBreaker circuitBreaker(String provider) {
+        return circuitBreakers.circuitBreaker(provider, () -> CircuitBreakerConfig.custom()
+                .failureRateThreshold(property(provider, "failure-rate-threshold", Float.class, 50f))
+                .slidingWindowSize(property(provider, "sliding-window", Integer.class, 10))
+                .minimumNumberOfCalls(property(provider, "minimum-calls", Integer.class, 5))
+                .waitDurationInOpenState(Duration.ofMillis(property(provider, "wait-in-open-ms", Long.class, 30_000L)))
+                .permittedNumberOfCallsInHalfOpenState(property(provider, "half-open-calls", Integer.class, 2))
+                .ignoreExceptions(RequestNotPermitted.class, BulkheadFullException.class)
+                .ignoreException(TranslationResilience::isRequestError)
+                .build());
+    }
+
+    private Bulkhead bulkhead(String provider) {
+        return bulkheads.bulkhead(provider, () -> BulkheadConfig.custom()
+                .maxConcurrentCalls(property(provider, "max-concurrent", Integer.class, defaults(provider).maxConcurrent()))
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+    }
+
+    private RateLimiter rateLimiter(String provider) {
+        return rateLimiters.rateLimiter(provider, () -> RateLimiterConfig.custom()
+                .limitForPeriod(property(provider, "rate-limit", Integer.class, defaults(provider).rateLimit()))
+                .limitRefreshPeriod(Duration.ofMillis(property(provider, "rate-period-ms", Long.class,
+                        defaults(provider).ratePeriod().toMillis())))
+                .timeoutDuration(Duration.ZERO)
+                .build());
+    }
+
+    private <T> T property(String provider, String name, Class<T> type, T defaultValue) {
+        return environment.getProperty("translation.resilience." + provider + "." + name, type, defaultValue);
+    }
+
+    private static Defaults defaults(String provider) {
+        return DEFAULTS.getOrDefault(provider, new Defaults(10, Duration.ofSeconds(1), 4));
+    }
+
+    private static boolean isRequestError(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof HttpStatusException status && !status.isTransient();
+    }
+
+    private record Defaults(int rateLimit, Duration ratePeriod, int maxConcurrent) {
+    }
+}
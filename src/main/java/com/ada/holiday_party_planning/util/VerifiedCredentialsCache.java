@@ -0,0 +1,106 @@
+package com.ada.holiday_party_planning.util;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * Cache das credenciais HTTP Basic já verificadas com o BCrypt.
+ * <p>
+ * Guarda, por e-mail, um HMAC da senha com uma chave aleatória do processo (nunca a senha em si)
+ * e o usuário autenticado. Enquanto a entrada existir, uma requisição com a mesma senha é
+ * autenticada sem consultar o banco nem executar o BCrypt. O tamanho e o tempo de vida são
+ * limitados, e a entrada de um proprietário é descartada quando os dados dele mudam.
+ * As estatísticas são publicadas no Micrometer com o nome "verified-credentials".
+ */
+
+@Component
+public class VerifiedCredentialsCache {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private final Cache<String, Entry> cache;
+    private final SecretKeySpec key;
+
+    @Autowired
+    public VerifiedCredentialsCache(@Value("${security.credentials-cache.max-size:10000}") long maxSize,
+                                    @Value("${security.credentials-cache.ttl-seconds:300}") long ttlSeconds,
+                                    Optional<MeterRegistry> meterRegistry) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        meterRegistry.ifPresent(registry -> CaffeineCacheMetrics.monitor(registry, cache, "verified-credentials"));
+    }
+
+    /**
+     * Retorna o usuário já autenticado com as mesmas credenciais.
+     *
+     * @param username E-mail informado.
+     * @param password Senha informada.
+     * @return Usuário autenticado, ou vazio se não houver entrada ou a senha for diferente.
+     */
+
+    public Optional<UserDetails> get(String username, String password) {
+        Entry entry = cache.getIfPresent(username);
+        if (entry == null || !MessageDigest.isEqual(entry.digest(), digest(password))) {
+            return Optional.empty();
+        }
+        return Optional.of(entry.user());
+    }
+
+    /**
+     * Guarda credenciais que acabaram de ser verificadas.
+     *
+     * @param username E-mail informado.
+     * @param password Senha informada.
+     * @param user Usuário autenticado, sem a senha.
+     */
+
+    public void put(String username, String password, UserDetails user) {
+        cache.put(username, new Entry(digest(password), user));
+    }
+
+    /**
+     * Descarta as credenciais guardadas de um proprietário.
+     *
+     * @param username E-mail do proprietário.
+     */
+
+    public void evict(String username) {
+        if (username != null) {
+            cache.invalidate(username);
+        }
+    }
+
+    private byte[] digest(String password) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac.doFinal(password.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Entry(byte[] digest, UserDetails user) {
+    }
+}
@@ -0,0 +1,75 @@
+package com.ada.holiday_party_planning.benchmark;
+
+import com.ada.holiday_party_planning.config.CachingAuthenticationProvider;
+import com.ada.holiday_party_planning.service.TokenService;
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da autenticação de uma requisição: HTTP Basic com BCrypt (custo 10) a cada
+ * chamada, HTTP Basic com as credenciais já verificadas em cache e token Bearer.
+ * <p>
+ * Execução: {@code mvn -P jmh test-compile exec:exec -Djmh.args="AuthenticationBenchmark"}
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AuthenticationBenchmark {
+
+    private static final String EMAIL = "monica@teste";
+    private static final String PASSWORD = "password";
+
+    private AuthenticationProvider bcrypt;
+    private AuthenticationProvider cached;
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder();
+        DaoAuthenticationProvider dao = new DaoAuthenticationProvider();
+        dao.setUserDetailsService(new InMemoryUserDetailsManager(
+                User.withUsername(EMAIL).password(encoder.encode(PASSWORD)).roles().build()));
+        dao.setPasswordEncoder(encoder);
+        bcrypt = dao;
+        cached = new CachingAuthenticationProvider(dao,
+                new VerifiedCredentialsCache(10_000, 300, Optional.empty()));
+        cached.authenticate(credentials());
+
+        tokenService = new TokenService("segredo-do-benchmark-com-pelo-menos-32-bytes", false, 15);
+        token = tokenService.issue(EMAIL);
+    }
+
+    @Benchmark
+    public Authentication basicBcrypt() {
+        return bcrypt.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Authentication basicCached() {
+        return cached.authenticate(credentials());
+    }
+
+    @Benchmark
+    public Optional<String> bearerToken() {
+        return tokenService.verify(token);
+    }
+
+    private static Authentication credentials() {
+        return UsernamePasswordAuthenticationToken.unauthenticated(EMAIL, PASSWORD);
+    }
+}
@@ -0,0 +1,61 @@
+package com.ada.holiday_party_planning.benchmark;
+
+import com.ada.holiday_party_planning.util.EmailTemplate;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da renderização do template de convite: o template compilado contra a
+ * abordagem anterior (leitura do arquivo a cada envio e um String.replace por variável).
+ * <p>
+ * Execução, com renders/s e bytes alocados por render (gc.alloc.rate.norm):
+ * {@code mvn -P jmh test-compile exec:exec -Djmh.args="EmailTemplateBenchmark -prof gc"}
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EmailTemplateBenchmark {
+
+    private static final String TEMPLATE_PATH = "template-email.html";
+
+    private final Map<String, String> variables = Map.of(
+            "eventTitle", "Ceia de Natal",
+            "hostName", "Alan",
+            "eventDate", "25/12/2024, 20:00",
+            "eventLocation", "Rua das Flores, 123",
+            "eventLink", "http://localhost:8080/events/0b7f5a4e-8f1c-4a57-9c51-3c8a7d6f2e10");
+
+    private EmailTemplate compiled;
+
+    @Setup
+    public void setUp() {
+        compiled = EmailTemplate.fromClasspath(TEMPLATE_PATH);
+    }
+
+    @Benchmark
+    public String compiledTemplate() {
+        return compiled.render(variables);
+    }
+
+    @Benchmark
+    public String readAndReplace() throws IOException {
+        String template;
+        try (InputStream input = new ClassPathResource(TEMPLATE_PATH).getInputStream()) {
+            template = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        for (Map.Entry<String, String> entry : variables.entrySet()) {
+            template = template.replace("{{" + entry.getKey() + "}}", entry.getValue());
+        }
+        return template;
+    }
+}
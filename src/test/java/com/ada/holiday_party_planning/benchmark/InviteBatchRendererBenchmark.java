@@ -0,0 +1,77 @@
+package com.ada.holiday_party_planning.benchmark;
+
+import com.ada.holiday_party_planning.util.EmailTemplate;
+import com.ada.holiday_party_planning.util.InviteBatchRenderer;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH da montagem dos e-mails de um lote de convites: mensagens criadas a partir das
+ * partes pré-codificadas do {@link InviteBatchRenderer} contra a abordagem anterior (template
+ * renderizado e MimeMessage montado com o MimeMessageHelper a cada destinatário). Cada operação
+ * monta uma mensagem e a serializa, como o Transport faz no envio.
+ * <p>
+ * Execução, com mensagens/s e bytes alocados por mensagem (gc.alloc.rate.norm):
+ * {@code mvn -P jmh test-compile exec:exec -Djmh.args="InviteBatchRendererBenchmark -prof gc"}
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class InviteBatchRendererBenchmark {
+
+    private static final String FROM = "holydaypartyplanner@test";
+    private static final String SUBJECT = "You're Invited!";
+    private static final String TO = "guest@teste.com";
+
+    private final Map<String, String> variables = Map.of(
+            "eventTitle", "Ceia de Natal",
+            "hostName", "Alan",
+            "eventDate", "25/12/2024, 20:00",
+            "eventLocation", "Rua das Flores, 123",
+            "eventLink", "http://localhost:8080/events/0b7f5a4e-8f1c-4a57-9c51-3c8a7d6f2e10");
+
+    private final JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+    private EmailTemplate template;
+    private InviteBatchRenderer.Batch batch;
+
+    @Setup
+    public void setUp() throws MessagingException {
+        template = EmailTemplate.fromClasspath("template-email.html");
+        batch = new InviteBatchRenderer(template).prepare(mailSender.getSession(), FROM, SUBJECT, variables);
+    }
+
+    @Benchmark
+    public MimeMessage preencodedBatch() throws MessagingException, IOException {
+        MimeMessage message = batch.createMessage(TO);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+
+    @Benchmark
+    public MimeMessage helperPerRecipient() throws MessagingException, IOException {
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, MimeMessageHelper.MULTIPART_MODE_MIXED_RELATED,
+                StandardCharsets.UTF_8.name());
+        helper.setFrom(FROM);
+        helper.setTo(TO);
+        helper.setSubject(SUBJECT);
+        helper.setText(template.render(variables), true);
+        message.saveChanges();
+        message.writeTo(OutputStream.nullOutputStream());
+        return message;
+    }
+}
@@ -0,0 +1,69 @@
+package com.ada.holiday_party_planning.benchmark;
+
+import com.ada.holiday_party_planning.util.TranslationCodec;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark JMH do codec dos clientes de tradução contra a abordagem anterior
+ * (String.format para o corpo e JSONObject para a resposta), com descrições de 1 KB e 32 KB.
+ * <p>
+ * Execução: {@code mvn -P jmh test-compile exec:exec -Djmh.args="TranslationCodecBenchmark -prof gc"}
+ */
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TranslationCodecBenchmark {
+
+    @Param({"1024", "32768"})
+    public int descriptionBytes;
+
+    private String description;
+    private byte[] responseBytes;
+    private String responseString;
+
+    @Setup
+    public void setUp() {
+        StringBuilder text = new StringBuilder(descriptionBytes);
+        String words = "Ceia de Natal com amigos e familia, amigo secreto e muita comida. ";
+        while (text.length() < descriptionBytes) {
+            text.append(words);
+        }
+        text.setLength(descriptionBytes);
+        description = text.toString();
+
+        responseString = "{\"success\":{\"total\":1},\"contents\":{\"translated\":\"" + description
+                + "\",\"text\":\"" + description + "\",\"translation\":\"yoda\"}}";
+        responseBytes = responseString.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public byte[] codecWriteRequest() {
+        return TranslationCodec.funTranslationRequest(description);
+    }
+
+    @Benchmark
+    public byte[] formatWriteRequest() {
+        return String.format("{\"text\":\"%s\"}", description).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String codecReadResponse() throws IOException {
+        return TranslationCodec.readFunTranslation(new ByteArrayInputStream(responseBytes));
+    }
+
+    @Benchmark
+    public String jsonObjectReadResponse() throws Exception {
+        String body = new String(responseBytes, StandardCharsets.UTF_8);
+        return new JSONObject(body).getJSONObject("contents").getString("translated");
+    }
+}
@@ -0,0 +1,23 @@
+package com.ada.holiday_party_planning.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class DataSourcePoolConfigTest {
+
+    @Test
+    void dadoBancoFolgado_quandoMaximumPoolSize_entaoTamanhoVemDosNucleos() {
+        assertEquals(9, DataSourcePoolConfig.maximumPoolSize(4, 100, 10, 1));
+    }
+
+    @Test
+    void dadoVariosNos_quandoMaximumPoolSize_entaoCadaNoFicaComSuaParteDoBanco() {
+        assertEquals(6, DataSourcePoolConfig.maximumPoolSize(16, 100, 10, 15));
+    }
+
+    @Test
+    void dadoBancoSemConexoesLivres_quandoMaximumPoolSize_entaoPoolTemUmaConexao() {
+        assertEquals(1, DataSourcePoolConfig.maximumPoolSize(4, 10, 10, 3));
+    }
+}
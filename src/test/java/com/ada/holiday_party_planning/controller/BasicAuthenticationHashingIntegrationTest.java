@@ -0,0 +1,71 @@
+package com.ada.holiday_party_planning.controller;
+
+import com.ada.holiday_party_planning.exceptions.PasswordHashingBusyException;
+import com.ada.holiday_party_planning.service.PasswordHashingService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class BasicAuthenticationHashingIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private PasswordHashingService passwordHashingService;
+
+    private void register(String email, String password) throws Exception {
+        mockMvc.perform(post("/party-owners/register")
+                        .content("{\"name\": \"Owner\", \"email\": \"" + email + "\", \"password\": \"" + password + "\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void dadoCacheMiss_quandoAutenticaComHttpBasic_entaoVerificaSenhaNoPasswordHashingService() throws Exception {
+        // Dado
+        register("basic-pool@teste.com", "password");
+
+        // Quando
+        mockMvc.perform(get("/event/all").with(httpBasic("basic-pool@teste.com", "password")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/event/all").with(httpBasic("basic-pool@teste.com", "password")))
+                .andExpect(status().isOk());
+
+        // Então
+        verify(passwordHashingService, times(1)).matches(any(), anyString());
+    }
+
+    @Test
+    void dadoPoolSaturado_quandoAutenticaComHttpBasic_entaoRetorna429ComRetryAfter() throws Exception {
+        // Dado
+        register("basic-busy@teste.com", "password");
+        doThrow(new PasswordHashingBusyException()).when(passwordHashingService).matches(any(), anyString());
+
+        // Quando / Então
+        mockMvc.perform(get("/event/all").with(httpBasic("basic-busy@teste.com", "password")))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+                .andExpect(content().string(containsString("TOO_MANY_REQUESTS")));
+    }
+}
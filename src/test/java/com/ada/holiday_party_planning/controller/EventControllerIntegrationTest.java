@@ -2,6 +2,10 @@ package com.ada.holiday_party_planning.controller;
 
 
 import com.ada.holiday_party_planning.dto.PartyOwnerDTO;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -18,6 +22,7 @@ import static org.springframework.security.test.web.servlet.request.SecurityMock
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -30,6 +35,12 @@ public class EventControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
     @Test
     void eventFlow() throws Exception {
         // criar owner
@@ -66,6 +77,41 @@ public class EventControllerIntegrationTest {
 
 
     }
-}
 
+    @Test
+    void dadoCsvDeConvidados_quandoImportarEmLote_entaoRetornaRelatorioPorLinha() throws Exception {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-bulk@teste.com", "senha"));
+        Event event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+
+        this.mockMvc.perform(post("/event/{eventId}/guests/bulk", event.getEventId())
+                        .content("name,email,status\nAda,ada@teste.com,confirmed\nAlan,alan@teste.com,\nSem email,,\n")
+                        .contentType("text/csv")
+                        .with(user("owner-bulk@teste.com").password("senha")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.received").value(3))
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.failed").value(1))
+                .andExpect(jsonPath("$.errors[0].line").value(4));
 
+        this.mockMvc.perform(post("/event/{eventId}/guests/bulk", event.getEventId())
+                        .content("{}")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .with(user("owner-bulk@teste.com").password("senha")))
+                .andExpect(status().isUnsupportedMediaType());
+    }
+
+    @Test
+    void dadoEventoSemConvidados_quandoEnviarConvites_entaoRetorna204SemJob() throws Exception {
+        // Dado
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-invites@teste.com", "senha"));
+        Event event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+
+        // Quando / Então
+        this.mockMvc.perform(post("/event/{eventId}/send-invites", event.getEventId())
+                        .with(user("owner-invites@teste.com").password("senha")))
+                .andExpect(status().isNoContent())
+                .andExpect(content().string(""));
+    }
+}
@@ -2,6 +2,12 @@ package com.ada.holiday_party_planning.controller;
 
 import com.ada.holiday_party_planning.dto.GuestDTO;
 import com.ada.holiday_party_planning.dto.PartyOwnerDTO;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -11,13 +17,17 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.hamcrest.Matchers.containsString;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @SpringBootTest
@@ -30,6 +40,15 @@ public class ItemControllerIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
     @Test
     void eventFlow() throws Exception{
         // criar PartyOwner
@@ -86,4 +105,37 @@ public class ItemControllerIntegrationTest {
 
     }
 
+    @Test
+    void dadoPaginacaoInvalida_quandoListarItens_entaoRetorna400() throws Exception {
+        // Dado
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-page@teste.com", "senha"));
+        Event event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+
+        // Quando / Então
+        this.mockMvc.perform(get("/item/{eventId}/list", event.getEventId()).param("size", "0")
+                        .with(user("owner-page@teste.com").password("senha")))
+                .andExpect(status().isBadRequest());
+        this.mockMvc.perform(get("/item/{eventId}/list", event.getEventId()).param("page", "-1").param("size", "10")
+                        .with(user("owner-page@teste.com").password("senha")))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void dadoPageSemSize_quandoListarItens_entaoUsaTamanhoPadrao() throws Exception {
+        // Dado
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-page-default@teste.com", "senha"));
+        Event event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        itemRepository.saveAll(IntStream.range(0, 51)
+                .mapToObj(i -> new Item(null, String.format("Item %02d", i), 1, 10.0, event))
+                .toList());
+
+        // Quando / Então
+        this.mockMvc.perform(get("/item/{eventId}/list", event.getEventId()).param("page", "1")
+                        .with(user("owner-page-default@teste.com").password("senha")))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.length()").value(1))
+                .andExpect(jsonPath("$[0].name").value("Item 50"));
+    }
 }
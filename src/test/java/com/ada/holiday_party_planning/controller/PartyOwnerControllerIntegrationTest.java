@@ -12,6 +12,7 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
 import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -151,6 +152,40 @@ public class PartyOwnerControllerIntegrationTest {
 
 
 
+    }
+
+
+    @Test
+    void dadoLogin_quandoUsaTokenOuBasic_entaoAutenticaSemSessao() throws Exception {
+        this.mockMvc.perform(post("/party-owners/register")
+                        .content("{\"name\": \"Token\", \"email\": \"token@teste.com\", \"password\": \"senha\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        MvcResult result = this.mockMvc.perform(post("/party-owners/login")
+                        .content("{\"email\": \"token@teste.com\", \"password\": \"senha\"}")
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andReturn();
+        PartyOwnerLoginResponseDTO loginDTO = objectMapper.readValue(
+                result.getResponse().getContentAsString(), PartyOwnerLoginResponseDTO.class);
+
+        this.mockMvc.perform(get("/party-owners/all")
+                        .header("Authorization", "Bearer " + loginDTO.getToken()))
+                .andExpect(status().isOk())
+                .andExpect(content().string(containsString("token@teste.com")));
+
+        this.mockMvc.perform(get("/party-owners/all")
+                        .header("Authorization", "Bearer " + loginDTO.getToken() + "x"))
+                .andExpect(status().isUnauthorized());
+
+        for (int i = 0; i < 2; i++) {
+            this.mockMvc.perform(get("/party-owners/all").with(httpBasic("token@teste.com", "senha")))
+                    .andExpect(status().isOk());
+        }
+
+        this.mockMvc.perform(get("/party-owners/all").with(httpBasic("token@teste.com", "errada")))
+                .andExpect(status().isUnauthorized());
     }
 
 
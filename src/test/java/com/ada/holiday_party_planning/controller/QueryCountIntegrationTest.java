@@ -0,0 +1,170 @@
+package com.ada.holiday_party_planning.controller;
+
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.service.InviteDispatchService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Conta, com as estatísticas do Hibernate, as instruções SQL executadas por endpoint. A quantidade
+ * não pode depender do número de convidados e itens: um N+1 introduzido em um mapeamento ou DTO
+ * faz o teste falhar. O cache de segundo nível fica desligado nos testes (application.yml), para
+ * que a contagem não dependa da ordem dos testes.
+ */
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureMockMvc
+public class QueryCountIntegrationTest {
+
+    private static final int GUESTS = 5;
+    private static final int ITEMS = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockBean
+    private InviteDispatchService inviteDispatchService;
+
+    private PartyOwner owner;
+    private Event event;
+    private List<Guest> guests;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-queries@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        guests = new ArrayList<>();
+        for (int i = 0; i < GUESTS; i++) {
+            guests.add(new Guest(null, GuestStatusEnum.PENDING, "convidado" + i + "@teste.com", "Convidado " + i,
+                    event, false));
+        }
+        guests = guestRepository.saveAll(guests);
+        items = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            Item item = new Item(null, "Item " + i, 1, 10.0, event);
+            item.setGuest(guests.get(i % GUESTS));
+            items.add(item);
+        }
+        items = itemRepository.saveAll(items);
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.deleteAllByEventId(event.getEventId());
+            guestRepository.deleteAllByEventId(event.getEventId());
+            eventRepository.deleteByEventId(event.getEventId());
+            partyOwnerRepository.deleteById(owner.getOwnerId());
+        });
+    }
+
+    @Test
+    void dadoItensDoEvento_quandoListarPorEvento_entaoUmaConsulta() throws Exception {
+        assertStatements(1, get("/item/{eventId}/list", event.getEventId()));
+    }
+
+    @Test
+    void dadoItensDoConvidado_quandoListarPorConvidado_entaoUmaConsulta() throws Exception {
+        assertStatements(1, get("/item/guest/{guestId}", guests.get(0).getGuestId()));
+    }
+
+    @Test
+    void dadoItemEConvidado_quandoAtribuirItem_entaoCarregaAmbosEAtualiza() throws Exception {
+        assertStatements(3, post("/item/{itemId}/guest/{guestId}", items.get(0).getItemId(),
+                guests.get(1).getGuestId()));
+    }
+
+    @Test
+    void dadoItemDoConvidado_quandoRemoverDoConvidado_entaoCarregaItemEAtualiza() throws Exception {
+        assertStatements(2, delete("/item/{itemId}/guest/{guestId}", items.get(0).getItemId(),
+                guests.get(0).getGuestId()));
+    }
+
+    @Test
+    void dadoEventos_quandoListarTodos_entaoUmaConsulta() throws Exception {
+        assertStatements(1, get("/event/all"));
+        assertStatements(1, get("/event/all").param("limit", "5"));
+    }
+
+    @Test
+    void dadoEventosDoDono_quandoListarPorDono_entaoDonoEEventos() throws Exception {
+        assertStatements(2, get("/event/{ownerId}/list", owner.getOwnerId()));
+    }
+
+    @Test
+    void dadoConvidadosDoEvento_quandoEnviarConvites_entaoEventoComDonoEEmails() throws Exception {
+        assertStatements(2, post("/event/{eventId}/send-invites", event.getEventId()));
+    }
+
+    @Test
+    void dadoConvidados_quandoListarTodos_entaoUmaConsulta() throws Exception {
+        assertStatements(1, get("/guest/all"));
+        assertStatements(1, get("/guest/{guestId}", guests.get(0).getGuestId()));
+    }
+
+    @Test
+    void dadoDonos_quandoListarTodos_entaoUmaConsulta() throws Exception {
+        assertStatements(1, get("/party-owners/all"));
+    }
+
+    private void assertStatements(long expected, MockHttpServletRequestBuilder request) throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request.with(user("owner-queries@teste.com").password("senha")))
+                .andExpect(status().is2xxSuccessful());
+
+        assertEquals(expected, statistics.getPrepareStatementCount(),
+                "quantidade de instruções SQL em " + request.buildRequest(null).getRequestURI());
+    }
+}
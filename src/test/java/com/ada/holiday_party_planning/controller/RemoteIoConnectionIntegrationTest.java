@@ -0,0 +1,245 @@
+package com.ada.holiday_party_planning.controller;
+
+import com.ada.holiday_party_planning.config.DataSourcePoolConfig;
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.repository.TranslationCacheRepository;
+import com.ada.holiday_party_planning.service.EmailService;
+import com.ada.holiday_party_planning.service.InviteDispatchService;
+import com.ada.holiday_party_planning.service.OutboxDispatcher;
+import com.ada.holiday_party_planning.util.HttpUtil;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.when;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Garante que nenhuma chamada remota (SMTP e APIs de tradução) acontece com uma conexão JDBC em
+ * uso. As fronteiras remotas são substituídas por mocks que, a cada chamada, registram quantas
+ * conexões do pool estão emprestadas e se há transação ativa na thread; o esperado é zero e não.
+ */
+
+@SpringBootTest
+@AutoConfigureMockMvc
+public class RemoteIoConnectionIntegrationTest {
+
+    private static final int GUESTS = 5;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ApplicationContext context;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private OutboxDispatcher outboxDispatcher;
+
+    @Autowired
+    private InviteDispatchService inviteDispatchService;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private TranslationCacheRepository translationCacheRepository;
+
+    @MockBean
+    private EmailService emailService;
+
+    @MockBean
+    private HttpUtil httpUtil;
+
+    private final List<RemoteCall> remoteCalls = new CopyOnWriteArrayList<>();
+    private PartyOwner owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-remote-io@teste.com", "senha"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        outboxMessageRepository.deleteAllInBatch();
+        translationCacheRepository.deleteAllInBatch();
+        guestRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        partyOwnerRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void dadoConvitesEnviados_quandoDispatcherEnviaPorSmtp_entaoNenhumaConexaoEstaEmUso() throws Exception {
+        // Dado
+        when(emailService.sendEmails(anyList())).thenAnswer(invocation -> {
+            remoteCalls.add(RemoteCall.now("smtp", activeConnections()));
+            return Collections.nCopies(invocation.<List<EmailMessageDTO>>getArgument(0).size(), null);
+        });
+        Event event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        List<Guest> guests = new ArrayList<>();
+        for (int i = 0; i < GUESTS; i++) {
+            guests.add(new Guest(null, GuestStatusEnum.PENDING, "guest" + i + "@teste.com", "Guest " + i, event, false));
+        }
+        guestRepository.saveAll(guests);
+
+        // Quando
+        String response = mockMvc.perform(post("/event/{eventId}/send-invites", event.getEventId())
+                        .with(user(owner.getEmail()).password("senha")))
+                .andExpect(status().isAccepted())
+                .andReturn().getResponse().getContentAsString();
+        UUID jobId = UUID.fromString(objectMapper.readTree(response).get("jobId").asText());
+        outboxDispatcher.dispatchBatch();
+
+        // Então
+        assertEquals(InviteJobStatusEnum.COMPLETED, inviteDispatchService.getJob(jobId).getStatus());
+        assertFalse(remoteCalls.isEmpty());
+        remoteCalls.forEach(RemoteIoConnectionIntegrationTest::assertNoConnectionHeld);
+    }
+
+    @Test
+    void dadoEventoComTraducao_quandoCreateEvent_entaoTraducaoNaoUsaConexaoDuranteAsChamadas() throws Exception {
+        // Dado
+        CountDownLatch requestDone = new CountDownLatch(1);
+        CountDownLatch translated = new CountDownLatch(1);
+        when(httpUtil.postJsonAsync(anyString(), any(), any())).thenAnswer(invocation -> {
+            requestDone.await(5, TimeUnit.SECONDS);
+            remoteCalls.add(RemoteCall.now("google", activeConnections()));
+            return CompletableFuture.completedFuture(List.of("Dinner with friends"));
+        });
+        when(httpUtil.postJson(anyString(), any(), any())).thenAnswer(invocation -> {
+            remoteCalls.add(RemoteCall.now("funtranslations", activeConnections()));
+            translated.countDown();
+            return "With friends, dinner it is";
+        });
+        String body = "{\"theme\":\"Natal\",\"title\":\"Ceia\",\"date\":\"2030-12-24T20:00:00\","
+                + "\"place\":\"Casa\",\"description\":\"Ceia com amigos\",\"funActivate\":true,\"categoryFun\":\"yoda\"}";
+
+        // Quando
+        String response = mockMvc.perform(post("/event/{ownerId}/create", owner.getOwnerId())
+                        .with(user(owner.getEmail()).password("senha"))
+                        .contentType("application/json")
+                        .content(body))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        requestDone.countDown();
+        UUID eventId = UUID.fromString(objectMapper.readValue(response, String.class));
+
+        // Então
+        assertTrue(translated.await(10, TimeUnit.SECONDS));
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        while (eventRepository.findById(eventId).orElseThrow().getTranslationStatus() != TranslationStatusEnum.DONE) {
+            assertTrue(Instant.now().isBefore(deadline), "Translation did not finish in time");
+            Thread.sleep(20);
+        }
+        assertEquals(List.of("google", "funtranslations"), remoteCalls.stream().map(RemoteCall::target).toList());
+        remoteCalls.forEach(RemoteIoConnectionIntegrationTest::assertNoConnectionHeld);
+    }
+
+    @Test
+    void dadoTransacaoComConsulta_quandoContarConexoes_entaoContaAConexaoEmUso() {
+        int inTransaction = transactionTemplate.execute(status -> {
+            partyOwnerRepository.count();
+            return activeConnections();
+        });
+
+        assertEquals(1, inTransaction);
+        assertEquals(0, activeConnections());
+    }
+
+    @Test
+    void dadoPoolConfigurado_quandoIniciar_entaoPoolTemTamanhoCalculadoMetricasEDeteccaoDeVazamento() throws SQLException {
+        HikariDataSource hikari = dataSource.unwrap(HikariDataSource.class);
+
+        assertEquals(DataSourcePoolConfig.maximumPoolSize(Runtime.getRuntime().availableProcessors(), 100, 10, 1),
+                hikari.getMaximumPoolSize());
+        assertEquals(10_000, hikari.getLeakDetectionThreshold());
+        assertTrue(context.getBeansOfType(OpenEntityManagerInViewInterceptor.class).isEmpty());
+        String pool = hikari.getPoolName();
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").tag("pool", pool).gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").tag("pool", pool).gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.usage").tag("pool", pool).timer());
+        assertNotNull(meterRegistry.find("hikaricp.connections.timeout").tag("pool", pool).counter());
+    }
+
+    private int activeConnections() {
+        try {
+            return dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean().getActiveConnections();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertNoConnectionHeld(RemoteCall call) {
+        assertEquals(0, call.activeConnections(), call.target() + " called with a JDBC connection checked out");
+        assertFalse(call.inTransaction(), call.target() + " called inside a transaction");
+    }
+
+    private record RemoteCall(String target, int activeConnections, boolean inTransaction) {
+
+        private static RemoteCall now(String target, int activeConnections) {
+            return new RemoteCall(target, activeConnections, TransactionSynchronizationManager.isActualTransactionActive());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.ada.holiday_party_planning.controller;
+
+import com.ada.holiday_party_planning.HolidayPartyPlanningApplication;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.service.TokenService;
+import com.ada.holiday_party_planning.util.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Teste de carga que compara a vazão de createEvent e sendInvites com o Tomcat em threads de
+ * plataforma e em threads virtuais. Sobe a aplicação duas vezes, em uma porta aleatória, e
+ * dispara as requisições de {@value #CLIENTS} clientes simultâneos.
+ * <p>
+ * Excluído do build padrão; para executar: {@code mvn -P load test -Dtest=VirtualThreadLoadTest}.
+ */
+
+@Tag("load")
+public class VirtualThreadLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadLoadTest.class);
+
+    private static final int CLIENTS = 200;
+    private static final int REQUESTS_PER_CLIENT = 25;
+    private static final int GUESTS = 5;
+    private static final String EVENT_JSON = "{\"theme\":\"Natal\",\"title\":\"Ceia\",\"date\":\"2030-12-24T20:00:00\","
+            + "\"place\":\"Rua do Limoeiro\",\"description\":\"Ceia de Natal\",\"funActivate\":false}";
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+
+    @Test
+    void dadoMesmaCarga_quandoAlternarModoDeThreads_entaoComparaVazao() throws Exception {
+        List<Result> results = new ArrayList<>();
+        results.addAll(run(false));
+        results.addAll(run(true));
+
+        for (Result result : results) {
+            log.info(result.toString());
+        }
+        for (Result result : results) {
+            assertEquals(0, result.errors(), result.toString());
+        }
+    }
+
+    private List<Result> run(boolean virtual) throws Exception {
+        String mode = virtual ? "virtual" : "platform";
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(HolidayPartyPlanningApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.threads.virtual.enabled=" + virtual,
+                        "spring.datasource.url=jdbc:h2:mem:load-" + mode,
+                        "spring.mail.port=1",
+                        "outbox.dispatcher.enabled=false")
+                .run()) {
+            String baseUrl = "http://localhost:" + context.getEnvironment().getProperty("local.server.port");
+            assertEquals(virtual, context.getBean(DataSource.class) instanceof ConnectionLimitingDataSource);
+
+            PartyOwner owner = context.getBean(PartyOwnerRepository.class)
+                    .save(new PartyOwner("Owner", "owner-load@teste.com", "senha"));
+            Event event = context.getBean(EventRepository.class).save(new Event("Natal", "Ceia",
+                    LocalDateTime.now(), "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+            List<Guest> guests = new ArrayList<>();
+            for (int i = 0; i < GUESTS; i++) {
+                guests.add(new Guest(null, GuestStatusEnum.PENDING, "guest" + i + "@teste.com", "Guest " + i, event, false));
+            }
+            context.getBean(GuestRepository.class).saveAll(guests);
+            String token = context.getBean(TokenService.class).issue(owner.getEmail());
+
+            Supplier<HttpRequest> createEvent = () -> HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/event/" + owner.getOwnerId() + "/create"))
+                    .header("Authorization", "Bearer " + token)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(EVENT_JSON))
+                    .build();
+            Supplier<HttpRequest> sendInvites = () -> HttpRequest.newBuilder(
+                            URI.create(baseUrl + "/event/" + event.getEventId() + "/send-invites"))
+                    .header("Authorization", "Bearer " + token)
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build();
+
+            measure(createEvent, 5);
+            measure(sendInvites, 5);
+            return List.of(
+                    measure(createEvent, REQUESTS_PER_CLIENT).named(mode, "createEvent"),
+                    measure(sendInvites, REQUESTS_PER_CLIENT).named(mode, "sendInvites"));
+        }
+    }
+
+    private Result measure(Supplier<HttpRequest> request, int requestsPerClient) throws Exception {
+        AtomicInteger rejected = new AtomicInteger();
+        AtomicInteger errors = new AtomicInteger();
+        long[] latencies = new long[CLIENTS * requestsPerClient];
+        AtomicInteger next = new AtomicInteger();
+
+        long start = System.nanoTime();
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int c = 0; c < CLIENTS; c++) {
+                futures.add(clients.submit(() -> {
+                    for (int r = 0; r < requestsPerClient; r++) {
+                        long sent = System.nanoTime();
+                        int status = client.send(request.get(), HttpResponse.BodyHandlers.discarding()).statusCode();
+                        latencies[next.getAndIncrement()] = System.nanoTime() - sent;
+                        if (status == 503) {
+                            rejected.incrementAndGet();
+                        } else if (status >= 300) {
+                            errors.incrementAndGet();
+                        }
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        long elapsed = System.nanoTime() - start;
+
+        Arrays.sort(latencies);
+        return new Result(null, null, latencies.length, latencies.length * 1e9 / elapsed,
+                latencies[latencies.length / 2] / 1e6, latencies[(int) (latencies.length * 0.99)] / 1e6,
+                rejected.get(), errors.get());
+    }
+
+    private record Result(String mode, String endpoint, int requests, double throughput, double p50Ms, double p99Ms,
+                          int rejected, int errors) {
+
+        private Result named(String mode, String endpoint) {
+            return new Result(mode, endpoint, requests, throughput, p50Ms, p99Ms, rejected, errors);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%-8s %-11s %6d req  %8.1f req/s  p50 %7.2f ms  p99 %7.2f ms  503: %d  erros: %d",
+                    mode, endpoint, requests, throughput, p50Ms, p99Ms, rejected, errors);
+        }
+    }
+}
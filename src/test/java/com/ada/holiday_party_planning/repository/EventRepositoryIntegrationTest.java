@@ -0,0 +1,129 @@
+package com.ada.holiday_party_planning.repository;
+
+import com.ada.holiday_party_planning.dto.EventDTO;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * Teste de regressão da listagem de eventos por dono de festa.
+ * Mede, pelas estatísticas do Hibernate, quantas consultas, linhas e entidades são
+ * carregadas para um dono com poucos eventos em tabelas de tamanhos diferentes:
+ * o custo deve acompanhar apenas os eventos do dono, e não o total da tabela.
+ */
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+public class EventRepositoryIntegrationTest {
+
+    private static final int OWNER_EVENTS = 5;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    void dadoTabelasDeTamanhosDiferentes_quandoListarEventosDoDono_entaoCustoNaoCresceComATabela() {
+        PartyOwner owner = persistOwnerWithEvents("owner@teste.com", OWNER_EVENTS);
+
+        persistOwnerWithEvents("other-small@teste.com", 50);
+        QueryCost smallTable = measure(owner);
+
+        persistOwnerWithEvents("other-large@teste.com", 1000);
+        QueryCost largeTable = measure(owner);
+
+        assertEquals(new QueryCost(1, OWNER_EVENTS, 0), smallTable);
+        assertEquals(smallTable, largeTable);
+    }
+
+    @Test
+    void dadoCursor_quandoPaginarEventos_entaoPercorreTodosSemRepetir() {
+        persistOwnerWithEvents("owner@teste.com", 7);
+        entityManager.flush();
+
+        List<EventDTO> firstPage = eventRepository.findFirstPageDTO(Limit.of(5));
+        List<EventDTO> secondPage = eventRepository.findPageDTOAfter(firstPage.get(4).getEventID(), Limit.of(5));
+
+        assertEquals(5, firstPage.size());
+        assertEquals(2, secondPage.size());
+        Set<UUID> ids = new HashSet<>();
+        firstPage.forEach(event -> ids.add(event.getEventID()));
+        secondPage.forEach(event -> ids.add(event.getEventID()));
+        assertEquals(7, ids.size());
+    }
+
+    @Test
+    void dadoEventos_quandoStreamAllDTO_entaoRetornaTodosOsEventos() {
+        persistOwnerWithEvents("owner@teste.com", 7);
+        entityManager.flush();
+
+        try (Stream<EventDTO> events = eventRepository.streamAllDTO()) {
+            assertEquals(7, events.count());
+        }
+    }
+
+    @Test
+    void dadoTraducaoDeDescricaoAnterior_quandoTraducaoFalhar_entaoTraducaoAntigaEhApagada() {
+        PartyOwner owner = entityManager.persist(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        Event event = new Event("Natal", "Ceia", LocalDateTime.now(), "Rua do Limoeiro", "Nova descrição", true,
+                "yoda", owner);
+        event.setDescriptionTranslateFun("Old description, translated it is");
+        event.setTranslationStatus(TranslationStatusEnum.PENDING);
+        entityManager.persist(event);
+        entityManager.flush();
+
+        int updated = eventRepository.updateTranslation(event.getEventId(), "Nova descrição", null,
+                TranslationStatusEnum.FAILED);
+        entityManager.clear();
+
+        Event failed = eventRepository.findById(event.getEventId()).orElseThrow();
+        assertEquals(1, updated);
+        assertEquals(TranslationStatusEnum.FAILED, failed.getTranslationStatus());
+        assertNull(failed.getDescriptionTranslateFun());
+    }
+
+    private QueryCost measure(PartyOwner owner) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<EventDTO> events = eventRepository.findAllDTOByOwnerId(owner.getOwnerId());
+
+        return new QueryCost(statistics.getPrepareStatementCount(), events.size(), statistics.getEntityLoadCount());
+    }
+
+    private PartyOwner persistOwnerWithEvents(String email, int events) {
+        PartyOwner owner = entityManager.persist(new PartyOwner("Owner", email, "senha"));
+        for (int i = 0; i < events; i++) {
+            entityManager.persist(new Event("Natal", "Ceia " + i, LocalDateTime.now(),
+                    "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        }
+        return owner;
+    }
+
+    private record QueryCost(long statements, int rows, long entitiesLoaded) { }
+}
@@ -1,9 +1,25 @@
 package com.ada.holiday_party_planning.repository;
 
+import com.ada.holiday_party_planning.dto.ItemDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.TestMethodOrder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
 
 @DataJpaTest
 @TestMethodOrder(MethodOrderer.OrderAnnotation.class)
@@ -11,4 +27,57 @@ public class ItemRepositoryIntegrationTest {
 
     @Autowired
     private ItemRepository repository;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    private Event event;
+    private Guest guest;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = entityManager.persist(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = persistEvent(owner);
+        Event otherEvent = persistEvent(owner);
+        guest = entityManager.persist(new Guest(null, GuestStatusEnum.CONFIRMED, "maria@teste.com", "Maria", event, true));
+
+        Item chester = new Item(null, "Chester", 1, 50.0, event);
+        chester.setGuest(guest);
+        entityManager.persist(chester);
+        entityManager.persist(new Item(null, "Panetone", 2, 30.0, event));
+        entityManager.persist(new Item(null, "Rabanada", 10, 2.0, event));
+        entityManager.persist(new Item(null, "Farofa", 1, 15.0, otherEvent));
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void dadoItensDeVariosEventos_quandoFindAllDTOByEventId_entaoRetornaApenasItensDoEvento() {
+        List<ItemDTO> items = repository.findAllDTOByEventId(event.getEventId(), Pageable.unpaged());
+
+        assertEquals(List.of("Chester", "Panetone", "Rabanada"), items.stream().map(ItemDTO::getName).toList());
+        assertEquals("Maria", items.get(0).getGuest().getName());
+        assertNull(items.get(1).getGuest());
+    }
+
+    @Test
+    void dadoUmaPagina_quandoFindAllDTOByEventId_entaoRetornaApenasAPagina() {
+        List<ItemDTO> items = repository.findAllDTOByEventId(event.getEventId(), PageRequest.of(1, 2));
+
+        assertEquals(List.of("Rabanada"), items.stream().map(ItemDTO::getName).toList());
+    }
+
+    @Test
+    void dadoItensDeUmConvidado_quandoFindAllDTOByGuestId_entaoRetornaApenasItensDoConvidado() {
+        List<ItemDTO> items = repository.findAllDTOByGuestId(guest.getGuestId(), Pageable.unpaged());
+
+        assertEquals(1, items.size());
+        assertEquals("Chester", items.get(0).getName());
+        assertEquals(guest.getGuestId(), items.get(0).getGuest().getGuestId());
+    }
+
+    private Event persistEvent(PartyOwner owner) {
+        return entityManager.persist(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+    }
 }
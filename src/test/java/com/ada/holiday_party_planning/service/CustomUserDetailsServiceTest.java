@@ -8,6 +8,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.userdetails.User;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 
@@ -71,5 +72,20 @@ public class CustomUserDetailsServiceTest {
 
     }
 
+    @Test
+    void dadoHashDesatualizado_quandoUpdatePassword_entaoSalvaNovoHash() {
+        //dado
+        CustomUserDetailsService customUserDetailsService = new CustomUserDetailsService(partyOwnerRepository);
+        when(partyOwnerRepository.findByEmail("monica@teste")).thenReturn(Optional.of(mockPartyOwner));
+        UserDetails user = User.withUsername("monica@teste").password("123456").build();
+
+        //quando
+        UserDetails updated = customUserDetailsService.updatePassword(user, "novoHash");
+
+        //entao
+        assertEquals("novoHash", updated.getPassword());
+        assertEquals("novoHash", mockPartyOwner.getPassword());
+        verify(partyOwnerRepository).save(mockPartyOwner);
+    }
 
 }
@@ -1,21 +1,33 @@
 package com.ada.holiday_party_planning.service;
 
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
 import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.util.SmtpTransportPool;
+import jakarta.mail.Message;
 import jakarta.mail.MessageRemovedException;
 import jakarta.mail.MessagingException;
+import jakarta.mail.Session;
 import jakarta.mail.internet.MimeMessage;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mail.MailSendException;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.mail.javamail.MimeMessageHelper;
 
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Properties;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -90,6 +102,54 @@ public class EmailServiceTest {
         });
     }
 
-}
+    @Test
+    void dadoUmEmailComFalha_quandoEnviarLote_entaoDemaisEmailsSaoEnviados() throws Exception {
+
+        // dado
+        MimeMessage first = mock(MimeMessage.class);
+        MimeMessage second = mock(MimeMessage.class);
+        when(javaMailSender.createMimeMessage()).thenReturn(first, second);
+        doThrow(new MailSendException("mailbox unavailable")).when(javaMailSender).send(first);
+
+        Map<String, String> variables = new HashMap<>();
+        variables.put("Key", "Value");
+
+        // quando
+        List<MessagingException> failures = emailService.sendEmails(List.of(
+                new EmailMessageDTO("bad@test", "Test Subject", variables),
+                new EmailMessageDTO(mockPartyOwner.getEmail(), "Test Subject", variables)));
+
+        // entao
+        assertNotNull(failures.get(0));
+        assertNull(failures.get(1));
+        verify(javaMailSender, times(1)).send(second);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dadoPoolDeConexoes_quandoEnviarLote_entaoEnviaPeloPoolComCorpoCompartilhado() throws Exception {
 
+        // dado
+        SmtpTransportPool transportPool = mock(SmtpTransportPool.class);
+        when(transportPool.getSession()).thenReturn(Session.getInstance(new Properties()));
+        when(transportPool.send(anyList())).thenReturn(Arrays.asList(null, null));
+        emailService = new EmailService(javaMailSender, transportPool);
+        emailService.from = "holydaypartyplanner@gmail.com";
+        Map<String, String> variables = Map.of("eventTitle", "Natal");
 
+        // quando
+        List<MessagingException> failures = emailService.sendEmails(List.of(
+                new EmailMessageDTO("guest1@test", "You're Invited!", variables),
+                new EmailMessageDTO("guest2@test", "You're Invited!", variables)));
+
+        // entao
+        ArgumentCaptor<List<MimeMessage>> sent = ArgumentCaptor.forClass(List.class);
+        verify(transportPool, times(1)).send(sent.capture());
+        verify(javaMailSender, never()).send(any(MimeMessage.class));
+        assertEquals(Arrays.asList(null, null), failures);
+        assertEquals("guest1@test", sent.getValue().get(0).getRecipients(Message.RecipientType.TO)[0].toString());
+        assertEquals("guest2@test", sent.getValue().get(1).getRecipients(Message.RecipientType.TO)[0].toString());
+        assertEquals("You're Invited!", sent.getValue().get(1).getSubject());
+    }
+
+}
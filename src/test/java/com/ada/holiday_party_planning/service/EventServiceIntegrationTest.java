@@ -0,0 +1,102 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EventDeleteConflictException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do EventService contra o banco H2, contando as instruções SQL
+ * emitidas pelas estatísticas do Hibernate.
+ */
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EventService.class)
+public class EventServiceIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private InviteDispatchService inviteDispatchService;
+
+    @MockBean
+    private FunTranslationService funTranslationService;
+
+    @Test
+    void dadoEventosComTamanhosDiferentes_quandoDeleteEvent_entaoQuantidadeDeInstrucoesEhConstante() {
+        PartyOwner owner = entityManager.persist(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        UUID smallEvent = persistEvent(owner, 1);
+        UUID largeEvent = persistEvent(owner, 300);
+
+        long smallStatements = countStatements(smallEvent);
+        long largeStatements = countStatements(largeEvent);
+
+        assertEquals(4, smallStatements);
+        assertEquals(smallStatements, largeStatements);
+        assertNull(entityManager.find(Event.class, largeEvent));
+        assertEquals(0L, entityManager.getEntityManager()
+                .createQuery("select count(g) from Guest g", Long.class).getSingleResult());
+    }
+
+    @Test
+    void dadoEventoComConvidadoConfirmado_quandoDeleteEvent_entaoNadaEhExcluido() {
+        PartyOwner owner = entityManager.persist(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        UUID eventId = persistEvent(owner, 3);
+        Event event = entityManager.find(Event.class, eventId);
+        entityManager.persist(new Guest(null, GuestStatusEnum.CONFIRMED, "confirmed@teste.com",
+                "Confirmado", event, true));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThrows(EventDeleteConflictException.class, () -> eventService.deleteEvent(eventId));
+        assertNotNull(entityManager.find(Event.class, eventId));
+    }
+
+    private long countStatements(UUID eventId) {
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        eventService.deleteEvent(eventId);
+
+        return statistics.getPrepareStatementCount();
+    }
+
+    private UUID persistEvent(PartyOwner owner, int size) {
+        Event event = entityManager.persist(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        for (int i = 0; i < size; i++) {
+            Guest guest = entityManager.persist(new Guest(null, GuestStatusEnum.PENDING,
+                    "guest" + i + "@teste.com", "Guest " + i, event, false));
+            Item item = new Item(null, "Item " + i, 1, 10.0, event);
+            item.setGuest(guest);
+            entityManager.persist(item);
+        }
+        return event.getEventId();
+    }
+}
@@ -1,31 +1,35 @@
 package com.ada.holiday_party_planning.service;
 
 import com.ada.holiday_party_planning.dto.CreateEventDTO;
+import com.ada.holiday_party_planning.dto.CursorPageDTO;
+import com.ada.holiday_party_planning.dto.EventDTO;
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
 import com.ada.holiday_party_planning.dto.UpdateEventDTO;
+import com.ada.holiday_party_planning.enums.CategoryFun;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
 import com.ada.holiday_party_planning.exceptions.EventDeleteConflictException;
 import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
 import com.ada.holiday_party_planning.exceptions.PartyOwnerNotFoundException;
 import com.ada.holiday_party_planning.model.Event;
-import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.model.PartyOwner;
 import com.ada.holiday_party_planning.repository.EventRepository;
 import com.ada.holiday_party_planning.repository.GuestRepository;
 import com.ada.holiday_party_planning.repository.ItemRepository;
 import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
-import jakarta.mail.MessagingException;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.Limit;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.time.LocalDateTime;
-import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-import static com.ada.holiday_party_planning.enums.GuestStatusEnum.CONFIRMED;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -44,7 +48,10 @@ class EventServiceTest {
     private ItemRepository itemRepository;
 
     @Mock
-    private final EmailService emailService = mock(EmailService.class);
+    private InviteDispatchService inviteDispatchService;
+
+    @Mock
+    private FunTranslationService funTranslationService;
 
     @InjectMocks
     private EventService eventService;
@@ -143,61 +150,155 @@ class EventServiceTest {
     void dadoEventIdValidoESemConvidadosConfirmados_quandoDeleteEvent_entaoEventoEhExcluido() {
         // Dado
         UUID eventId = UUID.randomUUID();
-        Guest guest = new Guest();
-        guest.setEvent(new Event());
-        guest.getEvent().setEventId(eventId);
-        guest.setConfirmed(false);
 
-        when(guestRepository.findAll()).thenReturn(List.of(guest));
-        doNothing().when(eventRepository).deleteById(eventId);
+        when(guestRepository.existsByEventEventIdAndIsConfirmedTrue(eventId)).thenReturn(false);
 
         // Quando
         eventService.deleteEvent(eventId);
 
         // Então
-        verify(eventRepository, times(1)).deleteById(eventId);
-        verify(guestRepository, times(1)).deleteById(guest.getGuestId());
+        verify(itemRepository, times(1)).deleteAllByEventId(eventId);
+        verify(guestRepository, times(1)).deleteAllByEventId(eventId);
+        verify(eventRepository, times(1)).deleteByEventId(eventId);
+        verify(guestRepository, never()).findAll();
+        verify(itemRepository, never()).findAll();
     }
 
     @Test
     void dadoEventIdComConvidadosConfirmados_quandoDeleteEvent_entaoLancaExcecao() {
         // Dado
         UUID eventId = UUID.randomUUID();
-        Guest guest = new Guest();
-        guest.setEvent(new Event());
-        guest.getEvent().setEventId(eventId);
-        guest.setConfirmed(true);
 
-        when(guestRepository.findAll()).thenReturn(List.of(guest));
+        when(guestRepository.existsByEventEventIdAndIsConfirmedTrue(eventId)).thenReturn(true);
 
         // Quando/Então
         assertThrows(EventDeleteConflictException.class, () -> eventService.deleteEvent(eventId));
-        verify(eventRepository, never()).deleteById(eventId);
+        verify(itemRepository, never()).deleteAllByEventId(eventId);
+        verify(guestRepository, never()).deleteAllByEventId(eventId);
+        verify(eventRepository, never()).deleteByEventId(eventId);
     }
 
     // Testes para o método listAllEvent
     @Test
     void quandoListAllEvent_entaoRetornaTodosOsEventos() {
         // Dado
-        Event event1 = new Event();
-        Event event2 = new Event();
-        when(eventRepository.findAll()).thenReturn(List.of(event1, event2));
+        EventDTO event1 = new EventDTO(UUID.randomUUID(), "Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", null, false, null);
+        EventDTO event2 = new EventDTO(UUID.randomUUID(), "Ano Novo", "Réveillon", LocalDateTime.now(),
+                "Praia", "Virada", null, false, null);
+        when(eventRepository.findAllDTO()).thenReturn(List.of(event1, event2));
 
         // Quando
-        List<Event> events = eventService.listAllEvent();
+        List<EventDTO> events = eventService.listAllEvent();
 
         // Então
         assertEquals(2, events.size());
-        verify(eventRepository, times(1)).findAll();
+        verify(eventRepository, times(1)).findAllDTO();
+    }
+
+    @Test
+    void dadoPaginaCheia_quandoListEventsPage_entaoRetornaCursorDaProximaPagina() {
+        // Dado
+        UUID after = UUID.randomUUID();
+        EventDTO event1 = new EventDTO(UUID.randomUUID(), "Natal", "Ceia", null, "Casa", "Ceia", null, false, null);
+        EventDTO event2 = new EventDTO(UUID.randomUUID(), "Natal", "Amigo secreto", null, "Casa", "Amigo", null, false, null);
+        when(eventRepository.findPageDTOAfter(after, Limit.of(2))).thenReturn(List.of(event1, event2));
+
+        // Quando
+        CursorPageDTO<EventDTO> page = eventService.listEventsPage(after, 2);
+
+        // Então
+        assertEquals(List.of(event1, event2), page.getItems());
+        assertEquals(event2.getEventID(), page.getNextCursor());
+        verify(eventRepository, never()).findAll();
+    }
+
+    @Test
+    void dadoUltimaPagina_quandoListEventsPage_entaoCursorEhNulo() {
+        // Dado
+        EventDTO event = new EventDTO(UUID.randomUUID(), "Natal", "Ceia", null, "Casa", "Ceia", null, false, null);
+        when(eventRepository.findFirstPageDTO(Limit.of(CursorPageDTO.DEFAULT_LIMIT))).thenReturn(List.of(event));
+
+        // Quando
+        CursorPageDTO<EventDTO> page = eventService.listEventsPage(null, null);
+
+        // Então
+        assertEquals(1, page.getItems().size());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    void dadoCategoriaValida_quandoCreateEvent_entaoTraducaoAgendadaComStatusPendente() {
+        // Dado
+        UUID ownerId = UUID.randomUUID();
+        UUID eventId = UUID.randomUUID();
+        CreateEventDTO createEventDTO = new CreateEventDTO("Natal", "Ceia", LocalDateTime.now(), "Casa",
+                "Celebração com amigos", true, "Yoda", null);
+        PartyOwner owner = new PartyOwner();
+        owner.setOwnerId(ownerId);
+
+        when(partyOwnerRepository.findById(ownerId)).thenReturn(Optional.of(owner));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> {
+            Event saved = invocation.getArgument(0);
+            saved.setEventId(eventId);
+            return saved;
+        });
+
+        // Quando
+        Event event = eventService.createEvent(ownerId, createEventDTO);
+
+        // Então
+        assertEquals(TranslationStatusEnum.PENDING, event.getTranslationStatus());
+        assertNull(event.getDescriptionTranslateFun());
+        verify(funTranslationService).translateEvent(eventId, "Celebração com amigos", CategoryFun.yoda);
     }
 
     @Test
-    void translateFun(){}
-    //TODO pesquisar mock static method
+    void dadoCategoriaInvalida_quandoCreateEvent_entaoStatusFalhaSemAgendarTraducao() {
+        // Dado
+        UUID ownerId = UUID.randomUUID();
+        CreateEventDTO createEventDTO = new CreateEventDTO("Natal", "Ceia", LocalDateTime.now(), "Casa",
+                "Celebração com amigos", true, "Música ao Vivo", null);
+
+        when(partyOwnerRepository.findById(ownerId)).thenReturn(Optional.of(new PartyOwner()));
+        when(eventRepository.save(any(Event.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        // Quando
+        Event event = eventService.createEvent(ownerId, createEventDTO);
+
+        // Então
+        assertEquals(TranslationStatusEnum.FAILED, event.getTranslationStatus());
+        verifyNoInteractions(funTranslationService);
+    }
+
+    @Test
+    void dadoFilaDeTraducaoCheia_quandoUpdateEvent_entaoStatusGravadoComoFalha() {
+        // Dado
+        UUID eventId = UUID.randomUUID();
+        Event event = new Event();
+        event.setEventId(eventId);
+        event.setCategoryFun("minion");
+        event.setDescriptionTranslateFun("Old description, bello");
+        UpdateEventDTO updateEventDTO = new UpdateEventDTO();
+        updateEventDTO.setDescription("Nova descrição");
+        updateEventDTO.setFunActivate(true);
+
+        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
+        when(eventRepository.save(event)).thenReturn(event);
+        doThrow(new TaskRejectedException("full"))
+                .when(funTranslationService).translateEvent(eventId, "Nova descrição", CategoryFun.minion);
+
+        // Quando
+        eventService.updateEvent(eventId, updateEventDTO);
+
+        // Então
+        assertNull(event.getDescriptionTranslateFun());
+        verify(eventRepository).updateTranslation(eventId, "Nova descrição", null, TranslationStatusEnum.FAILED);
+    }
 
 
     @Test
-    void dadoEventoEConvidados_quandoEnviarConvites_entaoEmailsEnviadosComSucesso() throws MessagingException {
+    void dadoEventoEConvidados_quandoEnviarConvites_entaoJobDeEnvioCriadoParaTodosOsConvidados() {
         // Dado
         UUID eventId = UUID.randomUUID();
 
@@ -209,29 +310,26 @@ class EventServiceTest {
         event.setOwner(new PartyOwner("Owner","owner@teste","password"));
 
 
-        Guest guest1 = new Guest(UUID.randomUUID(),CONFIRMED,"guest1@teste","Guest1", event,true);
-        Guest guest2 = new Guest(UUID.randomUUID(),CONFIRMED,"guest2@teste","Guest2", event,true);
+        InviteJobDTO job = new InviteJobDTO(UUID.randomUUID(), eventId, InviteJobStatusEnum.QUEUED, 2, 0, 0);
 
-        when(eventRepository.findById(eventId)).thenReturn(Optional.of(event));
-        when(guestRepository.findByEvent(event)).thenReturn(Arrays.asList(guest1, guest2));
+        when(eventRepository.findWithOwnerByEventId(eventId)).thenReturn(Optional.of(event));
+        when(guestRepository.findRecipientEmailsByEventId(eventId)).thenReturn(List.of("guest1@teste", "guest2@teste"));
+        when(inviteDispatchService.dispatch(eq(eventId), eq("You're Invited!"), anyList(), anyMap())).thenReturn(Optional.of(job));
 
         // Quando
-        eventService.sendInvites(eventId);
+        Optional<InviteJobDTO> result = eventService.sendInvites(eventId);
 
         // Então
-        verify(emailService, times(1)).sendEmail(
-                eq("guest1@teste"),
+        assertSame(job, result.orElseThrow());
+        verify(inviteDispatchService, times(1)).dispatch(
+                eq(eventId),
                 eq("You're Invited!"),
+                eq(List.of("guest1@teste", "guest2@teste")),
                 argThat(variables -> variables.get("eventTitle").equals("Aniversário") &&
                         variables.get("hostName").equals("Owner") &&
+                        variables.get("eventDate").equals("25/12/2023, 18:00") &&
                         variables.get("eventLocation").equals("Rua das Flores, 123"))
         );
-        verify(emailService, times(1)).sendEmail(
-                eq("guest2@teste"),
-                eq("You're Invited!"),
-                argThat(variables -> variables.get("eventTitle").equals("Aniversário") &&
-                        variables.get("hostName").equals("Owner"))
-        );
     }
 
 
@@ -239,12 +337,12 @@ class EventServiceTest {
     void dadoEventoInexistenteQuandoEnviarConvitesEntaoLancarExcecao() {
         // Dado
         UUID eventId = UUID.randomUUID();
-        when(eventRepository.findById(eventId)).thenReturn(Optional.empty());
+        when(eventRepository.findWithOwnerByEventId(eventId)).thenReturn(Optional.empty());
 
         // Quando & Então
         assertThrows(ResponseStatusException.class, () -> eventService.sendInvites(eventId));
 
-        verifyNoInteractions(guestRepository, emailService);
+        verifyNoInteractions(guestRepository, inviteDispatchService);
     }
 
 }
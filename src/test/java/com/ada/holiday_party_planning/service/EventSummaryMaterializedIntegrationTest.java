@@ -0,0 +1,172 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.config.EventSummaryListener;
+import com.ada.holiday_party_planning.dto.EventSummaryDTO;
+import com.ada.holiday_party_planning.dto.ItemDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.EventSummaryRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da tabela event_summary mantida de forma incremental. As gravações são
+ * confirmadas de verdade, pois as diferenças são aplicadas antes do commit.
+ */
+
+@DataJpaTest(showSql = false, properties = {
+        "events.summary.materialized=true",
+        "spring.jpa.properties.hibernate.generate_statistics=true"})
+@Import({EventSummaryService.class, EventSummaryListener.class, ItemService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class EventSummaryMaterializedIntegrationTest {
+
+    @Autowired
+    private EventSummaryService eventSummaryService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSummaryRepository eventSummaryRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        guestRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        partyOwnerRepository.deleteAll();
+    }
+
+    @Test
+    void dadoEventoNovo_quandoSalvar_entaoCriaResumoZerado() {
+        // Então
+        EventSummaryDTO summary = eventSummaryService.summarize(event.getEventId());
+        assertTrue(eventSummaryRepository.existsById(event.getEventId()));
+        assertEquals(0, summary.getItemCount());
+        assertEquals(0, summary.getGuestCount());
+    }
+
+    @Test
+    void dadoGravacoesDeItensEConvidados_quandoSummarize_entaoResumoIgualAoAgregado() {
+        // Dado
+        List<ItemDTO> items = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            items.add(new ItemDTO(null, "Item " + i, 2, 1.5, null));
+        }
+        List<ItemDTO> created = itemService.createItems(items, event.getEventId());
+        Item chester = itemRepository.save(new Item(null, "Chester", 1, 60.0, event));
+        List<Guest> guests = guestRepository.saveAll(List.of(
+                new Guest(null, GuestStatusEnum.PENDING, "ada@teste.com", "Ada", event, false),
+                new Guest(null, GuestStatusEnum.PENDING, "alan@teste.com", "Alan", event, false),
+                new Guest(null, GuestStatusEnum.PENDING, "grace@teste.com", "Grace", event, false)));
+
+        // Quando
+        Guest ada = guestRepository.findById(guests.get(0).getGuestId()).orElseThrow();
+        ada.setStatus(GuestStatusEnum.CONFIRMED);
+        guestRepository.save(ada);
+        Guest grace = guestRepository.findById(guests.get(2).getGuestId()).orElseThrow();
+        grace.setStatus(GuestStatusEnum.DECLINED);
+        guestRepository.save(grace);
+        guestRepository.deleteById(guests.get(1).getGuestId());
+        chester.setQuantity(3);
+        chester = itemRepository.save(chester);
+        itemRepository.deleteById(created.get(0).getItemId());
+        itemService.addItemToGuest(ada.getGuestId(), chester.getItemId());
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        EventSummaryDTO summary = eventSummaryService.summarize(event.getEventId());
+        long readStatements = statistics.getPrepareStatementCount();
+
+        // Então
+        EventSummaryDTO expected = eventSummaryService.aggregate(event.getEventId());
+        assertEquals(1, readStatements);
+        assertEquals(100, summary.getItemCount());
+        assertEquals(expected.getItemCount(), summary.getItemCount());
+        assertEquals(expected.getTotalCost(), summary.getTotalCost(), 0.0001);
+        assertEquals(477.0, summary.getTotalCost(), 0.0001);
+        assertEquals(expected.getGuestsByStatus(), summary.getGuestsByStatus());
+        assertEquals(1L, summary.getGuestsByStatus().get(GuestStatusEnum.CONFIRMED));
+        assertEquals(1L, summary.getGuestsByStatus().get(GuestStatusEnum.DECLINED));
+        assertEquals(0L, summary.getGuestsByStatus().get(GuestStatusEnum.PENDING));
+    }
+
+    @Test
+    void dadoTransacaoDesfeita_quandoSummarize_entaoResumoNaoMuda() {
+        // Quando
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.saveAndFlush(new Item(null, "Chester", 1, 60.0, event));
+            throw new IllegalStateException("rollback");
+        }));
+
+        // Então
+        assertEquals(0, eventSummaryService.summarize(event.getEventId()).getItemCount());
+    }
+
+    @Test
+    void dadoEventoExcluido_quandoExcluirEmMassa_entaoBancoExcluiResumo() {
+        // Dado
+        itemRepository.save(new Item(null, "Chester", 1, 60.0, event));
+
+        // Quando
+        transactionTemplate.executeWithoutResult(status -> {
+            itemRepository.deleteAllByEventId(event.getEventId());
+            guestRepository.deleteAllByEventId(event.getEventId());
+            eventRepository.deleteByEventId(event.getEventId());
+        });
+
+        // Então
+        assertFalse(eventSummaryRepository.existsById(event.getEventId()));
+    }
+}
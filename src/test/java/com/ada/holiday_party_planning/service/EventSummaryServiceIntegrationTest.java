@@ -0,0 +1,121 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.EventSummaryDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.EventSummaryRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do resumo de eventos calculado com a consulta agregada.
+ */
+
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(EventSummaryService.class)
+public class EventSummaryServiceIntegrationTest {
+
+    @Autowired
+    private EventSummaryService eventSummaryService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private EventSummaryRepository eventSummaryRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+    }
+
+    @Test
+    void dadoItensEConvidados_quandoSummarize_entaoAgregaEmUmaConsulta() {
+        // Dado
+        itemRepository.saveAll(List.of(
+                new Item(null, "Chester", 2, 60.0, event),
+                new Item(null, "Panetone", 3, 25.5, event)));
+        guestRepository.saveAll(List.of(
+                new Guest(null, GuestStatusEnum.CONFIRMED, "ada@teste.com", "Ada", event, true),
+                new Guest(null, GuestStatusEnum.CONFIRMED, "alan@teste.com", "Alan", event, true),
+                new Guest(null, GuestStatusEnum.DECLINED, "grace@teste.com", "Grace", event, false)));
+        guestRepository.flush();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Quando
+        EventSummaryDTO summary = eventSummaryService.summarize(event.getEventId());
+
+        // Então
+        assertEquals(1, statistics.getPrepareStatementCount());
+        assertEquals(event.getEventId(), summary.getEventId());
+        assertEquals(2, summary.getItemCount());
+        assertEquals(196.5, summary.getTotalCost(), 0.0001);
+        assertEquals(3, summary.getGuestCount());
+        assertEquals(2L, summary.getGuestsByStatus().get(GuestStatusEnum.CONFIRMED));
+        assertEquals(1L, summary.getGuestsByStatus().get(GuestStatusEnum.DECLINED));
+        assertEquals(0L, summary.getGuestsByStatus().get(GuestStatusEnum.PENDING));
+    }
+
+    @Test
+    void dadoEventoSemItensNemConvidados_quandoSummarize_entaoRetornaZeros() {
+        // Quando
+        EventSummaryDTO summary = eventSummaryService.summarize(event.getEventId());
+
+        // Então
+        assertEquals(0, summary.getItemCount());
+        assertEquals(0.0, summary.getTotalCost());
+        assertEquals(0, summary.getGuestCount());
+        assertEquals(GuestStatusEnum.values().length, summary.getGuestsByStatus().size());
+    }
+
+    @Test
+    void dadoMaterializacaoDesativada_quandoSalvarEvento_entaoNaoCriaResumo() {
+        // Quando
+        eventRepository.flush();
+
+        // Então
+        assertFalse(eventSummaryRepository.existsById(event.getEventId()));
+    }
+
+    @Test
+    void dadoEventoInexistente_quandoSummarize_entaoLancaEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> eventSummaryService.summarize(UUID.randomUUID()));
+    }
+}
@@ -0,0 +1,114 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.config.AsyncConfig;
+import com.ada.holiday_party_planning.dto.CreateEventDTO;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.util.APIFunTranslation;
+import com.ada.holiday_party_planning.util.APIGoogleTranslate;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Testes de integração da tradução divertida em segundo plano: o evento é salvo e retornado
+ * antes da tradução, que depois é gravada pelo executor de traduções.
+ */
+
+@DataJpaTest(properties = "translation.async.initial-backoff-ms=10")
+@Import({EventService.class, FunTranslationService.class, AsyncConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class FunTranslationServiceIntegrationTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @MockBean
+    private InviteDispatchService inviteDispatchService;
+
+    @MockBean
+    private APIGoogleTranslate apiGoogleTranslate;
+
+    @MockBean
+    private APIFunTranslation apiFunTranslation;
+
+    @AfterEach
+    void tearDown() {
+        eventRepository.deleteAll();
+        partyOwnerRepository.deleteAll();
+    }
+
+    @Test
+    void dadoTraducaoLenta_quandoCreateEvent_entaoEventoRetornaAntesETraducaoEhGravadaDepois() throws Exception {
+        // Dado
+        CountDownLatch release = new CountDownLatch(1);
+        when(apiGoogleTranslate.translateMessage("Ceia com amigos", "pt-br", "en")).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return "Dinner with friends";
+        });
+        when(apiFunTranslation.translateFun("Dinner with friends", "yoda")).thenReturn("With friends, dinner it is");
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+
+        // Quando
+        Event created = eventService.createEvent(owner.getOwnerId(),
+                new CreateEventDTO("Natal", "Ceia", LocalDateTime.now(), "Casa", "Ceia com amigos", true, "yoda", null));
+
+        // Então
+        assertEquals(TranslationStatusEnum.PENDING,
+                eventRepository.findById(created.getEventId()).orElseThrow().getTranslationStatus());
+
+        release.countDown();
+        Event translated = awaitStatus(created.getEventId(), TranslationStatusEnum.DONE);
+        assertEquals("With friends, dinner it is", translated.getDescriptionTranslateFun());
+    }
+
+    @Test
+    void dadoProvedorIndisponivel_quandoCreateEvent_entaoStatusFicaComoFalha() throws Exception {
+        // Dado
+        when(apiGoogleTranslate.translateMessage("Amigo secreto", "pt-br", "en")).thenReturn(null);
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner2@teste.com", "senha"));
+
+        // Quando
+        Event created = eventService.createEvent(owner.getOwnerId(),
+                new CreateEventDTO("Natal", "Amigo", LocalDateTime.now(), "Casa", "Amigo secreto", true, "hodor", null));
+
+        // Então
+        Event failed = awaitStatus(created.getEventId(), TranslationStatusEnum.FAILED);
+        assertNull(failed.getDescriptionTranslateFun());
+    }
+
+    private Event awaitStatus(UUID eventId, TranslationStatusEnum expected) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        while (event.getTranslationStatus() != expected) {
+            assertTrue(Instant.now().isBefore(deadline), "translation status never became " + expected);
+            Thread.sleep(20);
+            event = eventRepository.findById(eventId).orElseThrow();
+        }
+        return event;
+    }
+}
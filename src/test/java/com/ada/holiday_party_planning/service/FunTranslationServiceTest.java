@@ -0,0 +1,92 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.enums.CategoryFun;
+import com.ada.holiday_party_planning.enums.TranslationStatusEnum;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.util.APIFunTranslation;
+import com.ada.holiday_party_planning.util.APIGoogleTranslate;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class FunTranslationServiceTest {
+
+    private final APIGoogleTranslate apiGoogleTranslate = mock(APIGoogleTranslate.class);
+    private final APIFunTranslation apiFunTranslation = mock(APIFunTranslation.class);
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final FunTranslationService funTranslationService =
+            new FunTranslationService(apiGoogleTranslate, apiFunTranslation, eventRepository, Runnable::run, 3, 1);
+
+    @Test
+    void dadoCategoriaComRepeticao_quandoTranslate_entaoTraduzDeVoltaParaPortugues() {
+        when(apiGoogleTranslate.translateMessage("Festa", "pt-br", "en")).thenReturn("Party");
+        when(apiFunTranslation.translateFun("Party", "minion")).thenReturn("Bello party");
+        when(apiGoogleTranslate.translateMessage("Bello party", "en", "pt-br")).thenReturn("Bello festa");
+
+        assertEquals("Bello festa", funTranslationService.translate("Festa", CategoryFun.minion));
+    }
+
+    @Test
+    void dadoFalhaNoGoogle_quandoTranslate_entaoNaoChamaTraducaoDivertida() {
+        when(apiGoogleTranslate.translateMessage("Festa", "pt-br", "en")).thenReturn(null);
+
+        assertNull(funTranslationService.translate("Festa", CategoryFun.yoda));
+        verifyNoInteractions(apiFunTranslation);
+    }
+
+    @Test
+    void dadoFalhaTemporaria_quandoTranslateEvent_entaoRepeteEGravaTraducao() {
+        UUID eventId = UUID.randomUUID();
+        when(apiGoogleTranslate.translateMessage("Festa", "pt-br", "en"))
+                .thenThrow(new IllegalStateException("timeout"))
+                .thenReturn("Party");
+        when(apiFunTranslation.translateFun("Party", "yoda")).thenReturn("Party, it is");
+
+        funTranslationService.translateEvent(eventId, "Festa", CategoryFun.yoda);
+
+        verify(eventRepository, timeout(1_000)).updateTranslation(eventId, "Festa", "Party, it is", TranslationStatusEnum.DONE);
+        verify(apiGoogleTranslate, times(2)).translateMessage("Festa", "pt-br", "en");
+    }
+
+    @Test
+    void dadoFalhaPermanente_quandoTranslateEvent_entaoGravaStatusFalhaAposTodasAsTentativas() {
+        UUID eventId = UUID.randomUUID();
+        when(apiGoogleTranslate.translateMessage(any(), any(), any())).thenReturn(null);
+
+        funTranslationService.translateEvent(eventId, "Festa", CategoryFun.hodor);
+
+        verify(eventRepository, timeout(1_000)).updateTranslation(eventId, "Festa", null, TranslationStatusEnum.FAILED);
+        verify(apiGoogleTranslate, times(3)).translateMessage("Festa", "pt-br", "en");
+    }
+
+    @Test
+    void dadoTentativaAguardandoEspera_quandoOutroEventoChegar_entaoThreadDoExecutorEstaLivre() {
+        // Dado
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.initialize();
+        FunTranslationService service = new FunTranslationService(apiGoogleTranslate, apiFunTranslation,
+                eventRepository, executor, 2, 60_000);
+        UUID failing = UUID.randomUUID();
+        UUID next = UUID.randomUUID();
+        when(apiGoogleTranslate.translateMessage("Festa", "pt-br", "en")).thenReturn(null);
+        when(apiGoogleTranslate.translateMessage("Ceia", "pt-br", "en")).thenReturn("Dinner");
+        when(apiFunTranslation.translateFun("Dinner", "yoda")).thenReturn("Dinner, it is");
+
+        // Quando
+        executor.execute(() -> service.translateEvent(failing, "Festa", CategoryFun.yoda));
+        executor.execute(() -> service.translateEvent(next, "Ceia", CategoryFun.yoda));
+
+        // Então
+        verify(eventRepository, timeout(1_000)).updateTranslation(next, "Ceia", "Dinner, it is", TranslationStatusEnum.DONE);
+        verify(eventRepository, never()).updateTranslation(eq(failing), any(), any(), any());
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,158 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.GuestImportErrorDTO;
+import com.ada.holiday_party_planning.dto.GuestImportReportDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.validation.ValidationAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da importação de convidados em lote, com o batching JDBC do Hibernate.
+ */
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({GuestImportService.class, ValidationAutoConfiguration.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class GuestImportServiceIntegrationTest {
+
+    private static final int GUESTS = 10_000;
+
+    @Autowired
+    private GuestImportService guestImportService;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        guestRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        partyOwnerRepository.deleteAll();
+    }
+
+    @Test
+    void dadoCsvComDezMilConvidados_quandoImportGuests_entaoInsereEmLotes() {
+        // Dado
+        StringBuilder csv = new StringBuilder("name,email,status,confirmed\n");
+        for (int i = 0; i < GUESTS; i++) {
+            csv.append("Convidado ").append(i).append(",convidado").append(i).append("@teste.com,pending,false\n");
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // Quando
+        GuestImportReportDTO report = guestImportService.importGuests(event.getEventId(),
+                GuestImportService.Format.CSV, new StringReader(csv.toString()));
+
+        // Então
+        assertEquals(GUESTS, report.getReceived());
+        assertEquals(GUESTS, report.getImported());
+        assertEquals(0, report.getFailed());
+        assertEquals(GUESTS, guestRepository.count());
+        assertEquals(GUESTS, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() < 100,
+                "inserts não foram agrupados: " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void dadoLinhasInvalidasEDuplicadas_quandoImportGuests_entaoRelataErrosPorLinha() {
+        // Dado
+        guestRepository.save(new Guest(null, GuestStatusEnum.PENDING, "ja@teste.com", "Já", event, false));
+        String ndjson = """
+                {"name":"Ada","email":"ada@teste.com","status":"confirmed","confirmed":true}
+                {"name":"","email":"vazio@teste.com"}
+                {"name":"Email","email":"invalido"}
+                {"name":"Ada de novo","email":"ada@teste.com"}
+                {"name":"Já","email":"ja@teste.com"}
+                {"name":"Alan","email":"alan@teste.com"
+                """;
+
+        // Quando
+        GuestImportReportDTO report = guestImportService.importGuests(event.getEventId(),
+                GuestImportService.Format.NDJSON, new StringReader(ndjson));
+
+        // Então
+        assertEquals(6, report.getReceived());
+        assertEquals(1, report.getImported());
+        assertEquals(5, report.getFailed());
+        assertEquals(List.of(2, 3, 4, 5, 6), report.getErrors().stream().map(GuestImportErrorDTO::getLine).toList());
+        assertEquals("Email is already in use!", report.getErrors().get(2).getMessage());
+        assertEquals(2, guestRepository.count());
+    }
+
+    @Test
+    void dadoUploadEmAndamento_quandoImportGuests_entaoLeConteudoForaDeTransacao() {
+        // Dado
+        List<Boolean> transactionWhileReading = new ArrayList<>();
+        Reader content = new FilterReader(new StringReader("name,email\nAda,ada@teste.com\nAlan,alan@teste.com\n")) {
+            @Override
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                transactionWhileReading.add(TransactionSynchronizationManager.isActualTransactionActive());
+                return super.read(buffer, offset, length);
+            }
+        };
+
+        // Quando
+        GuestImportReportDTO report = guestImportService.importGuests(event.getEventId(),
+                GuestImportService.Format.CSV, content);
+
+        // Então
+        assertEquals(2, report.getImported());
+        assertEquals(2, guestRepository.count());
+        assertFalse(transactionWhileReading.isEmpty());
+        assertFalse(transactionWhileReading.contains(true));
+    }
+
+    @Test
+    void dadoEventoInexistente_quandoImportGuests_entaoLancaEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> guestImportService.importGuests(UUID.randomUUID(),
+                GuestImportService.Format.CSV, new StringReader("name,email\n")));
+    }
+}
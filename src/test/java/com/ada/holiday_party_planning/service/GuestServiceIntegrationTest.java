@@ -0,0 +1,121 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.CreateGuestDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.EmailAlreadyExistsException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da unicidade do e-mail do convidado por evento, garantida pelo índice único
+ * (event_id, email), inclusive com criações concorrentes.
+ */
+
+@DataJpaTest
+@Import(GuestService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class GuestServiceIntegrationTest {
+
+    private static final int PARALLEL_CREATES = 16;
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+    }
+
+    @AfterEach
+    void tearDown() {
+        guestRepository.deleteAll();
+        eventRepository.deleteAll();
+        partyOwnerRepository.deleteAll();
+    }
+
+    @Test
+    void dadoCriacoesParalelasComMesmoEmail_quandoCreateGuest_entaoApenasUmaEhGravada() throws Exception {
+        // Dado
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+
+        // Quando
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_CREATES)) {
+            for (int i = 0; i < PARALLEL_CREATES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        guestService.createGuest(new CreateGuestDTO("Ada", "ada@teste.com",
+                                GuestStatusEnum.PENDING, event, false));
+                        created.incrementAndGet();
+                    } catch (EmailAlreadyExistsException e) {
+                        duplicated.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        // Então
+        assertEquals(1, created.get());
+        assertEquals(PARALLEL_CREATES - 1, duplicated.get());
+        assertEquals(1, guestRepository.count());
+    }
+
+    @Test
+    void dadoMesmoEmailEmEventosDiferentes_quandoCreateGuest_entaoAmbosSaoGravados() {
+        // Dado
+        Event otherEvent = eventRepository.save(new Event("Ano Novo", "Festa", LocalDateTime.now(),
+                "Rua do Limoeiro", "Festa de Ano Novo", false, null, event.getOwner()));
+
+        // Quando
+        guestService.createGuest(new CreateGuestDTO("Ada", "ada@teste.com", GuestStatusEnum.PENDING, event, false));
+        guestService.createGuest(new CreateGuestDTO("Ada", "ada@teste.com", GuestStatusEnum.PENDING, otherEvent, false));
+
+        // Então
+        assertEquals(2, guestRepository.count());
+        assertThrows(EmailAlreadyExistsException.class, () -> guestService.createGuest(
+                new CreateGuestDTO("Ada", "ada@teste.com", GuestStatusEnum.PENDING, otherEvent, false)));
+    }
+}
@@ -1,6 +1,7 @@
 package com.ada.holiday_party_planning.service;
 
 import com.ada.holiday_party_planning.dto.CreateGuestDTO;
+import com.ada.holiday_party_planning.dto.CursorPageDTO;
 import com.ada.holiday_party_planning.dto.GuestDTO;
 import com.ada.holiday_party_planning.enums.GuestStatusEnum;
 import com.ada.holiday_party_planning.exceptions.EmailAlreadyExistsException;
@@ -15,6 +16,9 @@ import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 
 import java.util.*;
 
@@ -52,16 +56,12 @@ public class GuestServiceTest {
     @Test
     public void dadoAllGuests_quandoMetodoListaGuests_entaoRetornarListaDeGuestDTOs() {
         // Dado
-        Guest guest1 = new Guest(UUID.randomUUID(),CONFIRMED,"guest1@teste", "Guest1", new Event(),true);
-        Guest guest2 = new Guest(UUID.randomUUID(),CONFIRMED,"guest2@teste","Guest2", new Event(),true);
-        List<Guest> guestList = List.of(guest1, guest2);
-
-        GuestDTO guestDTO1 = new GuestDTO(guest1.getGuestId(),guest1.getName(),guest1.getEmail(),CONFIRMED);
-        GuestDTO guestDTO2 = new GuestDTO(guest2.getGuestId(),guest2.getName(),guest2.getEmail(),CONFIRMED);
+        GuestDTO guestDTO1 = new GuestDTO(UUID.randomUUID(),"Guest1","guest1@teste",CONFIRMED);
+        GuestDTO guestDTO2 = new GuestDTO(UUID.randomUUID(),"Guest2","guest2@teste",CONFIRMED);
         List<GuestDTO> expectedDTOList = List.of(guestDTO1, guestDTO2);
 
 
-        when(guestRepository.findAll()).thenReturn(guestList);
+        when(guestRepository.findAllDTO()).thenReturn(expectedDTOList);
 
         // Quando
 
@@ -74,21 +74,38 @@ public class GuestServiceTest {
         assertTrue(result.contains(guestDTO2));
         assertEquals(expectedDTOList.size(), result.size());
         assertEquals(expectedDTOList, result);
-        verify(guestRepository, Mockito.times(1)).findAll();
+        verify(guestRepository, Mockito.times(1)).findAllDTO();
     }
 
     @Test
     void dadoListaDeGuests_quandoForVazia_entaoRetornarQueListaEstaVazia() {
 
         // dado
-        when(guestRepository.findAll()).thenReturn(Collections.emptyList());
+        when(guestRepository.findAllDTO()).thenReturn(Collections.emptyList());
 
         // quando
         List<GuestDTO> result = guestService.getAllGuests();
 
         // entao
         assertTrue(result.isEmpty());
-        verify(guestRepository, times(1)).findAll();
+        verify(guestRepository, times(1)).findAllDTO();
+    }
+
+    @Test
+    void dadoCursorELimite_quandoGetGuestsPage_entaoRetornaPaginaSemCarregarTodos() {
+
+        // dado
+        UUID after = UUID.randomUUID();
+        GuestDTO guestDTO = new GuestDTO(UUID.randomUUID(), "Guest1", "guest1@teste", CONFIRMED);
+        when(guestRepository.findPageDTOAfter(after, Limit.of(10))).thenReturn(List.of(guestDTO));
+
+        // quando
+        CursorPageDTO<GuestDTO> page = guestService.getGuestsPage(after, 10);
+
+        // entao
+        assertEquals(List.of(guestDTO), page.getItems());
+        assertNull(page.getNextCursor());
+        verify(guestRepository, never()).findAll();
     }
 
     @Test
@@ -117,7 +134,7 @@ public class GuestServiceTest {
         // dado
         CreateGuestDTO createGuestDTO = new CreateGuestDTO("Ada Tech", "ada@test.com", GuestStatusEnum.CONFIRMED, event, true);
         Guest guest = new Guest(UUID.randomUUID(), GuestStatusEnum.CONFIRMED, "ada@test.com", "Ada Tech", event, true);
-        when(guestRepository.save(any(Guest.class))).thenReturn(guest);
+        when(guestRepository.saveAndFlush(any(Guest.class))).thenReturn(guest);
 
         // quando
         Guest newGuest = guestService.createGuest(createGuestDTO);
@@ -128,7 +145,7 @@ public class GuestServiceTest {
         assertEquals("Ada Tech", guestDTO.getName());
         assertEquals("ada@test.com", guestDTO.getEmail());
         assertEquals(GuestStatusEnum.CONFIRMED, guestDTO.getStatus());
-        verify(guestRepository, Mockito.times(1)).save(any(Guest.class));
+        verify(guestRepository, Mockito.times(1)).saveAndFlush(any(Guest.class));
     }
 
 
@@ -141,7 +158,7 @@ public class GuestServiceTest {
         GuestDTO updatedGuestDTO = new GuestDTO(guestId, "Updated test", "updated@test.com", GuestStatusEnum.CONFIRMED);
 
         when(guestRepository.findById(guestId)).thenReturn(Optional.of(existingGuest));
-        when(guestRepository.save(any(Guest.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(guestRepository.saveAndFlush(any(Guest.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         // quando
         Optional<GuestDTO> result = guestService.updateGuest(guestId, updatedGuestDTO);
@@ -188,14 +205,26 @@ public class GuestServiceTest {
 
         // dado
         CreateGuestDTO createGuestDTO = new CreateGuestDTO("Ada Tech", "ada@test.com", GuestStatusEnum.CONFIRMED, event, true);
-        Guest existingGuest = new Guest(UUID.randomUUID(), GuestStatusEnum.CONFIRMED, "ada@test.com", "Ada Tech", event, true);
-
-        when(guestRepository.findByEmail(createGuestDTO.getEmail())).thenReturn(Optional.of(existingGuest));
+        when(guestRepository.saveAndFlush(any(Guest.class))).thenThrow(new DataIntegrityViolationException("duplicado",
+                new ConstraintViolationException("duplicado", null, "PUBLIC.UK_GUESTS_EVENT_ID_EMAIL_INDEX_4")));
 
         // quando e entao
         assertThrows(EmailAlreadyExistsException.class, () -> guestService.createGuest(createGuestDTO));
-        verify(guestRepository, times(1)).findByEmail(createGuestDTO.getEmail());
-        verify(guestRepository, never()).save(any(Guest.class));
+        verify(guestRepository, times(1)).saveAndFlush(any(Guest.class));
+    }
+
+    @Test
+    void dadoOutraViolacaoDeIntegridade_quandoCriarGuest_entaoPropagaExcecao() {
+
+        // dado
+        CreateGuestDTO createGuestDTO = new CreateGuestDTO("Ada Tech", "ada@test.com", GuestStatusEnum.CONFIRMED, event, true);
+        DataIntegrityViolationException violation = new DataIntegrityViolationException("nulo",
+                new ConstraintViolationException("nulo", null, "fk_guests_event"));
+        when(guestRepository.saveAndFlush(any(Guest.class))).thenThrow(violation);
+
+        // quando e entao
+        assertSame(violation, assertThrows(DataIntegrityViolationException.class,
+                () -> guestService.createGuest(createGuestDTO)));
     }
 
     @Test
@@ -207,7 +236,7 @@ public class GuestServiceTest {
         Guest guest = new Guest(UUID.randomUUID(), GuestStatusEnum.CONFIRMED, "ada@test.com", "Ada Tech", newEvent, true);
 
         when(eventRepository.save(any(Event.class))).thenReturn(newEvent);
-        when(guestRepository.save(any(Guest.class))).thenReturn(guest);
+        when(guestRepository.saveAndFlush(any(Guest.class))).thenReturn(guest);
 
         // quando
         Guest newGuest = guestService.createGuest(createGuestDTO);
@@ -219,7 +248,7 @@ public class GuestServiceTest {
         assertEquals("ada@test.com", guestDTO.getEmail());
         assertEquals(GuestStatusEnum.CONFIRMED, guestDTO.getStatus());
         verify(eventRepository, times(1)).save(newEvent);
-        verify(guestRepository, times(1)).save(any(Guest.class));
+        verify(guestRepository, times(1)).saveAndFlush(any(Guest.class));
     }
 
 }
@@ -0,0 +1,138 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.enums.OutboxStatusEnum;
+import com.ada.holiday_party_planning.exceptions.InviteJobNotFoundException;
+import com.ada.holiday_party_planning.model.OutboxMessage;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InviteDispatchServiceTest {
+
+    @Mock
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @InjectMocks
+    private InviteDispatchService inviteDispatchService;
+
+    private final Map<String, String> variables = Map.of("eventTitle", "Natal", "hostName", "Owner");
+
+    InviteDispatchServiceTest() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void dadoVariosConvidados_quandoDispatch_entaoGravaUmEmailPendentePorConvidado() {
+        // Dado
+        UUID eventId = UUID.randomUUID();
+        ArgumentCaptor<List<OutboxMessage>> captor = ArgumentCaptor.forClass(List.class);
+
+        // Quando
+        InviteJobDTO job = inviteDispatchService.dispatch(eventId, "You're Invited!",
+                List.of("guest1@teste", "guest2@teste"), variables).orElseThrow();
+
+        // Então
+        assertEquals(InviteJobStatusEnum.QUEUED, job.getStatus());
+        assertEquals(2, job.getTotal());
+        verify(outboxMessageRepository).saveAll(captor.capture());
+        List<OutboxMessage> messages = captor.getValue();
+        assertEquals(List.of("guest1@teste", "guest2@teste"),
+                messages.stream().map(OutboxMessage::getRecipient).toList());
+        for (OutboxMessage message : messages) {
+            assertEquals(job.getJobId(), message.getJobId());
+            assertEquals(eventId, message.getEventId());
+            assertEquals(OutboxStatusEnum.PENDING, message.getStatus());
+            assertEquals(variables, message.getVariables());
+        }
+    }
+
+    @Test
+    void dadoEventoSemConvidados_quandoDispatch_entaoNenhumJobCriado() {
+        Optional<InviteJobDTO> job = inviteDispatchService.dispatch(UUID.randomUUID(), "You're Invited!", List.of(), variables);
+
+        assertTrue(job.isEmpty());
+        verify(outboxMessageRepository, never()).saveAll(any());
+    }
+
+    @Test
+    void dadoEnviosEmAndamento_quandoGetJob_entaoJobEmExecucao() {
+        // Dado
+        UUID jobId = UUID.randomUUID();
+        when(outboxMessageRepository.countByJobId(jobId)).thenReturn(List.of(
+                count(OutboxStatusEnum.PENDING, 3), count(OutboxStatusEnum.SENT, 2)));
+
+        // Quando
+        InviteJobDTO job = inviteDispatchService.getJob(jobId);
+
+        // Então
+        assertEquals(InviteJobStatusEnum.RUNNING, job.getStatus());
+        assertEquals(5, job.getTotal());
+        assertEquals(2, job.getSent());
+        assertEquals(0, job.getFailed());
+    }
+
+    @Test
+    void dadoNenhumEnvio_quandoGetJob_entaoJobNaFila() {
+        UUID jobId = UUID.randomUUID();
+        when(outboxMessageRepository.countByJobId(jobId)).thenReturn(List.of(count(OutboxStatusEnum.PENDING, 4)));
+
+        assertEquals(InviteJobStatusEnum.QUEUED, inviteDispatchService.getJob(jobId).getStatus());
+    }
+
+    @Test
+    void dadoFalhaDefinitiva_quandoGetJob_entaoJobConcluidoComFalhas() {
+        // Dado
+        UUID jobId = UUID.randomUUID();
+        when(outboxMessageRepository.countByJobId(jobId)).thenReturn(List.of(
+                count(OutboxStatusEnum.SENT, 2), count(OutboxStatusEnum.FAILED, 1)));
+
+        // Quando
+        InviteJobDTO job = inviteDispatchService.getJob(jobId);
+
+        // Então
+        assertEquals(InviteJobStatusEnum.COMPLETED_WITH_FAILURES, job.getStatus());
+        assertEquals(3, job.getTotal());
+        assertEquals(1, job.getFailed());
+    }
+
+    @Test
+    void dadoJobInexistente_quandoGetJob_entaoLancarExcecao() {
+        when(outboxMessageRepository.countByJobId(any())).thenReturn(List.of());
+
+        assertThrows(InviteJobNotFoundException.class, () -> inviteDispatchService.getJob(UUID.randomUUID()));
+    }
+
+    private static OutboxMessageRepository.JobCount count(OutboxStatusEnum status, long total) {
+        return new OutboxMessageRepository.JobCount() {
+            @Override
+            public UUID getEventId() {
+                return null;
+            }
+
+            @Override
+            public OutboxStatusEnum getStatus() {
+                return status;
+            }
+
+            @Override
+            public long getTotal() {
+                return total;
+            }
+        };
+    }
+}
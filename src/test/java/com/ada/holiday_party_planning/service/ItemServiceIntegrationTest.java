@@ -0,0 +1,153 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.ItemAssignmentDTO;
+import com.ada.holiday_party_planning.dto.ItemDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.exceptions.ItemNotFoundException;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração da criação e da atribuição de itens em lote, contando as instruções SQL
+ * executadas pelo Hibernate.
+ */
+
+@DataJpaTest(showSql = false, properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import(ItemService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class ItemServiceIntegrationTest {
+
+    private static final int ITEMS = 2_000;
+    private static final int GUESTS = 20;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Event event;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        guestRepository.deleteAllInBatch();
+        eventRepository.deleteAll();
+        partyOwnerRepository.deleteAll();
+    }
+
+    @Test
+    void dadoMilharesDeItens_quandoCreateItems_entaoInsereEmLotes() {
+        // Dado
+        List<ItemDTO> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new ItemDTO(null, "Item " + i, 1, 10.0, null));
+        }
+        statistics.clear();
+
+        // Quando
+        List<ItemDTO> created = itemService.createItems(items, event.getEventId());
+
+        // Então
+        assertEquals(ITEMS, created.size());
+        assertTrue(created.stream().allMatch(item -> item.getItemId() != null));
+        assertEquals(ITEMS, itemRepository.count());
+        assertEquals(ITEMS, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getEntityLoadCount(), "o evento não deveria ser carregado");
+        assertTrue(statistics.getPrepareStatementCount() < 20,
+                "inserts não foram agrupados: " + statistics.getPrepareStatementCount() + " statements");
+    }
+
+    @Test
+    void dadoMilharesDeAtribuicoes_quandoAssignItemsToGuests_entaoAtualizaEmLotes() {
+        // Dado
+        List<Guest> guests = new ArrayList<>(GUESTS);
+        for (int i = 0; i < GUESTS; i++) {
+            guests.add(new Guest(null, GuestStatusEnum.PENDING, "convidado" + i + "@teste.com", "Convidado " + i,
+                    event, false));
+        }
+        guests = guestRepository.saveAll(guests);
+        List<ItemDTO> items = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            items.add(new ItemDTO(null, "Item " + i, 1, 10.0, null));
+        }
+        List<ItemAssignmentDTO> assignments = new ArrayList<>(ITEMS);
+        List<ItemDTO> created = itemService.createItems(items, event.getEventId());
+        for (int i = 0; i < ITEMS; i++) {
+            assignments.add(new ItemAssignmentDTO(created.get(i).getItemId(), guests.get(i % GUESTS).getGuestId()));
+        }
+        statistics.clear();
+
+        // Quando
+        itemService.assignItemsToGuests(assignments);
+
+        // Então
+        assertEquals(ITEMS, statistics.getEntityUpdateCount());
+        assertTrue(statistics.getPrepareStatementCount() < 40,
+                "updates não foram agrupados: " + statistics.getPrepareStatementCount() + " statements");
+        UUID guestId = guests.get(0).getGuestId();
+        assertEquals(ITEMS / GUESTS, itemService.itemsByGuestId(guestId, Pageable.unpaged()).size());
+    }
+
+    @Test
+    void dadoItemInexistente_quandoAssignItemsToGuests_entaoNaoGravaNenhumaAtribuicao() {
+        // Dado
+        Guest guest = guestRepository.save(new Guest(null, GuestStatusEnum.PENDING, "ada@teste.com", "Ada",
+                event, false));
+        UUID itemId = itemService.createItems(List.of(new ItemDTO(null, "Chester", 1, 60.0, null)),
+                event.getEventId()).get(0).getItemId();
+
+        // Quando
+        assertThrows(ItemNotFoundException.class, () -> itemService.assignItemsToGuests(List.of(
+                new ItemAssignmentDTO(itemId, guest.getGuestId()),
+                new ItemAssignmentDTO(UUID.randomUUID(), guest.getGuestId()))));
+
+        // Então
+        assertTrue(itemService.itemsByGuestId(guest.getGuestId()).isEmpty());
+    }
+}
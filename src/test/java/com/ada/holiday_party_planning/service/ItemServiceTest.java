@@ -1,5 +1,9 @@
 package com.ada.holiday_party_planning.service;
 
+import com.ada.holiday_party_planning.dto.GuestDTO;
+import com.ada.holiday_party_planning.dto.ItemAssignmentDTO;
+import com.ada.holiday_party_planning.dto.ItemDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
 import com.ada.holiday_party_planning.exceptions.EventNotFoundException;
 import com.ada.holiday_party_planning.exceptions.GuestNotFoundException;
 import com.ada.holiday_party_planning.exceptions.ItemNotFoundException;
@@ -9,15 +13,20 @@ import com.ada.holiday_party_planning.model.Guest;
 import com.ada.holiday_party_planning.repository.EventRepository;
 import com.ada.holiday_party_planning.repository.GuestRepository;
 import com.ada.holiday_party_planning.repository.ItemRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -28,13 +37,16 @@ class ItemServiceTest {
     private EventRepository eventRepository;
     private ItemRepository itemRepository;
     private GuestRepository guestRepository;
+    private EntityManager entityManager;
 
     @BeforeEach
     void setUp() {
         eventRepository = mock(EventRepository.class);
         guestRepository = mock(GuestRepository.class);
         itemRepository = Mockito.mock(ItemRepository.class);
-        itemService = new ItemService(itemRepository, eventRepository, guestRepository);
+        entityManager = mock(EntityManager.class);
+        when(entityManager.unwrap(Session.class)).thenReturn(mock(Session.class));
+        itemService = new ItemService(itemRepository, eventRepository, guestRepository, entityManager, 500);
 
 
     }
@@ -143,37 +155,52 @@ class ItemServiceTest {
 
         UUID eventId = UUID.randomUUID();
 
-        Item item1 = new Item(UUID.randomUUID(), new Event(eventId));
-        Item item2 = new Item(UUID.randomUUID(), new Event(eventId));
-        Item item3 = new Item(UUID.randomUUID(), new Event(UUID.randomUUID()));
+        ItemDTO item1 = new ItemDTO(UUID.randomUUID(), "Chester", 1, 50.0, null);
+        ItemDTO item2 = new ItemDTO(UUID.randomUUID(), "Panetone", 2, 30.0, null);
 
-        List<Item> mockItems = new ArrayList<>(List.of(item1,item2,item3));
-        when(itemRepository.findAll()).thenReturn(mockItems);
+        when(itemRepository.findAllDTOByEventId(eventId, Pageable.unpaged())).thenReturn(List.of(item1, item2));
 
         //quando
-        List<Item> result= itemService.itemsByEventId(eventId);
+        List<ItemDTO> result= itemService.itemsByEventId(eventId);
 
         //entao
         assertEquals(2,result.size());
         assertTrue(result.contains(item1));
         assertTrue(result.contains(item2));
-        assertFalse(result.contains(item3));
 
-        verify(itemRepository,times(1)).findAll();
+        verify(itemRepository,times(1)).findAllDTOByEventId(eventId, Pageable.unpaged());
+        verify(itemRepository,never()).findAll();
 
     }
 
+    @Test
+    void dadoUmaPagina_quandoListaItensByEventId_entaoRepassaPaginacaoAoRepositorio() {
+        //dado
+        UUID eventId = UUID.randomUUID();
+        Pageable pageable = PageRequest.of(1, 10);
+        ItemDTO item = new ItemDTO(UUID.randomUUID(), "Chester", 1, 50.0, null);
+
+        when(itemRepository.findAllDTOByEventId(eventId, pageable)).thenReturn(List.of(item));
+
+        //quando
+        List<ItemDTO> result = itemService.itemsByEventId(eventId, pageable);
+
+        //entao
+        assertEquals(List.of(item), result);
+        verify(itemRepository,times(1)).findAllDTOByEventId(eventId, pageable);
+    }
+
     @Test
     void dadoItemsByEventId_quandoLancaNoItemsFoundException_entaoFiltraListaVazia(){
         ItemRepository itemRepository = Mockito.mock(ItemRepository.class);
         UUID eventId = UUID.randomUUID();
 
-        when(itemRepository.findAll()).thenReturn(new ArrayList<>());
+        when(itemRepository.findAllDTOByEventId(eventId, Pageable.unpaged())).thenReturn(new ArrayList<>());
 
-        ItemService itemService = new ItemService(itemRepository,eventRepository,guestRepository);
+        ItemService itemService = new ItemService(itemRepository,eventRepository,guestRepository, entityManager, 500);
 
         assertThrows(ItemNotFoundException.class, ()-> itemService.itemsByEventId(eventId));
-        verify(itemRepository,times(1)).findAll();
+        verify(itemRepository,times(1)).findAllDTOByEventId(eventId, Pageable.unpaged());
     }
 
     //Item Service / Delete item - Teste Caminho Feliz
@@ -286,34 +313,22 @@ class ItemServiceTest {
     void dadoUmGuestIdValido_quandoItemsByGuestId_entaoRetornaListaDeItensAssociados() {
         //Dado
         UUID guestId = UUID.randomUUID();
+        GuestDTO guest = new GuestDTO(guestId, "Maria", "maria@teste", GuestStatusEnum.CONFIRMED);
 
-        Guest mockGuest = new Guest();
-        mockGuest.setGuestId(guestId);
-
-        Item item1 = new Item();
-        item1.setItemId(UUID.randomUUID());
-        item1.setGuest(mockGuest);
-
-        Item item2 = new Item();
-        item2.setItemId(UUID.randomUUID());
-        item2.setGuest(mockGuest);
+        ItemDTO item1 = new ItemDTO(UUID.randomUUID(), "Chester", 1, 50.0, guest);
+        ItemDTO item2 = new ItemDTO(UUID.randomUUID(), "Panetone", 2, 30.0, guest);
 
-        Item item3 = new Item();
-        item3.setItemId(UUID.randomUUID());
-        item3.setGuest(null); // Não associado a nenhum convidado
-
-        List<Item> mockItems = List.of(item1, item2, item3);
-        when(itemRepository.findAll()).thenReturn(mockItems);
+        when(itemRepository.findAllDTOByGuestId(guestId, Pageable.unpaged())).thenReturn(List.of(item1, item2));
 
         //Quando
-        List<Item> result = itemService.itemsByGuestId(guestId);
+        List<ItemDTO> result = itemService.itemsByGuestId(guestId);
 
         //Então
         assertEquals(2, result.size(), "Deve retornar exatamente 2 itens associados ao guestId.");
         assertTrue(result.contains(item1), "A lista deve conter o item1.");
         assertTrue(result.contains(item2), "A lista deve conter o item2.");
-        assertFalse(result.contains(item3), "A lista não deve conter itens não associados ao guestId.");
-        verify(itemRepository, times(1)).findAll();
+        verify(itemRepository, times(1)).findAllDTOByGuestId(guestId, Pageable.unpaged());
+        verify(itemRepository, never()).findAll();
     }
 
     //caminho falha:
@@ -323,40 +338,14 @@ class ItemServiceTest {
         //Dado
         UUID guestId = UUID.randomUUID();
 
-        Item item1 = new Item();
-        item1.setItemId(UUID.randomUUID());
-        item1.setGuest(null); //Não associado a nenhum convidado
-
-        Item item2 = new Item();
-        item2.setItemId(UUID.randomUUID());
-        item2.setGuest(null); //Não associado a nenhum convidado
-
-        List<Item> mockItems = List.of(item1, item2);
-        when(itemRepository.findAll()).thenReturn(mockItems);
+        when(itemRepository.findAllDTOByGuestId(guestId, Pageable.unpaged())).thenReturn(List.of());
 
         //Quando
-        List<Item> result = itemService.itemsByGuestId(guestId);
+        List<ItemDTO> result = itemService.itemsByGuestId(guestId);
 
         //Então
         assertTrue(result.isEmpty(), "A lista deve estar vazia se nenhum item estiver associado ao guestId.");
-        verify(itemRepository, times(1)).findAll();
-    }
-
-    //caminho falha:
-    //Banco Vazio
-    @Test
-    void dadoUmGuestIdValido_quandoItemsByGuestIdRequisitadoMasNenhumItemExistirNoBanco_entaoRetornaListaVazia() {
-        //Dado
-        UUID guestId = UUID.randomUUID();
-
-        when(itemRepository.findAll()).thenReturn(List.of());
-
-        //Quando
-        List<Item> result = itemService.itemsByGuestId(guestId);
-
-        //Então
-        assertTrue(result.isEmpty(), "A lista deve estar vazia quando não há itens no repositório.");
-        verify(itemRepository, times(1)).findAll();
+        verify(itemRepository, times(1)).findAllDTOByGuestId(guestId, Pageable.unpaged());
     }
 
 
@@ -445,6 +434,69 @@ class ItemServiceTest {
         verify(itemRepository, never()).save(any());
     }
 
+    @Test
+    void dadoEventIdInexistente_quandoCreateItems_entaoLancaEventNotFoundException() {
+        // Dado
+        UUID eventId = UUID.randomUUID();
+        when(eventRepository.existsById(eventId)).thenReturn(false);
+
+        // Quando e Então
+        assertThrows(EventNotFoundException.class,
+                () -> itemService.createItems(List.of(new ItemDTO(null, "chester", 1, 60.0, null)), eventId));
+        verify(entityManager, never()).persist(any());
+    }
+
+    @Test
+    void dadoItensValidos_quandoCreateItems_entaoPersisteComReferenciaDoEvento() {
+        // Dado
+        UUID eventId = UUID.randomUUID();
+        Event event = new Event();
+        event.setEventId(eventId);
+        when(eventRepository.existsById(eventId)).thenReturn(true);
+        when(eventRepository.getReferenceById(eventId)).thenReturn(event);
+        List<ItemDTO> items = List.of(
+                new ItemDTO(UUID.randomUUID(), "chester", 1, 60.0, null),
+                new ItemDTO(null, "panetone", 2, 25.0, null));
+
+        // Quando
+        List<ItemDTO> created = itemService.createItems(items, eventId);
+
+        // Então
+        assertEquals(2, created.size());
+        assertEquals("panetone", created.get(1).getName());
+        verify(eventRepository, never()).findById(any());
+        verify(entityManager, times(2)).persist(argThat(item ->
+                ((Item) item).getItemId() == null && ((Item) item).getEvent() == event));
+    }
+
+    @Test
+    void dadoConvidadoInexistente_quandoAssignItemsToGuests_entaoLancaGuestNotFoundException() {
+        // Dado
+        UUID itemId = UUID.randomUUID();
+        UUID guestId = UUID.randomUUID();
+        when(guestRepository.findExistingGuestIds(Set.of(guestId))).thenReturn(Set.of());
+
+        // Quando e Então
+        assertThrows(GuestNotFoundException.class,
+                () -> itemService.assignItemsToGuests(List.of(new ItemAssignmentDTO(itemId, guestId))));
+        verify(itemRepository, never()).findAllByItemIdIn(any());
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    void dadoItemInexistente_quandoAssignItemsToGuests_entaoLancaItemNotFoundException() {
+        // Dado
+        UUID itemId = UUID.randomUUID();
+        UUID guestId = UUID.randomUUID();
+        when(guestRepository.findExistingGuestIds(Set.of(guestId))).thenReturn(Set.of(guestId));
+        when(itemRepository.findAllByItemIdIn(Set.of(itemId))).thenReturn(List.of());
+
+        // Quando e Então
+        assertThrows(ItemNotFoundException.class,
+                () -> itemService.assignItemsToGuests(List.of(new ItemAssignmentDTO(itemId, guestId))));
+        verify(entityManager, never()).flush();
+    }
+
  //TODO  happyPath and ExceptionPath for the method removeGuestFromItem
 
 }
\ No newline at end of file
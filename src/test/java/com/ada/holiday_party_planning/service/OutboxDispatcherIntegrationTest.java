@@ -0,0 +1,296 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.enums.OutboxStatusEnum;
+import com.ada.holiday_party_planning.model.OutboxMessage;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Testes de integração da fila de saída de e-mails: gravação na transação de quem chama, reserva
+ * com SKIP LOCKED e envio por mais de um dispatcher ao mesmo tempo.
+ */
+
+@DataJpaTest(showSql = false)
+@Import(InviteDispatchService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class OutboxDispatcherIntegrationTest {
+
+    private static final Map<String, String> VARIABLES = Map.of("eventTitle", "Natal", "hostName", "Owner");
+
+    @Autowired
+    private InviteDispatchService inviteDispatchService;
+
+    @Autowired
+    private OutboxMessageRepository outboxMessageRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockBean
+    private EmailService emailService;
+
+    private TransactionTemplate transactionTemplate;
+    private final List<OutboxDispatcher> dispatchers = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        when(emailService.sendEmails(anyList())).thenAnswer(invocation -> {
+            List<EmailMessageDTO> emails = invocation.getArgument(0);
+            List<MessagingException> failures = new ArrayList<>();
+            for (EmailMessageDTO email : emails) {
+                try {
+                    emailService.sendEmail(email.getTo(), email.getSubject(), email.getVariables());
+                    failures.add(null);
+                } catch (MessagingException e) {
+                    failures.add(e);
+                }
+            }
+            return failures;
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatchers.forEach(OutboxDispatcher::shutdown);
+        outboxMessageRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void dadoConvitesNaFila_quandoPoll_entaoTodosSaoEnviadosEJobConcluido() throws Exception {
+        // Dado
+        InviteJobDTO job = dispatch(recipients("guest", 25));
+        OutboxDispatcher dispatcher = dispatcher(10, 3);
+
+        // Quando
+        dispatcher.poll();
+
+        // Então
+        InviteJobDTO finished = inviteDispatchService.getJob(job.getJobId());
+        assertEquals(InviteJobStatusEnum.COMPLETED, finished.getStatus());
+        assertEquals(25, finished.getSent());
+        verify(emailService, times(25)).sendEmail(anyString(), eq("You're Invited!"), eq(VARIABLES));
+    }
+
+    @Test
+    void dadoTransacaoDesfeita_quandoDispatch_entaoNenhumConviteFicaNaFila() {
+        // Quando
+        assertThrows(IllegalStateException.class, () -> transactionTemplate.executeWithoutResult(status -> {
+            inviteDispatchService.dispatch(UUID.randomUUID(), "You're Invited!", recipients("guest", 3), VARIABLES);
+            throw new IllegalStateException("rollback");
+        }));
+
+        // Então
+        assertEquals(0, outboxMessageRepository.count());
+    }
+
+    @Test
+    void dadoSemTransacao_quandoDispatch_entaoRecusaGravar() {
+        assertThrows(RuntimeException.class, () ->
+                inviteDispatchService.dispatch(UUID.randomUUID(), "You're Invited!", recipients("guest", 1), VARIABLES));
+        assertEquals(0, outboxMessageRepository.count());
+    }
+
+    @Test
+    void dadoFalhaTemporaria_quandoDispatchBatch_entaoConviteEhReenviadoDepoisDaEspera() throws Exception {
+        // Dado
+        doThrow(new MessagingException("timeout"))
+                .doNothing()
+                .when(emailService).sendEmail(eq("guest0@teste"), anyString(), anyMap());
+        InviteJobDTO job = dispatch(recipients("guest", 1));
+        OutboxDispatcher dispatcher = dispatcher(10, 3);
+
+        // Quando
+        assertEquals(1, dispatcher.dispatchBatch());
+        assertEquals(InviteJobStatusEnum.QUEUED, inviteDispatchService.getJob(job.getJobId()).getStatus());
+        awaitFinished(dispatcher, job.getJobId());
+
+        // Então
+        OutboxMessage message = outboxMessageRepository.findAll().get(0);
+        assertEquals(OutboxStatusEnum.SENT, message.getStatus());
+        assertEquals(2, message.getAttempts());
+        assertNull(message.getLastError());
+        verify(emailService, times(2)).sendEmail(eq("guest0@teste"), anyString(), anyMap());
+    }
+
+    @Test
+    void dadoFalhaPermanente_quandoTentativasEsgotam_entaoDemaisConvitesSaoEnviados() throws Exception {
+        // Dado
+        doThrow(new MessagingException("mailbox unavailable"))
+                .when(emailService).sendEmail(eq("bad@teste"), anyString(), anyMap());
+        InviteJobDTO job = dispatch(List.of("bad@teste", "guest1@teste", "guest2@teste"));
+        OutboxDispatcher dispatcher = dispatcher(10, 3);
+
+        // Quando
+        InviteJobDTO finished = awaitFinished(dispatcher, job.getJobId());
+
+        // Então
+        assertEquals(InviteJobStatusEnum.COMPLETED_WITH_FAILURES, finished.getStatus());
+        assertEquals(2, finished.getSent());
+        assertEquals(1, finished.getFailed());
+        verify(emailService, times(3)).sendEmail(eq("bad@teste"), anyString(), anyMap());
+        OutboxMessage failed = outboxMessageRepository.findAll().stream()
+                .filter(message -> message.getStatus() == OutboxStatusEnum.FAILED)
+                .findFirst().orElseThrow();
+        assertEquals("mailbox unavailable", failed.getLastError());
+    }
+
+    @Test
+    void dadoLoteReservado_quandoOutroDispatcherReserva_entaoPulaAsLinhasBloqueadas() throws Exception {
+        // Dado
+        dispatch(recipients("guest", 4));
+        CountDownLatch firstClaimed = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService background = Executors.newSingleThreadExecutor();
+
+        // Quando
+        Future<List<UUID>> first = background.submit(() -> transactionTemplate.execute(status -> {
+            List<UUID> ids = outboxMessageRepository.claimAvailableUnordered(Instant.now(), 3).stream()
+                    .map(OutboxMessage::getMessageId).toList();
+            firstClaimed.countDown();
+            await(release);
+            return ids;
+        }));
+        assertTrue(firstClaimed.await(10, TimeUnit.SECONDS));
+        List<UUID> second = transactionTemplate.execute(status ->
+                outboxMessageRepository.claimAvailableUnordered(Instant.now(), 3).stream()
+                        .map(OutboxMessage::getMessageId).toList());
+        release.countDown();
+
+        // Então
+        List<UUID> firstIds = first.get(10, TimeUnit.SECONDS);
+        background.shutdown();
+        assertEquals(3, firstIds.size());
+        assertEquals(1, second.size());
+        assertFalse(firstIds.contains(second.get(0)));
+    }
+
+    @Test
+    void dadoEmailsReagendados_quandoClaimAvailable_entaoReservaOsMaisAntigosPrimeiro() {
+        // Dado
+        Instant now = Instant.now();
+        UUID jobId = UUID.randomUUID();
+        outboxMessageRepository.saveAll(List.of(
+                new OutboxMessage(jobId, null, "novo@teste", "You're Invited!", VARIABLES, now.minusSeconds(1)),
+                new OutboxMessage(jobId, null, "antigo@teste", "You're Invited!", VARIABLES, now.minusSeconds(3)),
+                new OutboxMessage(jobId, null, "meio@teste", "You're Invited!", VARIABLES, now.minusSeconds(2))));
+
+        // Quando
+        List<String> claimed = transactionTemplate.execute(status ->
+                outboxMessageRepository.claimAvailable(now, 2).stream().map(OutboxMessage::getRecipient).toList());
+
+        // Então
+        assertEquals(List.of("antigo@teste", "meio@teste"), claimed);
+    }
+
+    @Test
+    void dadoDoisDispatchers_quandoDrenamAMesmaFila_entaoCadaConviteEhEnviadoUmaVez() throws Exception {
+        // Dado
+        int total = 200;
+        Map<String, AtomicInteger> sends = new ConcurrentHashMap<>();
+        Map<String, Boolean> threadsPerNode = new ConcurrentHashMap<>();
+        doAnswer(invocation -> {
+            sends.computeIfAbsent(invocation.getArgument(0), key -> new AtomicInteger()).incrementAndGet();
+            threadsPerNode.put(Thread.currentThread().getName(), true);
+            Thread.sleep(2);
+            return null;
+        }).when(emailService).sendEmail(anyString(), anyString(), anyMap());
+        InviteJobDTO job = dispatch(recipients("guest", total));
+        OutboxDispatcher nodeA = dispatcher(20, 3);
+        OutboxDispatcher nodeB = dispatcher(20, 3);
+
+        // Quando
+        ExecutorService nodes = Executors.newFixedThreadPool(2);
+        AtomicInteger claimedByA = new AtomicInteger();
+        AtomicInteger claimedByB = new AtomicInteger();
+        Future<?> a = nodes.submit(() -> drain(nodeA, claimedByA));
+        Future<?> b = nodes.submit(() -> drain(nodeB, claimedByB));
+        a.get(30, TimeUnit.SECONDS);
+        b.get(30, TimeUnit.SECONDS);
+        nodes.shutdown();
+
+        // Então
+        assertEquals(total, sends.size());
+        assertTrue(sends.values().stream().allMatch(count -> count.get() == 1), "convite enviado mais de uma vez");
+        assertEquals(total, claimedByA.get() + claimedByB.get());
+        assertTrue(claimedByA.get() > 0 && claimedByB.get() > 0,
+                "nó A: " + claimedByA.get() + ", nó B: " + claimedByB.get());
+        assertEquals(InviteJobStatusEnum.COMPLETED, inviteDispatchService.getJob(job.getJobId()).getStatus());
+    }
+
+    private void drain(OutboxDispatcher dispatcher, AtomicInteger claimed) {
+        int batch;
+        while ((batch = dispatcher.dispatchBatch()) > 0) {
+            claimed.addAndGet(batch);
+        }
+    }
+
+    private InviteJobDTO dispatch(List<String> recipients) {
+        return transactionTemplate.execute(status ->
+                inviteDispatchService.dispatch(UUID.randomUUID(), "You're Invited!", recipients, VARIABLES)).orElseThrow();
+    }
+
+    private OutboxDispatcher dispatcher(int batchSize, int maxAttempts) {
+        OutboxDispatcher dispatcher = new OutboxDispatcher(outboxMessageRepository, emailService, transactionManager,
+                true, false, batchSize, 4, maxAttempts, 10, 60_000, 24);
+        dispatchers.add(dispatcher);
+        return dispatcher;
+    }
+
+    private InviteJobDTO awaitFinished(OutboxDispatcher dispatcher, UUID jobId) throws InterruptedException {
+        Instant deadline = Instant.now().plus(Duration.ofSeconds(10));
+        InviteJobDTO job = inviteDispatchService.getJob(jobId);
+        while (job.getStatus() == InviteJobStatusEnum.QUEUED || job.getStatus() == InviteJobStatusEnum.RUNNING) {
+            assertTrue(Instant.now().isBefore(deadline), "Invite job did not finish in time");
+            Thread.sleep(20);
+            dispatcher.poll();
+            job = inviteDispatchService.getJob(jobId);
+        }
+        return job;
+    }
+
+    private static List<String> recipients(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> prefix + i + "@teste").toList();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,134 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.HolidayPartyPlanningApplication;
+import com.ada.holiday_party_planning.dto.EmailMessageDTO;
+import com.ada.holiday_party_planning.dto.InviteJobDTO;
+import com.ada.holiday_party_planning.enums.InviteJobStatusEnum;
+import com.ada.holiday_party_planning.repository.OutboxMessageRepository;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Teste de carga que mede o tempo para esvaziar a fila de saída com um e com dois nós da
+ * aplicação apontando para o mesmo banco. O envio SMTP é simulado com uma espera fixa por e-mail.
+ * <p>
+ * Por padrão os nós compartilham um H2 em memória. Para rodar contra um Postgres local:
+ * {@code mvn -P load test -Dtest=OutboxScalingLoadTest -Doutbox.load.url=jdbc:postgresql://localhost:5432/vanessa
+ * -Doutbox.load.username=postgres -Doutbox.load.password=123456}.
+ */
+
+@Tag("load")
+public class OutboxScalingLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxScalingLoadTest.class);
+
+    private static final int MESSAGES = 1_000;
+    private static final long SEND_MILLIS = 20;
+
+    @Test
+    void dadoMesmaFila_quandoDobrarNos_entaoEsvaziaMaisRapido() throws Exception {
+        Duration oneNode = drain(1);
+        Duration twoNodes = drain(2);
+
+        log.info("{} e-mails: 1 nó {} ms ({} e-mails/s), 2 nós {} ms ({} e-mails/s)", MESSAGES,
+                oneNode.toMillis(), MESSAGES * 1000 / oneNode.toMillis(),
+                twoNodes.toMillis(), MESSAGES * 1000 / twoNodes.toMillis());
+        assertTrue(twoNodes.toMillis() * 1.5 < oneNode.toMillis(),
+                "1 nó: " + oneNode.toMillis() + " ms, 2 nós: " + twoNodes.toMillis() + " ms");
+    }
+
+    private Duration drain(int nodes) throws Exception {
+        List<ConfigurableApplicationContext> contexts = new ArrayList<>();
+        try {
+            for (int i = 0; i < nodes; i++) {
+                contexts.add(start(nodes));
+            }
+            ConfigurableApplicationContext first = contexts.get(0);
+            OutboxMessageRepository repository = first.getBean(OutboxMessageRepository.class);
+            TransactionTemplate transactionTemplate = first.getBean(TransactionTemplate.class);
+            InviteDispatchService inviteDispatchService = first.getBean(InviteDispatchService.class);
+            repository.deleteAllInBatch();
+
+            List<String> recipients = IntStream.range(0, MESSAGES).mapToObj(i -> "guest" + i + "@teste").toList();
+            Instant start = Instant.now();
+            UUID jobId = transactionTemplate.execute(status -> inviteDispatchService.dispatch(UUID.randomUUID(),
+                    "You're Invited!", recipients, Map.of("eventTitle", "Natal"))).orElseThrow().getJobId();
+
+            Instant deadline = start.plus(Duration.ofMinutes(2));
+            InviteJobDTO job = inviteDispatchService.getJob(jobId);
+            while (job.getStatus() == InviteJobStatusEnum.QUEUED || job.getStatus() == InviteJobStatusEnum.RUNNING) {
+                assertTrue(Instant.now().isBefore(deadline), "A fila não esvaziou a tempo");
+                Thread.sleep(20);
+                job = inviteDispatchService.getJob(jobId);
+            }
+            Duration elapsed = Duration.between(start, Instant.now());
+            assertEquals(MESSAGES, job.getSent());
+            return elapsed;
+        } finally {
+            contexts.forEach(ConfigurableApplicationContext::close);
+        }
+    }
+
+    private ConfigurableApplicationContext start(int nodes) {
+        String url = System.getProperty("outbox.load.url", "jdbc:h2:mem:outbox-load-" + nodes + ";DB_CLOSE_DELAY=-1");
+        return new SpringApplicationBuilder(HolidayPartyPlanningApplication.class, SlowMailConfig.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=" + url,
+                        "--spring.datasource.username=" + System.getProperty("outbox.load.username", "sa"),
+                        "--spring.datasource.password=" + System.getProperty("outbox.load.password", "password"),
+                        "--spring.datasource.driver-class-name=",
+                        "--spring.jpa.database-platform=",
+                        "--spring.jpa.hibernate.ddl-auto=update",
+                        "--outbox.dispatcher.enabled=true",
+                        "--outbox.claim-in-order=" + !url.startsWith("jdbc:h2:"),
+                        "--outbox.poll-interval-ms=50",
+                        "--outbox.batch-size=20",
+                        "--outbox.max-concurrency=4");
+    }
+
+    /**
+     * Substitui o envio SMTP por uma espera fixa, como um servidor de e-mail remoto.
+     */
+
+    @TestConfiguration
+    static class SlowMailConfig {
+
+        @Bean
+        @Primary
+        EmailService slowEmailService(JavaMailSender javaMailSender) {
+            return new EmailService(javaMailSender) {
+                @Override
+                public List<MessagingException> sendEmails(List<EmailMessageDTO> emails) {
+                    try {
+                        Thread.sleep(SEND_MILLIS * emails.size());
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return Collections.nCopies(emails.size(), null);
+                }
+            };
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.dto.CreatePartyOwnerDTO;
+import com.ada.holiday_party_planning.exceptions.EmailAlreadyExistsException;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+/**
+ * Teste de integração da unicidade do e-mail do proprietário com cadastros concorrentes.
+ */
+
+@DataJpaTest
+@Import(PartyOwnerService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class PartyOwnerServiceIntegrationTest {
+
+    private static final int PARALLEL_CREATES = 16;
+    private static final String LEGACY_UNIQUE_EMAIL = "ukk1r2etevlj0cq2gb6n8mwbdd5";
+
+    @Autowired
+    private PartyOwnerService partyOwnerService;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @MockBean
+    private PasswordHashingService passwordHashingService;
+
+    @MockBean
+    private TokenService tokenService;
+
+    @MockBean
+    private VerifiedCredentialsCache verifiedCredentialsCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        partyOwnerRepository.deleteAll();
+        jdbcTemplate.execute("alter table party_owner drop constraint if exists " + LEGACY_UNIQUE_EMAIL);
+        jdbcTemplate.execute("alter table party_owner drop constraint if exists " + PartyOwner.UNIQUE_EMAIL);
+        jdbcTemplate.execute("alter table party_owner add constraint " + PartyOwner.UNIQUE_EMAIL + " unique (email)");
+    }
+
+    @Test
+    void dadoCadastrosParalelosComMesmoEmail_quandoCreatePartyOwner_entaoApenasUmEhGravado() throws Exception {
+        // Dado
+        when(passwordHashingService.encode(any())).thenReturn("hash");
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger created = new AtomicInteger();
+        AtomicInteger duplicated = new AtomicInteger();
+        List<Future<?>> results = new ArrayList<>();
+
+        // Quando
+        try (ExecutorService executor = Executors.newFixedThreadPool(PARALLEL_CREATES)) {
+            for (int i = 0; i < PARALLEL_CREATES; i++) {
+                results.add(executor.submit(() -> {
+                    start.await();
+                    try {
+                        partyOwnerService.createPartyOwner(new CreatePartyOwnerDTO("Monica", "monica@teste.com", "senha"));
+                        created.incrementAndGet();
+                    } catch (EmailAlreadyExistsException e) {
+                        duplicated.incrementAndGet();
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> result : results) {
+                result.get();
+            }
+        }
+
+        // Então
+        assertEquals(1, created.get());
+        assertEquals(PARALLEL_CREATES - 1, duplicated.get());
+        assertEquals(1, partyOwnerRepository.count());
+    }
+
+    @Test
+    void dadoBancoComRestricaoUnicaAntiga_quandoCreatePartyOwnerComEmailRepetido_entaoLancaEmailAlreadyExists() {
+        // Dado
+        when(passwordHashingService.encode(any())).thenReturn("hash");
+        jdbcTemplate.execute("alter table party_owner drop constraint " + PartyOwner.UNIQUE_EMAIL);
+        jdbcTemplate.execute("alter table party_owner add constraint " + LEGACY_UNIQUE_EMAIL + " unique (email)");
+        partyOwnerService.createPartyOwner(new CreatePartyOwnerDTO("Monica", "monica@teste.com", "senha"));
+
+        // Quando / Então
+        assertThrows(EmailAlreadyExistsException.class, () ->
+                partyOwnerService.createPartyOwner(new CreatePartyOwnerDTO("Monica", "monica@teste.com", "senha")));
+        assertEquals(1, partyOwnerRepository.count());
+    }
+}
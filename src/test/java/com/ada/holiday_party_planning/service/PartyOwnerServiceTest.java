@@ -7,13 +7,18 @@ import com.ada.holiday_party_planning.exceptions.PartyOwnerNotFoundException;
 import com.ada.holiday_party_planning.mappers.PartyOwnerMapper;
 import com.ada.holiday_party_planning.model.PartyOwner;
 import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import com.ada.holiday_party_planning.util.VerifiedCredentialsCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.time.Duration;
 import java.util.*;
 import static org.mockito.Mockito.*;
 import static org.junit.jupiter.api.Assertions.*;
@@ -24,6 +29,15 @@ public class PartyOwnerServiceTest {
     @Mock
     private PartyOwnerRepository partyOwnerRepository;
 
+    @Mock
+    private PasswordHashingService passwordHashingService;
+
+    @Mock
+    private TokenService tokenService;
+
+    @Mock
+    private VerifiedCredentialsCache verifiedCredentialsCache;
+
 
     @InjectMocks
     private PartyOwnerService partyOwnerService;
@@ -45,8 +59,7 @@ public class PartyOwnerServiceTest {
 
         PartyOwnerDTO expectedDTO = new PartyOwnerDTO(UUID.randomUUID(), "Monica", "monica@teste");
 
-        when(partyOwnerRepository.findByEmail("monica@teste")).thenReturn(Optional.empty());
-        when(partyOwnerRepository.save(partyOwner)).thenReturn(partyOwner);
+        when(partyOwnerRepository.saveAndFlush(partyOwner)).thenReturn(partyOwner);
 
         //quando
         PartyOwnerDTO result = partyOwnerService.createPartyOwner(createPartyOwnerDTO);
@@ -54,7 +67,7 @@ public class PartyOwnerServiceTest {
         //entao
         assertNotNull(result);
         assertEquals("monica@teste", result.getEmail());
-        verify(partyOwnerRepository).save(partyOwner);
+        verify(partyOwnerRepository).saveAndFlush(partyOwner);
 
     }
 
@@ -63,15 +76,12 @@ public class PartyOwnerServiceTest {
         //dado
         CreatePartyOwnerDTO createPartyOwnerDTO = new CreatePartyOwnerDTO("Monica", "jaExisteEsteEmail@teste", "123456");
 
-        PartyOwner existingPartyOwner = new PartyOwner();
-        existingPartyOwner.setEmail("jaExisteEsteEmail@teste");
-
-        when(partyOwnerRepository.findByEmail("jaExisteEsteEmail@teste"))
-                .thenReturn(Optional.of(existingPartyOwner));
+        when(partyOwnerRepository.saveAndFlush(any(PartyOwner.class))).thenThrow(new DataIntegrityViolationException(
+                "duplicado", new ConstraintViolationException("duplicado", null, "uk_party_owner_email")));
 
         //quando e entao
         assertThrows(EmailAlreadyExistsException.class, () -> partyOwnerService.createPartyOwner(createPartyOwnerDTO));
-        verify(partyOwnerRepository, never()).save(any(PartyOwner.class));
+        verify(partyOwnerRepository, never()).findByEmail(any());
     }
 
     @Test
@@ -85,6 +95,9 @@ public class PartyOwnerServiceTest {
 
         when(partyOwnerRepository.findByEmail("monica@teste"))
                 .thenReturn(Optional.of(partyOwner));
+        when(passwordHashingService.matches("password", partyOwner.getPassword())).thenReturn(true);
+        when(tokenService.issue("monica@teste")).thenReturn("token");
+        when(tokenService.ttl()).thenReturn(Duration.ofMinutes(15));
 
         // quando
         PartyOwnerLoginResponseDTO result = partyOwnerService.login(userLoginInfo);
@@ -92,8 +105,33 @@ public class PartyOwnerServiceTest {
         // entao
         assertNotNull(result);
         assertEquals(result.getEmail(), "monica@teste");
+        assertEquals("token", result.getToken());
+        assertEquals(900, result.getExpiresIn());
         verify(partyOwnerRepository).findByEmail("monica@teste");
+        verify(partyOwnerRepository, never()).save(any());
+
+    }
+
+    @Test
+    void dadoHashComCustoAntigo_quandoFizerLogin_entaoRefazHashESalva() {
+        //dado
+        PartyOwnerLoginDTO userLoginInfo = new PartyOwnerLoginDTO("monica@teste", "password");
+        PartyOwner partyOwner = new PartyOwner();
+        partyOwner.setEmail("monica@teste");
+        partyOwner.setPassword("hashAntigo");
+
+        when(partyOwnerRepository.findByEmail("monica@teste")).thenReturn(Optional.of(partyOwner));
+        when(passwordHashingService.matches("password", "hashAntigo")).thenReturn(true);
+        when(passwordHashingService.upgradeEncoding("hashAntigo")).thenReturn(true);
+        when(passwordHashingService.encode("password")).thenReturn("hashNovo");
+        when(tokenService.ttl()).thenReturn(Duration.ofMinutes(15));
+
+        //quando
+        partyOwnerService.login(userLoginInfo);
 
+        //entao
+        assertEquals("hashNovo", partyOwner.getPassword());
+        verify(partyOwnerRepository).save(partyOwner);
     }
 
     @Test
@@ -155,6 +193,21 @@ public class PartyOwnerServiceTest {
         verify(partyOwnerRepository, times(1)).findAll();
     }
 
+    @Test
+    void dadoLimiteAcimaDoMaximo_quandoGetPartyOwnersPage_entaoLimiteEhAjustado() {
+        //dado
+        PartyOwnerDTO owner = new PartyOwnerDTO(UUID.randomUUID(), "Owner1", "owner1@teste");
+        when(partyOwnerRepository.findFirstPageDTO(Limit.of(CursorPageDTO.MAX_LIMIT))).thenReturn(List.of(owner));
+
+        //quando
+        CursorPageDTO<PartyOwnerDTO> page = partyOwnerService.getPartyOwnersPage(null, 10_000);
+
+        //entao
+        assertEquals(List.of(owner), page.getItems());
+        assertNull(page.getNextCursor());
+        verify(partyOwnerRepository, never()).findAll();
+    }
+
     @Test
     void dadoListaPartyOwnersVazia_quandoChamaMetodoGettAllPartyOwners_entaoRetornaPartyOwnerNotFoundException() {
         //dado
@@ -176,12 +229,13 @@ public class PartyOwnerServiceTest {
         PartyOwner existingPartyOwner = new PartyOwner();
         existingPartyOwner.setOwnerId(ownerId);
         existingPartyOwner.setName("old Name");
+        existingPartyOwner.setEmail("old@teste");
 
         UpdatePartyOwnerDTO newPartyOwner = new UpdatePartyOwnerDTO("new Name","owner@teste");
         PartyOwnerDTO updatedPartyOwnerDTO = new PartyOwnerDTO(ownerId,"new Name","owner@teste");
 
         when(partyOwnerRepository.findById(ownerId)).thenReturn(Optional.of(existingPartyOwner));
-        when(partyOwnerRepository.save(existingPartyOwner)).thenReturn(existingPartyOwner);
+        when(partyOwnerRepository.saveAndFlush(existingPartyOwner)).thenReturn(existingPartyOwner);
 
         //quando
         Optional<PartyOwnerDTO> result = partyOwnerService.updatePartyOwner(ownerId, newPartyOwner);
@@ -190,7 +244,8 @@ public class PartyOwnerServiceTest {
         assertTrue(result.isPresent());
         assertEquals("new Name", result.get().getName());
         verify(partyOwnerRepository, times(1)).findById(ownerId);
-        verify(partyOwnerRepository, times(1)).save(existingPartyOwner);
+        verify(partyOwnerRepository, times(1)).saveAndFlush(existingPartyOwner);
+        verify(verifiedCredentialsCache).evict("old@teste");
     }
 
     @Test
@@ -206,7 +261,7 @@ public class PartyOwnerServiceTest {
         //entao
         assertFalse(result.isPresent());
         verify(partyOwnerRepository, times(1)).findById(ownerId);
-        verify(partyOwnerRepository, never()).save(any());
+        verify(partyOwnerRepository, never()).saveAndFlush(any());
     }
 
 
@@ -0,0 +1,89 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.exceptions.PasswordHashingBusyException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class PasswordHashingServiceTest {
+
+    private final ThreadPoolTaskExecutor executor = executor(1, 1);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+    }
+
+    private static ThreadPoolTaskExecutor executor(int poolSize, int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.initialize();
+        return executor;
+    }
+
+    @Test
+    void dadoSenha_quandoEncodeEMatches_entaoVerificaNoExecutorERegistraTempo() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(4), executor,
+                Optional.of(registry));
+
+        String hash = service.encode("password");
+
+        assertTrue(service.matches("password", hash));
+        assertFalse(service.matches("outra", hash));
+        assertEquals(1, registry.get("password.hashing").tag("operation", "encode").timer().count());
+        assertEquals(2, registry.get("password.hashing").tag("operation", "matches").timer().count());
+        assertEquals(0.0, registry.get("password.hashing.queue").gauge().value());
+    }
+
+    @Test
+    void dadoHashComCustoMenor_quandoUpgradeEncoding_entaoRetornaTrue() {
+        PasswordHashingService service = new PasswordHashingService(new BCryptPasswordEncoder(5), executor,
+                Optional.empty());
+
+        assertTrue(service.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password")));
+        assertFalse(service.upgradeEncoding(new BCryptPasswordEncoder(5).encode("password")));
+    }
+
+    @Test
+    void dadoExecutorSaturado_quandoMatches_entaoLancaPasswordHashingBusyException() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        PasswordEncoder encoder = mock(PasswordEncoder.class);
+        CountDownLatch running = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(encoder.matches(any(), any())).thenAnswer(invocation -> {
+            running.countDown();
+            release.await();
+            return true;
+        });
+        PasswordHashingService service = new PasswordHashingService(encoder, executor, Optional.of(registry));
+
+        CompletableFuture<Boolean> first = CompletableFuture.supplyAsync(() -> service.matches("a", "hash"));
+        assertTrue(running.await(1, TimeUnit.SECONDS));
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> service.matches("b", "hash"));
+        while (executor.getThreadPoolExecutor().getQueue().isEmpty()) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(PasswordHashingBusyException.class, () -> service.matches("c", "hash"));
+        assertEquals(1.0, registry.get("password.hashing.rejected").counter().count());
+        assertEquals(1.0, registry.get("password.hashing.queue").gauge().value());
+
+        release.countDown();
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+    }
+}
@@ -0,0 +1,261 @@
+package com.ada.holiday_party_planning.service;
+
+import com.ada.holiday_party_planning.config.SecondLevelCacheConfig;
+import com.ada.holiday_party_planning.dto.CreateGuestDTO;
+import com.ada.holiday_party_planning.dto.GuestDTO;
+import com.ada.holiday_party_planning.dto.ItemDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import com.ada.holiday_party_planning.model.Event;
+import com.ada.holiday_party_planning.model.Guest;
+import com.ada.holiday_party_planning.model.Item;
+import com.ada.holiday_party_planning.model.PartyOwner;
+import com.ada.holiday_party_planning.repository.EventRepository;
+import com.ada.holiday_party_planning.repository.GuestRepository;
+import com.ada.holiday_party_planning.repository.ItemRepository;
+import com.ada.holiday_party_planning.repository.PartyOwnerRepository;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes de integração do cache de segundo nível. Cada leitura roda em uma transação própria,
+ * como em requisições diferentes, para que só o cache evite a ida ao banco. O cache fica desligado
+ * no application.yml dos testes e é ligado só aqui.
+ */
+
+@DataJpaTest(showSql = false, properties = "cache.second-level.enabled=true")
+@Import({SecondLevelCacheConfig.class, EventService.class, GuestService.class, ItemService.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class SecondLevelCacheIntegrationTest {
+
+    private static final int GUESTS = 20;
+    private static final int ITEMS = 20;
+    private static final int REQUESTS = 50;
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private GuestService guestService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Autowired
+    private PartyOwnerRepository partyOwnerRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private MeterBinder secondLevelCacheMetrics;
+
+    @MockBean
+    private InviteDispatchService inviteDispatchService;
+
+    @MockBean
+    private FunTranslationService funTranslationService;
+
+    private Statistics statistics;
+    private Event event;
+    private List<Guest> guests;
+    private List<Item> items;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        PartyOwner owner = partyOwnerRepository.save(new PartyOwner("Owner", "owner-cache@teste.com", "senha"));
+        event = eventRepository.save(new Event("Natal", "Ceia", LocalDateTime.now(),
+                "Rua do Limoeiro", "Ceia de Natal", false, null, owner));
+        List<Guest> newGuests = new ArrayList<>();
+        for (int i = 0; i < GUESTS; i++) {
+            GuestStatusEnum status = i % 2 == 0 ? GuestStatusEnum.CONFIRMED : GuestStatusEnum.DECLINED;
+            newGuests.add(new Guest(null, status, "guest" + i + "@teste.com", "Guest " + i, event, false));
+        }
+        guests = guestRepository.saveAll(newGuests);
+        List<Item> newItems = new ArrayList<>();
+        for (int i = 0; i < ITEMS; i++) {
+            newItems.add(new Item(null, "Item " + i, 1, 10.0, event));
+        }
+        items = itemRepository.saveAll(newItems);
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @AfterEach
+    void tearDown() {
+        itemRepository.deleteAllInBatch();
+        guestRepository.deleteAllInBatch();
+        eventRepository.deleteAllInBatch();
+        partyOwnerRepository.deleteAllInBatch();
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    @Test
+    void dadoLeiturasRepetidas_quandoCacheAquecido_entaoMenosIdasAoBanco() {
+        // Dado
+        long withoutCache = statementsFor(REQUESTS, true);
+
+        // Quando
+        long withCache = statementsFor(REQUESTS, false);
+
+        // Então
+        assertTrue(withCache * 10 < withoutCache,
+                "com cache: " + withCache + " instruções, sem cache: " + withoutCache);
+    }
+
+    @Test
+    void dadoConvidadoEmCache_quandoUpdateGuest_entaoLeituraSeguinteTrazNovoNome() {
+        // Dado
+        Guest guest = guests.get(0);
+        guestService.getGuestById(guest.getGuestId());
+
+        // Quando
+        guestService.updateGuest(guest.getGuestId(),
+                new GuestDTO(guest.getGuestId(), "Ada", guest.getEmail(), GuestStatusEnum.CONFIRMED));
+
+        // Então
+        statistics.clear();
+        GuestDTO updated = guestService.getGuestById(guest.getGuestId()).orElseThrow();
+        assertEquals("Ada", updated.getName());
+        assertEquals(GuestStatusEnum.CONFIRMED, updated.getStatus());
+        assertEquals(0, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void dadoColecaoDeConvidadosEmCache_quandoCreateGuest_entaoColecaoIncluiNovoConvidado() {
+        // Dado
+        assertEquals(GUESTS, guestsInEvent());
+
+        // Quando
+        Event reference = new Event(event.getEventId());
+        guestService.createGuest(new CreateGuestDTO("Grace", "grace@teste.com", GuestStatusEnum.CONFIRMED,
+                reference, false));
+
+        // Então
+        assertEquals(GUESTS + 1, guestsInEvent());
+    }
+
+    @Test
+    void dadoItensEmCache_quandoAddItemToGuest_entaoConsultasDoConvidadoEDoEventoSaoAtualizadas() {
+        // Dado
+        Guest guest = guests.get(0);
+        Item item = items.get(0);
+        assertTrue(itemService.itemsByGuestId(guest.getGuestId()).isEmpty());
+        itemService.itemsByEventId(event.getEventId());
+
+        // Quando
+        itemService.addItemToGuest(guest.getGuestId(), item.getItemId());
+
+        // Então
+        List<ItemDTO> guestItems = itemService.itemsByGuestId(guest.getGuestId());
+        assertEquals(1, guestItems.size());
+        assertEquals(item.getItemId(), guestItems.get(0).getItemId());
+        ItemDTO fromEvent = itemService.itemsByEventId(event.getEventId()).stream()
+                .filter(dto -> dto.getItemId().equals(item.getItemId()))
+                .findFirst().orElseThrow();
+        assertEquals(guest.getGuestId(), fromEvent.getGuest().getGuestId());
+    }
+
+    @Test
+    void dadoEventoEmCache_quandoDeleteEvent_entaoEventoEItensSaoRemovidosDoCache() {
+        // Dado
+        assertEquals(ITEMS * 10.0, eventCost(), 0.0001);
+        assertTrue(itemRepository.findById(items.get(0).getItemId()).isPresent());
+
+        // Quando
+        eventService.deleteEvent(event.getEventId());
+
+        // Então
+        assertTrue(eventRepository.findById(event.getEventId()).isEmpty());
+        assertTrue(itemRepository.findById(items.get(0).getItemId()).isEmpty());
+        assertTrue(guestRepository.findById(guests.get(0).getGuestId()).isEmpty());
+    }
+
+    @Test
+    void dadoLeiturasDeConvidados_quandoBindTo_entaoExpoeTaxaDeAcertoPorRegiao() {
+        // Dado
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        secondLevelCacheMetrics.bindTo(registry);
+        statistics.clear();
+
+        // Quando
+        for (int i = 0; i < 4; i++) {
+            guestService.getGuestById(guests.get(0).getGuestId());
+        }
+
+        // Então
+        assertEquals(0.75, registry.get("hibernate.cache.hit.ratio").tag("region", Guest.CACHE_REGION)
+                .gauge().value(), 0.0001);
+        assertEquals(3, registry.get("hibernate.cache.requests").tag("region", Guest.CACHE_REGION)
+                .tag("result", "hit").functionCounter().count());
+        assertEquals(1, registry.get("hibernate.cache.requests").tag("region", Guest.CACHE_REGION)
+                .tag("result", "miss").functionCounter().count());
+    }
+
+    /**
+     * Simula requisições de leitura típicas: login do dono, envio de convites, itens do evento,
+     * coleções do evento e consulta de cada convidado.
+     */
+
+    private long statementsFor(int requests, boolean evictBeforeEachRequest) {
+        statistics.clear();
+        for (int i = 0; i < requests; i++) {
+            if (evictBeforeEachRequest) {
+                entityManagerFactory.getCache().evictAll();
+            }
+            partyOwnerRepository.findByEmail("owner-cache@teste.com").orElseThrow();
+            eventRepository.findWithOwnerByEventId(event.getEventId()).orElseThrow();
+            itemService.itemsByEventId(event.getEventId());
+            eventCost();
+            guestsInEvent();
+            for (Guest guest : guests) {
+                guestService.getGuestById(guest.getGuestId()).orElseThrow();
+            }
+        }
+        return statistics.getPrepareStatementCount();
+    }
+
+    @SuppressWarnings("deprecation")
+    private double eventCost() {
+        return transactionTemplate.execute(status ->
+                eventRepository.findById(event.getEventId()).orElseThrow().totalEventCost());
+    }
+
+    @SuppressWarnings("deprecation")
+    private int guestsInEvent() {
+        return transactionTemplate.execute(status -> {
+            Event found = eventRepository.findById(event.getEventId()).orElseThrow();
+            return found.confirmedGuests().size() + found.notConfirmedGuests().size();
+        });
+    }
+}
@@ -0,0 +1,87 @@
+package com.ada.holiday_party_planning.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TokenServiceTest {
+
+    private static final String SECRET = "segredo-de-teste-com-pelo-menos-32-bytes";
+    private static final Instant NOW = Instant.parse("2024-12-01T10:00:00Z");
+
+    private static TokenService tokenService(Instant now) {
+        return new TokenService(SECRET, false, Duration.ofMinutes(15), Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void dadoTokenEmitido_quandoVerify_entaoRetornaEmail() {
+        TokenService tokenService = tokenService(NOW);
+
+        String token = tokenService.issue("monica@teste");
+
+        assertEquals(3, token.split("\\.").length);
+        assertEquals(Optional.of("monica@teste"), tokenService.verify(token));
+    }
+
+    @Test
+    void dadoTokenExpirado_quandoVerify_entaoRetornaVazio() {
+        String token = tokenService(NOW).issue("monica@teste");
+
+        assertTrue(tokenService(NOW.plus(Duration.ofMinutes(16))).verify(token).isEmpty());
+    }
+
+    @Test
+    void dadoPayloadAlterado_quandoVerify_entaoRetornaVazio() {
+        TokenService tokenService = tokenService(NOW);
+        String[] parts = tokenService.issue("monica@teste").split("\\.");
+        String forged = tokenService.issue("admin@teste").split("\\.")[1];
+
+        assertTrue(tokenService.verify(parts[0] + "." + forged + "." + parts[2]).isEmpty());
+    }
+
+    @Test
+    void dadoChaveDiferente_quandoVerify_entaoRetornaVazio() {
+        String token = tokenService(NOW).issue("monica@teste");
+        TokenService other = new TokenService("outro-segredo-de-teste-com-32-bytes!!", false, Duration.ofMinutes(15),
+                Clock.fixed(NOW, ZoneOffset.UTC));
+
+        assertTrue(other.verify(token).isEmpty());
+    }
+
+    @Test
+    void dadoTokenMalFormado_quandoVerify_entaoRetornaVazio() {
+        TokenService tokenService = tokenService(NOW);
+
+        assertTrue(tokenService.verify("").isEmpty());
+        assertTrue(tokenService.verify("abc").isEmpty());
+        assertTrue(tokenService.verify("a.b.c").isEmpty());
+        assertTrue(tokenService.verify(tokenService.issue("monica@teste") + "%%").isEmpty());
+    }
+
+    @Test
+    void dadoSegredoCurto_quandoCriar_entaoLancaIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new TokenService("curto", false, 15));
+    }
+
+    @Test
+    void dadoSegredoAusente_quandoCriar_entaoLancaIllegalStateException() {
+        assertThrows(IllegalStateException.class, () -> new TokenService("", false, 15));
+    }
+
+    @Test
+    void dadoSegredoAusenteComChaveAleatoriaPermitida_quandoCriar_entaoTokensValemApenasNaMesmaInstancia() {
+        TokenService tokenService = new TokenService("", true, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+        TokenService otherNode = new TokenService("", true, Duration.ofMinutes(15), Clock.fixed(NOW, ZoneOffset.UTC));
+
+        String token = tokenService.issue("monica@teste");
+
+        assertEquals(Optional.of("monica@teste"), tokenService.verify(token));
+        assertTrue(otherNode.verify(token).isEmpty());
+    }
+}
@@ -1,30 +1,64 @@
 package com.ada.holiday_party_planning.util;
 
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
 
 class APIFunTranslationTest {
 
     @Mock
     HttpUtil mockHttp;
 
-    @InjectMocks
     APIFunTranslation apiFunTranslation;
 
     public APIFunTranslationTest() {
         MockitoAnnotations.openMocks(this);
+        apiFunTranslation = new APIFunTranslation(mockHttp,
+                TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1)),
+                new TranslationResilience(new MockEnvironment(), Optional.empty()));
     }
 
     @Test
     void translateFunTest() {
-        when(mockHttp.postRequest("https://api.funtranslations.com/translate/yoda.json", "{\"text\":\"Minha mensagem\"}"))
-                .thenReturn("{\"contents\": {\"translated\": \"Mensagem minha\"}}");
+        respondWith("{\"success\": {\"total\": 1}, \"contents\": {\"translated\": \"Mensagem minha\", \"text\": \"Minha mensagem\"}}");
         String result = apiFunTranslation.translateFun("Minha mensagem", "yoda");
         assertEquals("Mensagem minha", result);
+        verify(mockHttp).postJson(eq("https://api.funtranslations.com/translate/yoda.json"),
+                eq("{\"text\":\"Minha mensagem\"}".getBytes(StandardCharsets.UTF_8)), any());
+    }
+
+    @Test
+    void dadoMensagemComAspasEQuebraDeLinha_quandoTraduzir_entaoCorpoEhEscapado() {
+        respondWith("{\"contents\": {\"translated\": \"ok\"}}");
+
+        apiFunTranslation.translateFun("Festa \"top\"\nàs 20h", "yoda");
+
+        verify(mockHttp).postJson(anyString(),
+                eq("{\"text\":\"Festa \\\"top\\\"\\nàs 20h\"}".getBytes(StandardCharsets.UTF_8)), any());
+    }
+
+    @Test
+    void dadoLimiteDeRequisicoesDaApi_quandoTraduzir_entaoRetornaNulo() {
+        respondWith("{\"error\": {\"code\": 429, \"message\": \"Too Many Requests\"}}");
+
+        assertNull(apiFunTranslation.translateFun("Minha mensagem", "yoda"));
+    }
+
+    private void respondWith(String json) {
+        when(mockHttp.postJson(anyString(), any(byte[].class), any())).thenAnswer(invocation -> {
+            HttpUtil.ResponseReader<?> reader = invocation.getArgument(2);
+            return reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)));
+        });
     }
-}
\ No newline at end of file
+}
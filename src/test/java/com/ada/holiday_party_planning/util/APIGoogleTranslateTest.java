@@ -1,30 +1,92 @@
 package com.ada.holiday_party_planning.util;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.stubbing.Answer;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.mockito.Mockito.when;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
 
 class APIGoogleTranslateTest {
 
+    private static final String ENDPOINT = "https://translation.googleapis.com/language/translate/v2";
+
+    private static final String TRANSLATED = "{\"data\": {\"translations\": [{\"translatedText\":\"texto traduzido\"}]}}";
+
     @Mock
     HttpUtil mockHttp;
 
-    @InjectMocks
     APIGoogleTranslate apiGoogleTranslate;
 
     public APIGoogleTranslateTest() {
         MockitoAnnotations.openMocks(this);
+        apiGoogleTranslate = new APIGoogleTranslate(new GoogleTranslateBatcher(mockHttp,
+                new TranslationResilience(new MockEnvironment(), Optional.empty()), ENDPOINT, "chave", 1, 50),
+                TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1)));
     }
 
     @Test
     void translateMessageTest() {
-        when(mockHttp.postRequest("https://translation.googleapis.com/language/translate/v2?key=null", "{\"q\":\"Minha mensagem\", \"source\":\"pt-br\", \"target\":\"en\", \"format\":\"text\"}"))
-                .thenReturn("{\"data\": {\"translations\": [{\"translatedText\":\"texto traduzido\"}]}}");
+        when(mockHttp.postJsonAsync(eq(ENDPOINT + "?key=chave"), argThat(body -> {
+            JsonNode json = readJson(new String(body, StandardCharsets.UTF_8));
+            return json.get("q").get(0).asText().equals("Minha mensagem")
+                    && json.get("source").asText().equals("pt-br")
+                    && json.get("target").asText().equals("en")
+                    && json.get("format").asText().equals("text");
+        }), any())).thenAnswer(respondWith(TRANSLATED));
+        String result = apiGoogleTranslate.translateMessage("Minha mensagem", "pt-br", "en");
+        assertEquals("texto traduzido", result);
+    }
+
+    @Test
+    void dadoMesmaMensagem_quandoTraduzirDuasVezes_entaoApiChamadaUmaVez() {
+        when(mockHttp.postJsonAsync(anyString(), any(byte[].class), any())).thenAnswer(respondWith(TRANSLATED));
+
+        apiGoogleTranslate.translateMessage("Minha mensagem", "pt-br", "en");
         String result = apiGoogleTranslate.translateMessage("Minha mensagem", "pt-br", "en");
+
         assertEquals("texto traduzido", result);
+        verify(mockHttp, times(1)).postJsonAsync(anyString(), any(byte[].class), any());
+    }
+
+    @Test
+    void dadoFalhaNaApi_quandoTraduzirNovamente_entaoFalhaServidaDoCache() {
+        when(mockHttp.postJsonAsync(anyString(), any(byte[].class), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("indisponível")));
+
+        assertNull(apiGoogleTranslate.translateMessage("Minha mensagem", "pt-br", "en"));
+        assertNull(apiGoogleTranslate.translateMessage("Minha mensagem", "pt-br", "en"));
+
+        verify(mockHttp, times(1)).postJsonAsync(anyString(), any(byte[].class), any());
+    }
+
+    private static Answer<CompletableFuture<?>> respondWith(String json) {
+        return invocation -> {
+            HttpUtil.ResponseReader<?> reader = invocation.getArgument(2);
+            return CompletableFuture.completedFuture(
+                    reader.read(new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8))));
+        };
+    }
+
+    private static JsonNode readJson(String body) {
+        try {
+            return new ObjectMapper().readTree(body);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException(e);
+        }
     }
-}
\ No newline at end of file
+}
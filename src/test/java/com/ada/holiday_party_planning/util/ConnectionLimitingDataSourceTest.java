@@ -0,0 +1,105 @@
+package com.ada.holiday_party_planning.util;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConnectionLimitingDataSourceTest {
+
+    private final DataSource pool = mock(DataSource.class);
+
+    @Test
+    void dadoPermissaoLivre_quandoFecharConexao_entaoDevolvePermissaoUmaVez() throws Exception {
+        // Dado
+        Connection connection = mock(Connection.class);
+        when(pool.getConnection()).thenReturn(connection);
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 2, 0, 0);
+
+        // Quando
+        Connection limited = limiter.getConnection();
+        assertEquals(1, limiter.getAvailable());
+        limited.close();
+        limited.close();
+
+        // Então
+        assertEquals(2, limiter.getAvailable());
+        verify(connection, times(2)).close();
+    }
+
+    @Test
+    void dadoPoolEsgotadoSemFila_quandoGetConnection_entaoRecusaNaHora() throws Exception {
+        // Dado
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 0, 5_000);
+        limiter.getConnection();
+
+        // Quando
+        Instant start = Instant.now();
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+
+        // Então
+        assertTrue(Duration.between(start, Instant.now()).toMillis() < 1_000);
+        verify(pool, times(1)).getConnection();
+    }
+
+    @Test
+    void dadoPoolEsgotado_quandoTempoLimiteEsgotar_entaoRecusaConexao() throws Exception {
+        // Dado
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 10, 50);
+        limiter.getConnection();
+
+        // Quando / Então
+        assertThrows(SQLTransientConnectionException.class, limiter::getConnection);
+        assertEquals(0, limiter.getWaiting());
+    }
+
+    @Test
+    void dadoThreadNaFila_quandoConexaoForFechada_entaoProximaThreadRecebeConexao() throws Exception {
+        // Dado
+        when(pool.getConnection()).thenReturn(mock(Connection.class));
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 10, 5_000);
+        Connection first = limiter.getConnection();
+        CompletableFuture<Connection> second = new CompletableFuture<>();
+        Thread.ofVirtual().start(() -> {
+            try {
+                second.complete(limiter.getConnection());
+            } catch (SQLException e) {
+                second.completeExceptionally(e);
+            }
+        });
+        while (limiter.getWaiting() == 0) {
+            Thread.sleep(5);
+        }
+
+        // Quando
+        first.close();
+
+        // Então
+        assertNotNull(second.get(5, TimeUnit.SECONDS));
+        assertEquals(0, limiter.getAvailable());
+    }
+
+    @Test
+    void dadoFalhaDoPool_quandoGetConnection_entaoDevolvePermissao() throws Exception {
+        // Dado
+        when(pool.getConnection()).thenThrow(new SQLException("pool closed"));
+        ConnectionLimitingDataSource limiter = new ConnectionLimitingDataSource(pool, 1, 0, 0);
+
+        // Quando
+        assertThrows(SQLException.class, limiter::getConnection);
+
+        // Então
+        assertEquals(1, limiter.getAvailable());
+    }
+}
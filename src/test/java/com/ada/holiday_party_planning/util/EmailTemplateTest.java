@@ -0,0 +1,63 @@
+package com.ada.holiday_party_planning.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EmailTemplateTest {
+
+    @Test
+    void dadoTemplateComPlaceholders_quandoRender_entaoSubstituiTodosOsValores() {
+        EmailTemplate template = EmailTemplate.compile("<h1>{{title}}</h1><p>{{host}} convida: {{title}}</p>");
+
+        String html = template.render(Map.of("title", "Natal", "host", "Alan"));
+
+        assertEquals("<h1>Natal</h1><p>Alan convida: Natal</p>", html);
+    }
+
+    @Test
+    void dadoValorComCaracteresHtml_quandoRender_entaoValorEhEscapado() {
+        EmailTemplate template = EmailTemplate.compile("<p>{{title}}</p>");
+
+        String html = template.render(Map.of("title", "<script>alert('x')</script> & \"amigos\""));
+
+        assertEquals("<p>&lt;script&gt;alert(&#39;x&#39;)&lt;/script&gt; &amp; &quot;amigos&quot;</p>", html);
+    }
+
+    @Test
+    void dadoPlaceholderSemValor_quandoRender_entaoPlaceholderEhMantido() {
+        EmailTemplate template = EmailTemplate.compile("<p>{{title}} - {{missing}}</p>");
+
+        String html = template.render(new HashMap<>(Map.of("title", "Natal")));
+
+        assertEquals("<p>Natal - {{missing}}</p>", html);
+    }
+
+    @Test
+    void dadoChavesSemPlaceholder_quandoRender_entaoTextoEhPreservado() {
+        EmailTemplate template = EmailTemplate.compile("a {{ {{x}} }} b {{}} c {{open");
+
+        String html = template.render(Map.of("x", "1"));
+
+        assertEquals("a {{ 1 }} b {{}} c {{open", html);
+    }
+
+    @Test
+    void dadoTemplateDoClasspath_quandoRender_entaoProduzMesmoResultadoQueReplace() {
+        EmailTemplate template = EmailTemplate.fromClasspath("template-email.html");
+        Map<String, String> variables = Map.of(
+                "eventTitle", "Natal",
+                "hostName", "Alan",
+                "eventDate", "25/12/2024, 20:00",
+                "eventLocation", "Rua das Flores, 123",
+                "eventLink", "http://localhost:8080/events/1");
+
+        String html = template.render(variables);
+
+        assertTrue(html.contains("Natal"));
+        assertFalse(html.contains("{{"));
+    }
+}
@@ -0,0 +1,150 @@
+package com.ada.holiday_party_planning.util;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.extension.ResponseTransformerV2;
+import com.github.tomakehurst.wiremock.http.Response;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do agrupamento de traduções contra um servidor local que imita a API Google Translate:
+ * cada valor "q" recebido é devolvido em maiúsculas, na mesma posição.
+ */
+
+class GoogleTranslateBatcherTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private WireMockServer server;
+    private HttpUtil httpUtil;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort().extensions(new UpperCaseTranslator()));
+        server.start();
+        server.stubFor(post(urlPathEqualTo("/translate")).willReturn(ok().withTransformers("upper-case-translator")));
+        httpUtil = new HttpUtil(1000, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpUtil.close();
+        server.stop();
+    }
+
+    @Test
+    void dadoTraducoesConcorrentes_quandoTranslate_entaoUmaUnicaRequisicaoEhEnviada() {
+        GoogleTranslateBatcher batcher = batcher(50, 50);
+
+        List<CompletableFuture<String>> results = translateConcurrently(batcher, 20, "pt-br", "en");
+
+        for (int i = 0; i < results.size(); i++) {
+            assertEquals("MENSAGEM " + i, results.get(i).join());
+        }
+        server.verify(1, postRequestedFor(urlPathEqualTo("/translate")).withQueryParam("key", equalTo("chave")));
+    }
+
+    @Test
+    void dadoMaisMensagensQueOTamanhoDoLote_quandoTranslate_entaoLotesSaoDivididos() {
+        GoogleTranslateBatcher batcher = batcher(50, 10);
+
+        List<CompletableFuture<String>> results = translateConcurrently(batcher, 25, "pt-br", "en");
+
+        results.forEach(CompletableFuture::join);
+        assertEquals(3, server.getAllServeEvents().size());
+        int maxBatch = server.getAllServeEvents().stream()
+                .mapToInt(event -> readJson(event.getRequest().getBodyAsString()).get("q").size())
+                .max().orElse(0);
+        assertEquals(10, maxBatch);
+    }
+
+    @Test
+    void dadoParesDeIdiomasDiferentes_quandoTranslate_entaoCadaParTemSeuLote() {
+        GoogleTranslateBatcher batcher = batcher(50, 50);
+
+        CompletableFuture<String> toEnglish = batcher.translate("festa", "pt-br", "en");
+        CompletableFuture<String> toPortuguese = batcher.translate("party", "en", "pt-br");
+
+        assertEquals("FESTA", toEnglish.join());
+        assertEquals("PARTY", toPortuguese.join());
+        server.verify(2, postRequestedFor(urlPathEqualTo("/translate")));
+    }
+
+    @Test
+    void dadoServidorComErro_quandoTranslate_entaoTodosOsFuturosDoLoteFalham() {
+        server.stubFor(post(urlPathEqualTo("/translate")).willReturn(serverError().withBody("{\"error\":{}}")));
+        GoogleTranslateBatcher batcher = batcher(20, 50);
+
+        List<CompletableFuture<String>> results = translateConcurrently(batcher, 3, "pt-br", "en");
+
+        results.forEach(result -> assertThrows(CompletionException.class, result::join));
+    }
+
+    private GoogleTranslateBatcher batcher(long windowMs, int maxBatchSize) {
+        return new GoogleTranslateBatcher(httpUtil, new TranslationResilience(new MockEnvironment(), Optional.empty()),
+                server.baseUrl() + "/translate", "chave", windowMs, maxBatchSize);
+    }
+
+    private List<CompletableFuture<String>> translateConcurrently(GoogleTranslateBatcher batcher, int count,
+                                                                  String source, String target) {
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<CompletableFuture<CompletableFuture<String>>> submitted = IntStream.range(0, count)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(
+                            () -> batcher.translate("mensagem " + i, source, target), callers))
+                    .toList();
+            return submitted.stream().map(CompletableFuture::join).toList();
+        }
+    }
+
+    private static JsonNode readJson(String body) {
+        try {
+            return MAPPER.readTree(body);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static final class UpperCaseTranslator implements ResponseTransformerV2 {
+
+        @Override
+        public Response transform(Response response, ServeEvent serveEvent) {
+            if (response.getStatus() != 200) {
+                return response;
+            }
+            JsonNode q = readJson(serveEvent.getRequest().getBodyAsString()).get("q");
+            ObjectNode body = MAPPER.createObjectNode();
+            ArrayNode translations = body.putObject("data").putArray("translations");
+            q.forEach(text -> translations.addObject().put("translatedText", text.asText().toUpperCase()));
+            return Response.Builder.like(response).but().body(body.toString()).build();
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return "upper-case-translator";
+        }
+    }
+}
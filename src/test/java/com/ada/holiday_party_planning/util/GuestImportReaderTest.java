@@ -0,0 +1,97 @@
+package com.ada.holiday_party_planning.util;
+
+import com.ada.holiday_party_planning.dto.GuestImportRowDTO;
+import com.ada.holiday_party_planning.enums.GuestStatusEnum;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GuestImportReaderTest {
+
+    private static final class Collector implements GuestImportReader.Handler {
+
+        private final List<GuestImportRowDTO> rows = new ArrayList<>();
+        private final List<String> errors = new ArrayList<>();
+
+        @Override
+        public void row(GuestImportRowDTO row) {
+            rows.add(row);
+        }
+
+        @Override
+        public void error(int line, String email, String message) {
+            errors.add(line + ":" + message);
+        }
+    }
+
+    @Test
+    void dadoCsvComCabecalhoEAspas_quandoReadCsv_entaoRetornaLinhasNaOrdemDasColunas() throws IOException {
+        Collector collector = new Collector();
+        String csv = "\uFEFFemail,Nome,status,confirmed\r\n"
+                + "ada@teste.com,\"Lovelace, Ada\",confirmed,sim\r\n"
+                + "\r\n"
+                + "alan@teste.com,\"Alan \"\"Turing\"\"\",,\n";
+
+        GuestImportReader.readCsv(new StringReader(csv), collector);
+
+        assertTrue(collector.errors.isEmpty());
+        assertEquals(2, collector.rows.size());
+        GuestImportRowDTO ada = collector.rows.get(0);
+        assertEquals(2, ada.getLine());
+        assertEquals("Lovelace, Ada", ada.getName());
+        assertEquals("ada@teste.com", ada.getEmail());
+        assertEquals(GuestStatusEnum.CONFIRMED, ada.getStatus());
+        assertTrue(ada.isConfirmed());
+        GuestImportRowDTO alan = collector.rows.get(1);
+        assertEquals(4, alan.getLine());
+        assertEquals("Alan \"Turing\"", alan.getName());
+        assertEquals(GuestStatusEnum.PENDING, alan.getStatus());
+        assertFalse(alan.isConfirmed());
+    }
+
+    @Test
+    void dadoCsvComPontoEVirgulaELinhasInvalidas_quandoReadCsv_entaoReportaErrosEContinua() throws IOException {
+        Collector collector = new Collector();
+        String csv = "name;email;status\n"
+                + "Ada;ada@teste.com;talvez\n"
+                + "\"Alan;alan@teste.com\n"
+                + "Grace;grace@teste.com;declined\n";
+
+        GuestImportReader.readCsv(new StringReader(csv), collector);
+
+        assertEquals(List.of("2:Invalid status: talvez", "3:Unbalanced quotes!"), collector.errors);
+        assertEquals(1, collector.rows.size());
+        assertEquals(GuestStatusEnum.DECLINED, collector.rows.get(0).getStatus());
+    }
+
+    @Test
+    void dadoCsvSemColunaEmail_quandoReadCsv_entaoReportaErroNoCabecalho() throws IOException {
+        Collector collector = new Collector();
+
+        GuestImportReader.readCsv(new StringReader("name,phone\nAda,123\n"), collector);
+
+        assertEquals(List.of("1:Header must contain the columns name and email!"), collector.errors);
+        assertTrue(collector.rows.isEmpty());
+    }
+
+    @Test
+    void dadoNdjson_quandoReadNdjson_entaoRetornaLinhasEReportaJsonInvalido() throws IOException {
+        Collector collector = new Collector();
+        String ndjson = "{\"name\":\"Ada\",\"email\":\"ada@teste.com\",\"confirmed\":true,\"tags\":[1,2]}\n"
+                + "{\"name\":\"Alan\",\n"
+                + "[1,2]\n"
+                + "{\"name\":\"Grace\",\"email\":null,\"status\":\"PENDING\"}\n";
+
+        GuestImportReader.readNdjson(new StringReader(ndjson), collector);
+
+        assertEquals(List.of("2:Invalid JSON!", "3:Line must be a JSON object!"), collector.errors);
+        assertEquals(2, collector.rows.size());
+        assertTrue(collector.rows.get(0).isConfirmed());
+        assertNull(collector.rows.get(1).getEmail());
+    }
+}
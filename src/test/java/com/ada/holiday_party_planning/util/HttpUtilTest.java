@@ -0,0 +1,128 @@
+package com.ada.holiday_party_planning.util;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.UncheckedIOException;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.stream.IntStream;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static org.junit.jupiter.api.Assertions.*;
+
+class HttpUtilTest {
+
+    private WireMockServer server;
+    private HttpUtil httpUtil;
+    private HttpUtil patientHttpUtil;
+
+    @BeforeEach
+    void setUp() {
+        server = new WireMockServer(wireMockConfig().dynamicPort());
+        server.start();
+        httpUtil = new HttpUtil(1000, 300);
+        patientHttpUtil = new HttpUtil(1000, 5000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpUtil.close();
+        patientHttpUtil.close();
+        server.stop();
+    }
+
+    @Test
+    void dadoServidorRespondendo_quandoPostRequest_entaoRetornaCorpoDaResposta() {
+        server.stubFor(post("/translate").willReturn(okJson("{\"translated\":\"ok\"}")));
+
+        String response = httpUtil.postRequest(server.baseUrl() + "/translate", "{\"text\":\"oi\"}");
+
+        assertEquals("{\"translated\":\"ok\"}", response);
+        server.verify(postRequestedFor(urlEqualTo("/translate")).withRequestBody(equalToJson("{\"text\":\"oi\"}")));
+    }
+
+    @Test
+    void dadoServidorLento_quandoPostRequest_entaoRetornaNuloAposTempoLimite() {
+        server.stubFor(post("/slow").willReturn(ok("tarde").withFixedDelay(2000)));
+
+        long start = System.nanoTime();
+        String response = httpUtil.postRequest(server.baseUrl() + "/slow", "{}");
+        long elapsedMs = (System.nanoTime() - start) / 1_000_000;
+
+        assertNull(response);
+        assertTrue(elapsedMs < 1500, "request should be cut off by the timeout, took " + elapsedMs + "ms");
+    }
+
+    @Test
+    void dadoVariasRequisicoes_quandoPostRequestAsync_entaoTodasCompletamComOCorpo() {
+        server.stubFor(post("/translate").willReturn(ok("traduzido").withFixedDelay(100)));
+
+        List<CompletableFuture<String>> futures = IntStream.range(0, 20)
+                .mapToObj(i -> httpUtil.postRequestAsync(server.baseUrl() + "/translate", "{\"i\":" + i + "}"))
+                .toList();
+
+        futures.forEach(future -> assertEquals("traduzido", future.join()));
+        server.verify(20, postRequestedFor(urlEqualTo("/translate")));
+    }
+
+    @Test
+    void dadoServidorLento_quandoPostRequestAsync_entaoFuturoCompletaComTimeout() {
+        server.stubFor(post("/slow").willReturn(ok("tarde").withFixedDelay(2000)));
+
+        CompletableFuture<String> future = httpUtil.postRequestAsync(server.baseUrl() + "/slow", "{}");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        assertInstanceOf(HttpTimeoutException.class, exception.getCause());
+    }
+
+    @Test
+    void dadoEnderecoInvalido_quandoPostRequestAsync_entaoFuturoFalha() {
+        CompletableFuture<String> future = httpUtil.postRequestAsync("nao e uma url", "{}");
+
+        assertTrue(future.isCompletedExceptionally());
+    }
+
+    @Test
+    void dadoStatus429ComRetryAfter_quandoPostJson_entaoLancaHttpStatusExceptionComEspera() {
+        server.stubFor(post("/translate").willReturn(aResponse().withStatus(429)
+                .withHeader("Retry-After", "120").withBody("<html>Too Many Requests</html>")));
+
+        HttpStatusException error = assertThrows(HttpStatusException.class, () ->
+                patientHttpUtil.postJson(server.baseUrl() + "/translate", "{}".getBytes(), body -> "lido"));
+
+        assertEquals(429, error.getStatusCode());
+        assertEquals(Optional.of(Duration.ofSeconds(120)), error.getRetryAfter());
+        assertTrue(error.isTransient());
+    }
+
+    @Test
+    void dadoServidorLento_quandoPostJson_entaoLancaErroDeRede() {
+        server.stubFor(post("/slow").willReturn(okJson("{}").withFixedDelay(2000)));
+
+        UncheckedIOException error = assertThrows(UncheckedIOException.class, () ->
+                httpUtil.postJson(server.baseUrl() + "/slow", "{}".getBytes(), body -> "lido"));
+
+        assertInstanceOf(HttpTimeoutException.class, error.getCause());
+    }
+
+    @Test
+    void dadoStatus400_quandoPostJsonAsync_entaoFuturoCompletaComHttpStatusException() {
+        server.stubFor(post("/translate").willReturn(aResponse().withStatus(400).withBody("{\"error\":\"bad\"}")));
+
+        CompletableFuture<String> future = patientHttpUtil.postJsonAsync(server.baseUrl() + "/translate",
+                "{}".getBytes(), body -> "lido");
+
+        ExecutionException exception = assertThrows(ExecutionException.class, future::get);
+        HttpStatusException error = assertInstanceOf(HttpStatusException.class, exception.getCause());
+        assertEquals(400, error.getStatusCode());
+        assertFalse(error.isTransient());
+    }
+}
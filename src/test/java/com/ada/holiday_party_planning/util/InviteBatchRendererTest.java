@@ -0,0 +1,89 @@
+package com.ada.holiday_party_planning.util;
+
+import jakarta.mail.Message;
+import jakarta.mail.MessagingException;
+import jakarta.mail.Multipart;
+import jakarta.mail.Session;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InviteBatchRendererTest {
+
+    private final Session session = Session.getInstance(new Properties());
+    private final EmailTemplate template = EmailTemplate.compile(
+            "<h1>{{eventTitle}}</h1><p>Anfitrião: {{hostName}}</p><a href=\"{{eventLink}}\">Ver evento</a>");
+    private final Map<String, String> variables = Map.of(
+            "eventTitle", "Ceia de Natal",
+            "hostName", "João",
+            "eventLink", "http://localhost:8080/events/1");
+
+    @Test
+    void dadoLotePreparado_quandoCreateMessage_entaoMensagemTemOMesmoConteudoDoTemplate() throws Exception {
+        // Dado
+        InviteBatchRenderer.Batch batch = new InviteBatchRenderer(template)
+                .prepare(session, "holydaypartyplanner@test", "Você foi convidado!", variables);
+
+        // Quando
+        MimeMessage parsed = roundTrip(batch.createMessage("guest@teste"));
+
+        // Então
+        assertEquals("holydaypartyplanner@test", parsed.getFrom()[0].toString());
+        assertEquals("guest@teste", parsed.getRecipients(Message.RecipientType.TO)[0].toString());
+        assertEquals("Você foi convidado!", parsed.getSubject());
+        assertTrue(parsed.getContentType().startsWith("multipart/mixed"));
+        Multipart mixed = (Multipart) parsed.getContent();
+        Multipart related = (Multipart) mixed.getBodyPart(0).getContent();
+        assertTrue(related.getContentType().startsWith("multipart/related"));
+        assertTrue(related.getBodyPart(0).isMimeType("text/html"));
+        assertEquals(template.render(variables), related.getBodyPart(0).getContent());
+    }
+
+    @Test
+    void dadoDoisDestinatarios_quandoCreateMessage_entaoSoCabecalhosDoDestinatarioMudam() throws Exception {
+        // Dado
+        InviteBatchRenderer.Batch batch = new InviteBatchRenderer(template)
+                .prepare(session, "holydaypartyplanner@test", "You're Invited!", variables);
+
+        // Quando
+        MimeMessage first = batch.createMessage("guest1@teste");
+        MimeMessage second = batch.createMessage("guest2@teste");
+        first.saveChanges();
+        second.saveChanges();
+
+        // Então
+        assertNotEquals(first.getMessageID(), second.getMessageID());
+        assertEquals("1.0", second.getHeader("MIME-Version", null));
+        assertEquals(batch.getBodySize(), first.getSize());
+        assertEquals(body(first), body(second));
+        assertEquals("guest2@teste", roundTrip(second).getRecipients(Message.RecipientType.TO)[0].toString());
+    }
+
+    @Test
+    void dadoDestinatarioInvalido_quandoCreateMessage_entaoLancaExcecao() throws Exception {
+        InviteBatchRenderer.Batch batch = new InviteBatchRenderer(template)
+                .prepare(session, "holydaypartyplanner@test", "You're Invited!", variables);
+
+        assertThrows(MessagingException.class, () -> batch.createMessage("guest@@teste"));
+        assertThrows(MessagingException.class, () -> batch.createMessage(null));
+    }
+
+    private MimeMessage roundTrip(MimeMessage message) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        return new MimeMessage(session, new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    private static String body(MimeMessage message) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        message.writeTo(out);
+        String raw = out.toString();
+        return raw.substring(raw.indexOf("\r\n\r\n"));
+    }
+}
@@ -0,0 +1,33 @@
+package com.ada.holiday_party_planning.util;
+
+import com.ada.holiday_party_planning.dto.PartyOwnerDTO;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class NdjsonResponseWriterTest {
+
+    private final NdjsonResponseWriter writer = new NdjsonResponseWriter(new ObjectMapper());
+
+    @Test
+    void dadoLinhasDaFonte_quandoStream_entaoEscreveUmObjetoPorLinha() throws Exception {
+        UUID firstId = UUID.randomUUID();
+        UUID secondId = UUID.randomUUID();
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        writer.<PartyOwnerDTO>stream(consumer -> {
+            consumer.accept(new PartyOwnerDTO(firstId, "Owner1", "owner1@teste"));
+            consumer.accept(new PartyOwnerDTO(secondId, "Owner2", "owner2@teste"));
+        }).writeTo(output);
+
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, lines.length);
+        assertEquals("{\"ownerId\":\"" + firstId + "\",\"name\":\"Owner1\",\"email\":\"owner1@teste\"}", lines[0]);
+        assertEquals("{\"ownerId\":\"" + secondId + "\",\"name\":\"Owner2\",\"email\":\"owner2@teste\"}", lines[1]);
+    }
+}
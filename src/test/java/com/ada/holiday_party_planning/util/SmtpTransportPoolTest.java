@@ -0,0 +1,220 @@
+package com.ada.holiday_party_planning.util;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.GreenMailUtil;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.MessagingException;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.mail.javamail.MimeMessageHelper;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Testes do pool de conexões SMTP contra um servidor SMTP local (GreenMail).
+ */
+
+class SmtpTransportPoolTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private JavaMailSenderImpl mailSender;
+    private SmtpTransportPool pool;
+
+    @BeforeEach
+    void setUp() {
+        mailSender = new JavaMailSenderImpl();
+        mailSender.setHost("localhost");
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        pool = new SmtpTransportPool(mailSender, 2, 100, 30_000, 5_000, Optional.of(registry));
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.close();
+    }
+
+    @Test
+    void dadoLoteDeEmails_quandoSend_entaoUsaUmaConexaoParaTodos() throws Exception {
+        // Dado
+        List<MimeMessage> messages = messages("guest", 20);
+
+        // Quando
+        List<MessagingException> failures = pool.send(messages);
+
+        // Então
+        assertTrue(failures.stream().allMatch(failure -> failure == null));
+        assertEquals(20, greenMail.getReceivedMessages().length);
+        assertEquals(1, registry.get("mail.smtp.connects").counter().count());
+        assertEquals(20, registry.get("mail.smtp.send").tag("result", "success").timer().count());
+        assertEquals(1, registry.get("mail.smtp.connections.idle").gauge().value());
+    }
+
+    @Test
+    void dadoConexaoLivre_quandoOutroLote_entaoReaproveitaConexao() throws Exception {
+        // Dado
+        pool.send(messages("first", 5));
+
+        // Quando
+        pool.send(messages("second", 5));
+
+        // Então
+        assertEquals(10, greenMail.getReceivedMessages().length);
+        assertEquals(1, registry.get("mail.smtp.connects").counter().count());
+        assertEquals(1, pool.getOpen());
+    }
+
+    @Test
+    void dadoLimiteDeEmailsPorConexao_quandoSend_entaoTrocaConexao() throws Exception {
+        // Dado
+        pool = new SmtpTransportPool(mailSender, 2, 3, 30_000, 5_000, Optional.of(registry));
+
+        // Quando
+        pool.send(messages("guest", 7));
+
+        // Então
+        assertEquals(7, greenMail.getReceivedMessages().length);
+        assertEquals(3, registry.get("mail.smtp.connects").counter().count());
+        assertEquals(1, pool.getOpen());
+    }
+
+    @Test
+    void dadoLoteMaisLongoQueOIdleTimeout_quandoSend_entaoNaoReconectaNoMeioDoLote() throws Exception {
+        // Dado
+        pool = new SmtpTransportPool(mailSender, 2, 100, 50, 5_000, Optional.of(registry));
+        List<MimeMessage> messages = new ArrayList<>();
+        for (MimeMessage message : messages("guest", 5)) {
+            messages.add(new MimeMessage(message) {
+                @Override
+                public void saveChanges() throws MessagingException {
+                    sleep(30);
+                    super.saveChanges();
+                }
+            });
+        }
+
+        // Quando
+        List<MessagingException> failures = pool.send(messages);
+
+        // Então
+        assertTrue(failures.stream().allMatch(failure -> failure == null), failures.toString());
+        assertEquals(5, greenMail.getReceivedMessages().length);
+        assertEquals(1, registry.get("mail.smtp.connects").counter().count());
+    }
+
+    @Test
+    void dadoServidorReiniciado_quandoSend_entaoReconectaEEnvia() throws Exception {
+        // Dado
+        pool.send(messages("first", 2));
+        greenMail.reset();
+
+        // Quando
+        List<MessagingException> failures = pool.send(messages("second", 3));
+
+        // Então
+        assertTrue(failures.stream().allMatch(failure -> failure == null), failures.toString());
+        assertEquals(3, greenMail.getReceivedMessages().length);
+        assertEquals(1, registry.get("mail.smtp.reconnects").counter().count());
+        assertEquals(2, registry.get("mail.smtp.connects").counter().count());
+        assertEquals(1, pool.getOpen());
+    }
+
+    @Test
+    void dadoServidorIndisponivel_quandoSend_entaoLoteFalhaComUmaTentativaEConexaoEhDevolvida() throws Exception {
+        // Dado
+        mailSender.setPort(1);
+
+        // Quando
+        List<MessagingException> failures = pool.send(messages("guest", 3));
+
+        // Então
+        assertEquals(3, failures.size());
+        assertTrue(failures.stream().allMatch(failure -> failure != null));
+        assertEquals(1, registry.get("mail.smtp.connect").timer().count());
+        assertEquals(0, pool.getOpen());
+        mailSender.setPort(greenMail.getSmtp().getPort());
+        assertNull(pool.send(messages("after", 1)).get(0));
+    }
+
+    @Test
+    void dadoEnviosParalelos_quandoSend_entaoNaoPassaDoTamanhoDoPool() throws Exception {
+        // Dado
+        ExecutorService senders = Executors.newFixedThreadPool(6);
+
+        // Quando
+        List<Future<List<MessagingException>>> results = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            String prefix = "sender" + i + "-";
+            results.add(senders.submit(() -> pool.send(messages(prefix, 10))));
+        }
+        for (Future<List<MessagingException>> result : results) {
+            assertTrue(result.get().stream().allMatch(failure -> failure == null));
+        }
+        senders.shutdown();
+
+        // Então
+        assertEquals(60, greenMail.getReceivedMessages().length);
+        assertTrue(registry.get("mail.smtp.connects").counter().count() <= 2);
+        assertTrue(pool.getOpen() <= 2);
+    }
+
+    @Test
+    void dadoMensagensPreCodificadas_quandoSend_entaoServidorRecebeOConvite() throws Exception {
+        // Dado
+        EmailTemplate template = EmailTemplate.compile("<h1>{{eventTitle}}</h1>");
+        InviteBatchRenderer.Batch batch = new InviteBatchRenderer(template)
+                .prepare(pool.getSession(), "holydaypartyplanner@test", "You're Invited!", Map.of("eventTitle", "Natal"));
+
+        // Quando
+        List<MessagingException> failures = pool.send(List.of(
+                batch.createMessage("guest1@teste"), batch.createMessage("guest2@teste")));
+
+        // Então
+        assertEquals(Arrays.asList(null, null), failures);
+        MimeMessage[] received = greenMail.getReceivedMessages();
+        assertEquals(2, received.length);
+        assertEquals("You're Invited!", received[1].getSubject());
+        assertTrue(GreenMailUtil.getBody(received[1]).contains("<h1>Natal</h1>"));
+    }
+
+    private List<MimeMessage> messages(String prefix, int count) {
+        return IntStream.range(0, count).mapToObj(i -> {
+            try {
+                MimeMessage message = mailSender.createMimeMessage();
+                MimeMessageHelper helper = new MimeMessageHelper(message, false, "UTF-8");
+                helper.setFrom("holydaypartyplanner@test");
+                helper.setTo(prefix + i + "@teste");
+                helper.setSubject("You're Invited!");
+                helper.setText("<p>Convite</p>", true);
+                return message;
+            } catch (MessagingException e) {
+                throw new IllegalStateException(e);
+            }
+        }).toList();
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
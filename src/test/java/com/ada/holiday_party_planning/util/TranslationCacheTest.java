@@ -0,0 +1,191 @@
+package com.ada.holiday_party_planning.util;
+
+import com.ada.holiday_party_planning.model.TranslationCacheEntry;
+import com.ada.holiday_party_planning.repository.TranslationCacheRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class TranslationCacheTest {
+
+    @Test
+    void dadoChavesDiferentes_quandoGet_entaoCadaVarianteEhCarregadaSeparadamente() {
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("yoda 1", cache.get("fun", "yoda", "texto", () -> "yoda " + calls.incrementAndGet()));
+        assertEquals("pirate 2", cache.get("fun", "pirate", "texto", () -> "pirate " + calls.incrementAndGet()));
+        assertEquals("yoda 1", cache.get("fun", "yoda", "texto", () -> "yoda " + calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(2, cache.stats().missCount());
+    }
+
+    @Test
+    void dadoLoaderComExcecao_quandoGet_entaoRetornaNuloEGuardaFalha() {
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertNull(cache.get("google", "pt-br>en", "texto", () -> {
+            calls.incrementAndGet();
+            throw new IllegalStateException("quota");
+        }));
+        assertNull(cache.get("google", "pt-br>en", "texto", () -> "nunca"));
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    void dadoErroComRetryAfter_quandoGet_entaoFalhaFicaGuardadaPeloTempoPedido() throws InterruptedException {
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMillis(100));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertNull(cache.get("funtranslations", "yoda", "limitado", () -> {
+            calls.incrementAndGet();
+            throw new HttpStatusException("/translate/yoda.json", 429, Duration.ofMinutes(30));
+        }));
+        assertNull(cache.get("funtranslations", "yoda", "fora", () -> {
+            calls.incrementAndGet();
+            throw new HttpStatusException("/translate/yoda.json", 503, null);
+        }));
+        Thread.sleep(200);
+
+        assertNull(cache.get("funtranslations", "yoda", "limitado", () -> "nunca"));
+        assertEquals("Out, it is", cache.get("funtranslations", "yoda", "fora", () -> "Out, it is"));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void dadoTtlMenorQueUmMinuto_quandoInMemory_entaoTraducaoExpiraNoTempoInformado() throws InterruptedException {
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofMillis(100), Duration.ofMillis(100));
+        AtomicInteger calls = new AtomicInteger();
+
+        assertEquals("Party", cache.get("google", "pt-br>en", "Festa", () -> "Party" + "x".repeat(calls.getAndIncrement())));
+        assertEquals("Party", cache.get("google", "pt-br>en", "Festa", () -> "nunca"));
+        Thread.sleep(200);
+
+        assertEquals("Partyx", cache.get("google", "pt-br>en", "Festa", () -> "Party" + "x".repeat(calls.getAndIncrement())));
+        assertEquals(2, calls.get());
+    }
+
+    @Test
+    void dadoCarregamentoEmAndamento_quandoGetSimultaneo_entaoAguardaOMesmoCarregamento() throws Exception {
+        // Dado
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+
+        try {
+            Future<String> first = executor.submit(() -> cache.get("google", "pt-br>en", "Festa", () -> {
+                calls.incrementAndGet();
+                loading.countDown();
+                await(release);
+                return "Party";
+            }));
+            assertTrue(loading.await(1, TimeUnit.SECONDS));
+
+            // Quando
+            String other = cache.get("google", "pt-br>en", "Ceia", () -> "Supper");
+            release.countDown();
+            String second = cache.get("google", "pt-br>en", "Festa", () -> "nunca");
+
+            // Então
+            assertEquals("Supper", other);
+            assertEquals("Party", first.get(1, TimeUnit.SECONDS));
+            assertEquals("Party", second);
+            assertEquals(1, calls.get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void dadoLoaderQueConsultaOutraChave_quandoGet_entaoCarregaForaDoLockDoMapa() {
+        TranslationCache cache = TranslationCache.inMemory(1_000_000, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        String translated = cache.get("fun", "yoda", "externo",
+                () -> cache.get("fun", "yoda", "interno", () -> "interno") + " externo");
+
+        assertEquals("interno externo", translated);
+        assertEquals("interno", cache.get("fun", "yoda", "interno", () -> "nunca"));
+    }
+
+    @Test
+    void dadoLimiteDeTamanho_quandoMuitasEntradas_entaoEntradasSaoDespejadas() {
+        TranslationCache cache = TranslationCache.inMemory(10_000, Duration.ofHours(1), Duration.ofMinutes(1));
+
+        for (int i = 0; i < 500; i++) {
+            cache.get("fun", "yoda", "texto " + i, () -> "x".repeat(100));
+        }
+        cache.get("fun", "yoda", "gatilho", () -> "x");
+
+        assertTrue(cache.stats().evictionCount() > 0);
+    }
+
+    @Test
+    void dadoTierPersistente_quandoFaltaEmMemoria_entaoUsaTraducaoDoBanco() {
+        TranslationCacheRepository repository = mock(TranslationCacheRepository.class);
+        when(repository.findById(anyString()))
+                .thenReturn(Optional.of(new TranslationCacheEntry("hash", "do banco", Instant.now())));
+        TranslationCache cache = new TranslationCache(1_000_000, 60, 60, true,
+                Optional.of(repository), Optional.empty());
+
+        String result = cache.get("fun", "yoda", "texto", () -> fail("provider should not be called"));
+
+        assertEquals("do banco", result);
+        verify(repository, never()).save(any());
+    }
+
+    @Test
+    void dadoTierPersistente_quandoTraducaoCarregada_entaoGravaNoBanco() {
+        TranslationCacheRepository repository = mock(TranslationCacheRepository.class);
+        when(repository.findById(anyString())).thenReturn(Optional.empty());
+        TranslationCache cache = new TranslationCache(1_000_000, 60, 60, true,
+                Optional.of(repository), Optional.empty());
+
+        cache.get("fun", "yoda", "texto", () -> "traduzido");
+        cache.get("fun", "yoda", "falha", () -> null);
+
+        verify(repository, times(1)).save(argThat(entry -> entry.getTranslated().equals("traduzido")
+                && entry.getCacheKey().length() == 64));
+    }
+
+    @Test
+    void dadoMeterRegistry_quandoGet_entaoMetricasDoCacheSaoPublicadas() {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        TranslationCache cache = new TranslationCache(1_000_000, 60, 60, false,
+                Optional.empty(), Optional.of(registry));
+
+        cache.get("fun", "yoda", "texto", () -> "traduzido");
+        cache.get("fun", "yoda", "texto", () -> "traduzido");
+
+        assertEquals(1.0, registry.get("cache.gets").tag("cache", "translations").tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
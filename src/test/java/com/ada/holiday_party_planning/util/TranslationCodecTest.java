@@ -0,0 +1,71 @@
+package com.ada.holiday_party_planning.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationCodecTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void dadoTextoComCaracteresEspeciais_quandoFunTranslationRequest_entaoJsonValidoComOTextoOriginal() throws IOException {
+        String text = "Festa \"top\"\n\tàs 20h \\ \u0001 🎄";
+
+        JsonNode body = objectMapper.readTree(TranslationCodec.funTranslationRequest(text));
+
+        assertEquals(text, body.get("text").asText());
+    }
+
+    @Test
+    void dadoVariasMensagens_quandoGoogleTranslateRequest_entaoArrayQNaMesmaOrdem() throws IOException {
+        JsonNode body = objectMapper.readTree(
+                TranslationCodec.googleTranslateRequest(List.of("um", "dois \"2\""), "pt-br", "en"));
+
+        assertEquals("um", body.get("q").get(0).asText());
+        assertEquals("dois \"2\"", body.get("q").get(1).asText());
+        assertEquals("pt-br", body.get("source").asText());
+        assertEquals("en", body.get("target").asText());
+        assertEquals("text", body.get("format").asText());
+    }
+
+    @Test
+    void dadoRespostaDaFunTranslations_quandoReadFunTranslation_entaoRetornaCampoTranslated() throws IOException {
+        String response = "{\"success\":{\"total\":1},\"contents\":{\"translated\":\"Hungry, I am\"," +
+                "\"text\":\"I am hungry\",\"translation\":\"yoda\"}}";
+
+        assertEquals("Hungry, I am", TranslationCodec.readFunTranslation(stream(response)));
+    }
+
+    @Test
+    void dadoRespostaDeErro_quandoReadFunTranslation_entaoRetornaNulo() throws IOException {
+        String response = "{\"error\":{\"code\":429,\"message\":\"Too Many Requests: Rate limit of 5 requests per hour exceeded.\"}}";
+
+        assertNull(TranslationCodec.readFunTranslation(stream(response)));
+    }
+
+    @Test
+    void dadoRespostaDoGoogle_quandoReadGoogleTranslations_entaoRetornaTraducoesNaOrdem() throws IOException {
+        String response = "{\"data\":{\"translations\":[{\"translatedText\":\"one\",\"detectedSourceLanguage\":\"pt\"}," +
+                "{\"translatedText\":\"two \\\"2\\\"\"}]}}";
+
+        assertEquals(List.of("one", "two \"2\""), TranslationCodec.readGoogleTranslations(stream(response)));
+    }
+
+    @Test
+    void dadoCorpoInvalido_quandoReadGoogleTranslations_entaoLancaIOException() {
+        assertThrows(IOException.class, () -> TranslationCodec.readGoogleTranslations(stream("<html>502</html>")));
+    }
+
+    private static InputStream stream(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
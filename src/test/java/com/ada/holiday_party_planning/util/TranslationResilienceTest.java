@@ -0,0 +1,129 @@
+package com.ada.holiday_party_planning.util;
+
+import io.github.resilience4j.bulkhead.BulkheadFullException;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.ratelimiter.RequestNotPermitted;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.ada.holiday_party_planning.util.TranslationResilience.FUN_TRANSLATIONS;
+import static com.ada.holiday_party_planning.util.TranslationResilience.GOOGLE;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TranslationResilienceTest {
+
+    private static MockEnvironment environment() {
+        return new MockEnvironment()
+                .withProperty("translation.resilience.google.rate-limit", "1000")
+                .withProperty("translation.resilience.google.sliding-window", "4")
+                .withProperty("translation.resilience.google.minimum-calls", "4")
+                .withProperty("translation.resilience.google.wait-in-open-ms", "200")
+                .withProperty("translation.resilience.google.half-open-calls", "1");
+    }
+
+    @Test
+    void dadoErrosTransitorios_quandoCall_entaoCircuitoAbreEFalhaSemChamarProvedor() {
+        TranslationResilience resilience = new TranslationResilience(environment(), Optional.empty());
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 4; i++) {
+            assertThrows(HttpStatusException.class, () -> resilience.call(GOOGLE, () -> {
+                calls.incrementAndGet();
+                throw new HttpStatusException("/translate", 503, null);
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.OPEN, resilience.state(GOOGLE));
+        assertThrows(CallNotPermittedException.class, () -> resilience.call(GOOGLE, () -> {
+            calls.incrementAndGet();
+            return "texto";
+        }));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    void dadoRespostasVaziasEErrosDaRequisicao_quandoCall_entaoCircuitoContinuaFechado() {
+        TranslationResilience resilience = new TranslationResilience(environment(), Optional.empty());
+
+        for (int i = 0; i < 4; i++) {
+            assertNull(resilience.call(GOOGLE, () -> null));
+            assertThrows(HttpStatusException.class, () -> resilience.call(GOOGLE, () -> {
+                throw new HttpStatusException("/translate", 400, null);
+            }));
+        }
+
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.state(GOOGLE));
+    }
+
+    @Test
+    void dadoCircuitoAberto_quandoEsperaPassaEChamadaDeTesteFunciona_entaoCircuitoFecha() throws InterruptedException {
+        TranslationResilience resilience = new TranslationResilience(environment(), Optional.empty());
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> resilience.call(GOOGLE, () -> {
+                throw new IllegalStateException("falha");
+            }));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, resilience.state(GOOGLE));
+
+        Thread.sleep(300);
+
+        assertEquals("texto", resilience.call(GOOGLE, () -> "texto"));
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.state(GOOGLE));
+    }
+
+    @Test
+    void dadoCotaEsgotada_quandoCall_entaoRejeitaSemAbrirCircuito() {
+        TranslationResilience resilience = new TranslationResilience(new MockEnvironment(), Optional.empty());
+
+        for (int i = 0; i < 5; i++) {
+            assertEquals("texto", resilience.call(FUN_TRANSLATIONS, () -> "texto"));
+        }
+
+        for (int i = 0; i < 10; i++) {
+            assertThrows(RequestNotPermitted.class, () -> resilience.call(FUN_TRANSLATIONS, () -> "texto"));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, resilience.state(FUN_TRANSLATIONS));
+    }
+
+    @Test
+    void dadoBulkheadCheio_quandoCallAsync_entaoRejeitaChamadaExcedente() throws Exception {
+        TranslationResilience resilience = new TranslationResilience(new MockEnvironment()
+                .withProperty("translation.resilience.google.max-concurrent", "1"), Optional.empty());
+        CompletableFuture<String> pending = new CompletableFuture<>();
+        CountDownLatch started = new CountDownLatch(1);
+
+        CompletableFuture<String> first = resilience.callAsync(GOOGLE, () -> {
+            started.countDown();
+            return pending;
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        CompletableFuture<String> second = resilience.callAsync(GOOGLE, () -> CompletableFuture.completedFuture("x"));
+        CompletionException error = assertThrows(CompletionException.class, second::join);
+        assertInstanceOf(BulkheadFullException.class, error.getCause());
+
+        pending.complete("texto");
+        assertEquals("texto", first.join());
+        assertEquals("y", resilience.callAsync(GOOGLE, () -> CompletableFuture.completedFuture("y")).join());
+    }
+
+    @Test
+    void dadoMeterRegistry_quandoCriado_entaoPublicaMetricasPorProvedor() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        new TranslationResilience(new MockEnvironment(), Optional.of(registry));
+
+        assertNotNull(registry.find("resilience4j.circuitbreaker.state").tag("name", GOOGLE).gauge());
+        assertNotNull(registry.find("resilience4j.bulkhead.available.concurrent.calls")
+                .tag("name", FUN_TRANSLATIONS).gauge());
+        assertNotNull(registry.find("resilience4j.ratelimiter.available.permissions").tag("name", GOOGLE).gauge());
+    }
+}
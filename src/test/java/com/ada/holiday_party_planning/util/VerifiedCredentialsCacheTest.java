@@ -0,0 +1,50 @@
+package com.ada.holiday_party_planning.util;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VerifiedCredentialsCacheTest {
+
+    private final UserDetails user = new User("monica@teste", "", List.of());
+
+    @Test
+    void dadoCredenciaisGuardadas_quandoGetComMesmaSenha_entaoRetornaUsuario() {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, 300, Optional.empty());
+        cache.put("monica@teste", "password", user);
+
+        assertEquals(Optional.of(user), cache.get("monica@teste", "password"));
+    }
+
+    @Test
+    void dadoCredenciaisGuardadas_quandoGetComSenhaDiferente_entaoRetornaVazio() {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, 300, Optional.empty());
+        cache.put("monica@teste", "password", user);
+
+        assertTrue(cache.get("monica@teste", "outra").isEmpty());
+        assertTrue(cache.get("outro@teste", "password").isEmpty());
+    }
+
+    @Test
+    void dadoCredenciaisGuardadas_quandoEvict_entaoRetornaVazio() {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, 300, Optional.empty());
+        cache.put("monica@teste", "password", user);
+
+        cache.evict("monica@teste");
+
+        assertTrue(cache.get("monica@teste", "password").isEmpty());
+    }
+
+    @Test
+    void dadoTtlZero_quandoGet_entaoRetornaVazio() {
+        VerifiedCredentialsCache cache = new VerifiedCredentialsCache(100, 0, Optional.empty());
+        cache.put("monica@teste", "password", user);
+
+        assertTrue(cache.get("monica@teste", "password").isEmpty());
+    }
+}